@@ -23,3 +23,20 @@
 # If you keep the line number information, uncomment this to
 # hide the original source file name.
 #-renamesourcefileattribute SourceFile
+
+# The data models are parsed by DataModelAdapterFactory (no reflection),
+# so they can be shrunk / obfuscated freely.
+
+# Retrofit reads the web call definitions (and the SDK its own endpoint annotations) by reflection
+-keepattributes Signature, InnerClasses, EnclosingMethod, Exceptions
+-keepattributes RuntimeVisibleAnnotations, RuntimeVisibleParameterAnnotations
+-keep interface hotb.pgmacdesign.authenticatingsdk.networking.APIService { *; }
+-keep @interface hotb.pgmacdesign.authenticatingsdk.networking.EndpointTimeouts { *; }
+-keep @interface hotb.pgmacdesign.authenticatingsdk.networking.NonIdempotent { *; }
+-keep @interface hotb.pgmacdesign.authenticatingsdk.networking.BulkCall { *; }
+-keepclassmembers,allowshrinking,allowobfuscation interface * {
+    @retrofit2.http.* <methods>;
+}
+-dontwarn okio.**
+-dontwarn javax.annotation.**
+-dontwarn org.codehaus.mojo.animal_sniffer.*
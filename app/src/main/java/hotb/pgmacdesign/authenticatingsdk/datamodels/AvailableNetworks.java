@@ -22,6 +22,13 @@ public class AvailableNetworks extends TopLevelObj{
         return availableNetworks;
     }
 
+    /**
+     * The list as it was received (or set), null if there was none
+     */
+    List<String> getAvailableNetworksValue() {
+        return availableNetworks;
+    }
+
     public void setAvailableNetworks(List<String> availableNetworks) {
         this.availableNetworks = availableNetworks;
     }
@@ -27,6 +27,10 @@ public class Company extends TopLevelObj {
         return companyId;
     }
 
+    protected void setCompanyId(String companyId) {
+        this.companyId = companyId;
+    }
+
     public List<String> getAllowedNetworks() {
         return allowedNetworks;
     }
@@ -0,0 +1,849 @@
+package hotb.pgmacdesign.authenticatingsdk.datamodels;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming adapters for the data models in this package. Gson otherwise builds a reflection
+ * based adapter for each model on first use (slow on older ART versions) and looks the fields
+ * up by name, which breaks once the models are shrunk / obfuscated.
+ * The SDK registers this with its own Gson. If you parse these models with your own Gson,
+ * register it there as well:
+ *      new GsonBuilder().registerTypeAdapterFactory(new DataModelAdapterFactory()).create();
+ * NOTE! A field added to a model must also be added to its adapter below.
+ */
+public class DataModelAdapterFactory implements TypeAdapterFactory {
+
+    private static final String SUCCESSFUL = "successful";
+    private static final String ERROR_MESSAGE = "errorMessage";
+
+    private static final TypeAdapter<String> STRING = new TypeAdapter<String>() {
+        @Override
+        public void write(JsonWriter out, String value) throws IOException {
+            out.value(value);
+        }
+
+        @Override
+        public String read(JsonReader in) throws IOException {
+            return readString(in);
+        }
+    };
+
+    private static final TypeAdapter<TopLevelObj> TOP_LEVEL_OBJ = new TopLevelObjAdapter<TopLevelObj>() {
+        @Override
+        TopLevelObj newInstance() {
+            return new TopLevelObj();
+        }
+
+        @Override
+        boolean readOwnField(JsonReader in, String name, TopLevelObj value) {
+            return false;
+        }
+
+        @Override
+        void writeOwnFields(JsonWriter out, TopLevelObj value) {
+        }
+    }.nullSafe();
+
+    private static final TypeAdapter<SimpleResponse> SIMPLE_RESPONSE = new TopLevelObjAdapter<SimpleResponse>() {
+        @Override
+        SimpleResponse newInstance() {
+            return new SimpleResponse();
+        }
+
+        @Override
+        boolean readOwnField(JsonReader in, String name, SimpleResponse value) throws IOException {
+            switch (name) {
+                case "resultMessage":
+                    value.setResultMessage(readString(in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        void writeOwnFields(JsonWriter out, SimpleResponse value) throws IOException {
+            out.name("resultMessage").value(value.getResultMessage());
+        }
+    }.nullSafe();
+
+    private static final TypeAdapter<AvailableNetworks> AVAILABLE_NETWORKS = new TopLevelObjAdapter<AvailableNetworks>() {
+        @Override
+        AvailableNetworks newInstance() {
+            return new AvailableNetworks();
+        }
+
+        @Override
+        boolean readOwnField(JsonReader in, String name, AvailableNetworks value) throws IOException {
+            switch (name) {
+                case "availableNetworks":
+                    value.setAvailableNetworks(readList(in, STRING));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        void writeOwnFields(JsonWriter out, AvailableNetworks value) throws IOException {
+            //Not getAvailableNetworks(), that turns a missing list into an empty one
+            writeList(out.name("availableNetworks"), value.getAvailableNetworksValue(), STRING);
+        }
+    }.nullSafe();
+
+    private static final TypeAdapter<CheckPhotoResults> CHECK_PHOTO_RESULTS = new TopLevelObjAdapter<CheckPhotoResults>() {
+        @Override
+        CheckPhotoResults newInstance() {
+            return new CheckPhotoResults();
+        }
+
+        @Override
+        boolean readOwnField(JsonReader in, String name, CheckPhotoResults value) throws IOException {
+            switch (name) {
+                case "result":
+                    value.setResult(readString(in));
+                    return true;
+                case "numAttemptsLeft":
+                    value.setNumAttemptsLeft(readInteger(in));
+                    return true;
+                case "description":
+                    value.setDescription(readString(in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        void writeOwnFields(JsonWriter out, CheckPhotoResults value) throws IOException {
+            out.name("result").value(value.getResult());
+            out.name("numAttemptsLeft").value(value.getNumAttemptsLeft());
+            out.name("description").value(value.getDescription());
+        }
+    }.nullSafe();
+
+    private static final TypeAdapter<Company> COMPANY = new TopLevelObjAdapter<Company>() {
+        @Override
+        Company newInstance() {
+            return new Company();
+        }
+
+        @Override
+        boolean readOwnField(JsonReader in, String name, Company value) throws IOException {
+            switch (name) {
+                case "companyId":
+                    value.setCompanyId(readString(in));
+                    return true;
+                case "companyName":
+                    value.setCompanyName(readString(in));
+                    return true;
+                case "contactName":
+                    value.setContactName(readString(in));
+                    return true;
+                case "contactEmail":
+                    value.setContactEmail(readString(in));
+                    return true;
+                case "daysToTakeTest":
+                    value.setDaysToTakeTest(readFloat(in));
+                    return true;
+                case "networks":
+                    value.setAllowedNetworks(readList(in, STRING));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        void writeOwnFields(JsonWriter out, Company value) throws IOException {
+            out.name("companyId").value(value.getCompanyId());
+            out.name("companyName").value(value.getCompanyName());
+            out.name("contactName").value(value.getContactName());
+            out.name("contactEmail").value(value.getContactEmail());
+            out.name("daysToTakeTest").value(value.getDaysToTakeTest());
+            writeList(out.name("networks"), value.getAllowedNetworks(), STRING);
+        }
+    }.nullSafe();
+
+    private static final TypeAdapter<PhoneVerification> PHONE_VERIFICATION = new TopLevelObjAdapter<PhoneVerification>() {
+        @Override
+        PhoneVerification newInstance() {
+            return new PhoneVerification();
+        }
+
+        @Override
+        boolean readOwnField(JsonReader in, String name, PhoneVerification value) throws IOException {
+            switch (name) {
+                case "accessCode":
+                    value.setAccessCode(readString(in));
+                    return true;
+                case "smsCode":
+                    value.setSmsCode(readString(in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        void writeOwnFields(JsonWriter out, PhoneVerification value) throws IOException {
+            out.name("accessCode").value(value.getAccessCode());
+            out.name("smsCode").value(value.getSmsCode());
+        }
+    }.nullSafe();
+
+    private static final TypeAdapter<User> USER = new TopLevelObjAdapter<User>() {
+        @Override
+        User newInstance() {
+            return new User();
+        }
+
+        @Override
+        boolean readOwnField(JsonReader in, String name, User value) throws IOException {
+            switch (name) {
+                case "email":
+                    value.setEmail(readString(in));
+                    return true;
+                case "phone":
+                    value.setPhone(readString(in));
+                    return true;
+                case "companyId":
+                    value.setCompanyId(readString(in));
+                    return true;
+                case "userId":
+                    value.setUserId(readString(in));
+                    return true;
+                case "accessCode":
+                    value.setAccessCode(readString(in));
+                    return true;
+                case "accessKeyExpirationDate":
+                    value.setAccessKeyExpirationDate(readString(in));
+                    return true;
+                case "firstName":
+                    value.setFirstName(readString(in));
+                    return true;
+                case "lastName":
+                    value.setLastName(readString(in));
+                    return true;
+                case "country":
+                    value.setCountry(readString(in));
+                    return true;
+                case "year":
+                    value.setYear(readInteger(in));
+                    return true;
+                case "month":
+                    value.setMonth(readInteger(in));
+                    return true;
+                case "day":
+                    value.setDay(readInteger(in));
+                    return true;
+                case "address":
+                    value.setAddress(readString(in));
+                    return true;
+                case "city":
+                    value.setCity(readString(in));
+                    return true;
+                case "state":
+                    value.setState(readString(in));
+                    return true;
+                case "zipcode":
+                    value.setZipcode(readString(in));
+                    return true;
+                case "ssn":
+                    value.setSsn(readString(in));
+                    return true;
+                case "buildingNumber":
+                    value.setBuildingNumber(readString(in));
+                    return true;
+                case "province":
+                    value.setProvince(readString(in));
+                    return true;
+                case "street":
+                    value.setStreet(readString(in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        void writeOwnFields(JsonWriter out, User value) throws IOException {
+            out.name("email").value(value.getEmail());
+            out.name("phone").value(value.getPhone());
+            out.name("companyId").value(value.getCompanyId());
+            out.name("userId").value(value.getUserId());
+            out.name("accessCode").value(value.getAccessCode());
+            out.name("accessKeyExpirationDate").value(value.getAccessKeyExpirationDate());
+            out.name("firstName").value(value.getFirstName());
+            out.name("lastName").value(value.getLastName());
+            out.name("country").value(value.getCountry());
+            out.name("year").value(value.getYear());
+            out.name("month").value(value.getMonth());
+            out.name("day").value(value.getDay());
+            out.name("address").value(value.getAddress());
+            out.name("city").value(value.getCity());
+            out.name("state").value(value.getState());
+            out.name("zipcode").value(value.getZipcode());
+            out.name("ssn").value(value.getSsn());
+            out.name("buildingNumber").value(value.getBuildingNumber());
+            out.name("province").value(value.getProvince());
+            out.name("street").value(value.getStreet());
+        }
+    }.nullSafe();
+
+    private static final TypeAdapter<QuizObject.Choice> QUIZ_CHOICE = new ModelAdapter<QuizObject.Choice>() {
+        @Override
+        QuizObject.Choice newInstance() {
+            return new QuizObject.Choice();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, QuizObject.Choice value) throws IOException {
+            switch (name) {
+                case "nschoiceId":
+                    value.setChoiceId(readString(in));
+                    return true;
+                case "nssequenceId":
+                    value.setSequenceId(readString(in));
+                    return true;
+                case "text":
+                    value.setText(readString(in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        void writeFields(JsonWriter out, QuizObject.Choice value) throws IOException {
+            out.name("nschoiceId").value(value.getChoiceId());
+            out.name("nssequenceId").value(value.getSequenceId());
+            out.name("text").value(value.getText());
+        }
+    }.nullSafe();
+
+    private static final TypeAdapter<QuizObject.QuizQuestion> QUIZ_QUESTION = new ModelAdapter<QuizObject.QuizQuestion>() {
+        @Override
+        QuizObject.QuizQuestion newInstance() {
+            return new QuizObject.QuizQuestion();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, QuizObject.QuizQuestion value) throws IOException {
+            switch (name) {
+                case "nsquestionId":
+                    value.setQuestionId(readString(in));
+                    return true;
+                case "nssequenceId":
+                    value.setSequenceId(readString(in));
+                    return true;
+                case "nseq":
+                    value.setEq(readString(in));
+                    return true;
+                case "type":
+                    value.setType(readString(in));
+                    return true;
+                case "text":
+                    value.setText(readString(in));
+                    return true;
+                case "choice":
+                    List<QuizObject.Choice> choices = readList(in, QUIZ_CHOICE);
+                    value.setChoice((choices == null) ? null
+                            : choices.toArray(new QuizObject.Choice[choices.size()]));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        void writeFields(JsonWriter out, QuizObject.QuizQuestion value) throws IOException {
+            out.name("nsquestionId").value(value.getQuestionId());
+            out.name("nssequenceId").value(value.getSequenceId());
+            out.name("nseq").value(value.getEq());
+            out.name("type").value(value.getType());
+            out.name("text").value(value.getText());
+            writeArray(out.name("choice"), value.getChoice(), QUIZ_CHOICE);
+        }
+    }.nullSafe();
+
+    private static final TypeAdapter<QuizObject> QUIZ_OBJECT = new TopLevelObjAdapter<QuizObject>() {
+        @Override
+        QuizObject newInstance() {
+            return new QuizObject();
+        }
+
+        @Override
+        boolean readOwnField(JsonReader in, String name, QuizObject value) throws IOException {
+            switch (name) {
+                case "transactionID":
+                    value.setTransactionId(readString(in));
+                    return true;
+                case "responseUniqueId":
+                    value.setResponseUniqueId(readString(in));
+                    return true;
+                case "quizId":
+                    value.setQuizId(readString(in));
+                    return true;
+                case "numQuestions":
+                    value.setNumQuestions(readString(in));
+                    return true;
+                case "errorDescription":
+                    value.setErrorDescription(readString(in));
+                    return true;
+                case "question":
+                    value.setQuizQuestions(readList(in, QUIZ_QUESTION));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        void writeOwnFields(JsonWriter out, QuizObject value) throws IOException {
+            out.name("transactionID").value(value.getTransactionId());
+            out.name("responseUniqueId").value(value.getResponseUniqueId());
+            out.name("quizId").value(value.getQuizId());
+            out.name("numQuestions").value(value.getNumQuestions());
+            out.name("errorDescription").value(value.getErrorDescription());
+            writeList(out.name("question"), value.getQuizQuestions(), QUIZ_QUESTION);
+        }
+    }.nullSafe();
+
+    private static final TypeAdapter<VerifyQuizObj.Answer> QUIZ_ANSWER = new ModelAdapter<VerifyQuizObj.Answer>() {
+        @Override
+        VerifyQuizObj.Answer newInstance() {
+            return new VerifyQuizObj.Answer();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, VerifyQuizObj.Answer value) throws IOException {
+            switch (name) {
+                case "questionId":
+                    value.setQuestionId(readString(in));
+                    return true;
+                case "choiceId":
+                    value.setChoiceId(readString(in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        void writeFields(JsonWriter out, VerifyQuizObj.Answer value) throws IOException {
+            out.name("questionId").value(value.getQuestionId());
+            out.name("choiceId").value(value.getChoiceId());
+        }
+    }.nullSafe();
+
+    private static final TypeAdapter<VerifyQuizObj> VERIFY_QUIZ_OBJ = new ModelAdapter<VerifyQuizObj>() {
+        @Override
+        VerifyQuizObj newInstance() {
+            return new VerifyQuizObj();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, VerifyQuizObj value) throws IOException {
+            switch (name) {
+                case "accessCode":
+                    value.setAccessCode(readString(in));
+                    return true;
+                case "quizId":
+                    value.setQuizId(readString(in));
+                    return true;
+                case "transactionID":
+                    value.setTransactionID(readString(in));
+                    return true;
+                case "responseUniqueId":
+                    value.setResponseUniqueId(readString(in));
+                    return true;
+                case "answers":
+                    List<VerifyQuizObj.Answer> answers = readList(in, QUIZ_ANSWER);
+                    value.setAnswers((answers == null) ? null
+                            : answers.toArray(new VerifyQuizObj.Answer[answers.size()]));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        void writeFields(JsonWriter out, VerifyQuizObj value) throws IOException {
+            out.name("accessCode").value(value.getAccessCode());
+            out.name("quizId").value(value.getQuizId());
+            out.name("transactionID").value(value.getTransactionID());
+            out.name("responseUniqueId").value(value.getResponseUniqueId());
+            writeArray(out.name("answers"), value.getAnswers(), QUIZ_ANSWER);
+        }
+    }.nullSafe();
+
+    private static final TypeAdapter<SocialNetworkObj> SOCIAL_NETWORK_OBJ = new ModelAdapter<SocialNetworkObj>() {
+        @Override
+        SocialNetworkObj newInstance() {
+            return new SocialNetworkObj();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, SocialNetworkObj value) throws IOException {
+            switch (name) {
+                case "accessCode":
+                    value.setAccessCode(readString(in));
+                    return true;
+                case "network":
+                    value.setNetwork(readString(in));
+                    return true;
+                case "socialMediaAccessToken":
+                    value.setSocialMediaAccessToken(readString(in));
+                    return true;
+                case "socialMediaUserId":
+                    value.setSocialMediaUserId(readString(in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        void writeFields(JsonWriter out, SocialNetworkObj value) throws IOException {
+            out.name("accessCode").value(value.getAccessCode());
+            out.name("network").value(value.getNetwork());
+            out.name("socialMediaAccessToken").value(value.getSocialMediaAccessToken());
+            out.name("socialMediaUserId").value(value.getSocialMediaUserId());
+        }
+    }.nullSafe();
+
+    private static final TypeAdapter<UploadPhotosObj> UPLOAD_PHOTOS_OBJ = new ModelAdapter<UploadPhotosObj>() {
+        @Override
+        UploadPhotosObj newInstance() {
+            return new UploadPhotosObj();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, UploadPhotosObj value) throws IOException {
+            switch (name) {
+                case "accessCode":
+                    value.setAccessCode(readString(in));
+                    return true;
+                case "img1":
+                    value.setImg1(readString(in));
+                    return true;
+                case "img2":
+                    value.setImg2(readString(in));
+                    return true;
+                case "idFront":
+                    value.setIdFront(readString(in));
+                    return true;
+                case "idBack":
+                    value.setIdBack(readString(in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        void writeFields(JsonWriter out, UploadPhotosObj value) throws IOException {
+            out.name("accessCode").value(value.getAccessCode());
+            out.name("img1").value(value.getImg1());
+            out.name("img2").value(value.getImg2());
+            out.name("idFront").value(value.getIdFront());
+            out.name("idBack").value(value.getIdBack());
+        }
+    }.nullSafe();
+
+    private static final TypeAdapter<AuthenticatingException> AUTHENTICATING_EXCEPTION = new ModelAdapter<AuthenticatingException>() {
+        @Override
+        AuthenticatingException newInstance() {
+            return new AuthenticatingException();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, AuthenticatingException value) throws IOException {
+            return readAuthenticatingExceptionField(in, name, value);
+        }
+
+        @Override
+        void writeFields(JsonWriter out, AuthenticatingException value) throws IOException {
+            writeAuthenticatingExceptionFields(out, value);
+        }
+    }.nullSafe();
+
+    private static final TypeAdapter<ServiceUnavailableException> SERVICE_UNAVAILABLE_EXCEPTION = new ModelAdapter<ServiceUnavailableException>() {
+        @Override
+        ServiceUnavailableException newInstance() {
+            return new ServiceUnavailableException();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, ServiceUnavailableException value) throws IOException {
+            switch (name) {
+                case "endpoint":
+                    value.setEndpoint(readString(in));
+                    return true;
+                case "retryAfterMillis":
+                    Long retryAfterMillis = readLong(in);
+                    if (retryAfterMillis != null) {
+                        value.setRetryAfterMillis(retryAfterMillis);
+                    }
+                    return true;
+                default:
+                    return readAuthenticatingExceptionField(in, name, value);
+            }
+        }
+
+        @Override
+        void writeFields(JsonWriter out, ServiceUnavailableException value) throws IOException {
+            out.name("endpoint").value(value.getEndpoint());
+            out.name("retryAfterMillis").value(value.getRetryAfterMillis());
+            writeAuthenticatingExceptionFields(out, value);
+        }
+    }.nullSafe();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        //Exact class only, a subclass has fields the adapter would not know about
+        Class<? super T> rawType = type.getRawType();
+        TypeAdapter<?> adapter;
+        if (rawType == User.class) {
+            adapter = USER;
+        } else if (rawType == QuizObject.class) {
+            adapter = QUIZ_OBJECT;
+        } else if (rawType == QuizObject.QuizQuestion.class) {
+            adapter = QUIZ_QUESTION;
+        } else if (rawType == QuizObject.Choice.class) {
+            adapter = QUIZ_CHOICE;
+        } else if (rawType == CheckPhotoResults.class) {
+            adapter = CHECK_PHOTO_RESULTS;
+        } else if (rawType == AvailableNetworks.class) {
+            adapter = AVAILABLE_NETWORKS;
+        } else if (rawType == SimpleResponse.class) {
+            adapter = SIMPLE_RESPONSE;
+        } else if (rawType == TopLevelObj.class) {
+            adapter = TOP_LEVEL_OBJ;
+        } else if (rawType == Company.class) {
+            adapter = COMPANY;
+        } else if (rawType == PhoneVerification.class) {
+            adapter = PHONE_VERIFICATION;
+        } else if (rawType == SocialNetworkObj.class) {
+            adapter = SOCIAL_NETWORK_OBJ;
+        } else if (rawType == UploadPhotosObj.class) {
+            adapter = UPLOAD_PHOTOS_OBJ;
+        } else if (rawType == VerifyQuizObj.class) {
+            adapter = VERIFY_QUIZ_OBJ;
+        } else if (rawType == VerifyQuizObj.Answer.class) {
+            adapter = QUIZ_ANSWER;
+        } else if (rawType == AuthenticatingException.class) {
+            adapter = AUTHENTICATING_EXCEPTION;
+        } else if (rawType == ServiceUnavailableException.class) {
+            adapter = SERVICE_UNAVAILABLE_EXCEPTION;
+        } else {
+            adapter = null;
+        }
+        return (TypeAdapter<T>) adapter;
+    }
+
+    /**
+     * Reads a JSON object into a new model, field by field. Unknown fields are skipped.
+     * Wrap with {@link #nullSafe()} to read / write null.
+     */
+    private abstract static class ModelAdapter<T> extends TypeAdapter<T> {
+
+        abstract T newInstance();
+
+        /**
+         * Read the value of a field into the model
+         * @return false if the field is not one of the model's, it is then skipped
+         */
+        abstract boolean readField(JsonReader in, String name, T value) throws IOException;
+
+        abstract void writeFields(JsonWriter out, T value) throws IOException;
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            T value = newInstance();
+            in.beginObject();
+            while (in.hasNext()) {
+                if (!readField(in, in.nextName(), value)) {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            out.beginObject();
+            writeFields(out, value);
+            out.endObject();
+        }
+    }
+
+    /**
+     * Adds the {@link TopLevelObj} fields, written after the model's own (same order as Gson)
+     */
+    private abstract static class TopLevelObjAdapter<T extends TopLevelObj> extends ModelAdapter<T> {
+
+        abstract boolean readOwnField(JsonReader in, String name, T value) throws IOException;
+
+        abstract void writeOwnFields(JsonWriter out, T value) throws IOException;
+
+        @Override
+        final boolean readField(JsonReader in, String name, T value) throws IOException {
+            if (readOwnField(in, name, value)) {
+                return true;
+            }
+            switch (name) {
+                case SUCCESSFUL:
+                    value.setSuccessful(readBoolean(in));
+                    return true;
+                case ERROR_MESSAGE:
+                    value.setErrorMessage(readString(in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        final void writeFields(JsonWriter out, T value) throws IOException {
+            writeOwnFields(out, value);
+            //Not getSuccessful(), that turns a missing flag into false
+            out.name(SUCCESSFUL).value(value.getSuccessfulValue());
+            out.name(ERROR_MESSAGE).value(value.getErrorMessage());
+        }
+    }
+
+    private static boolean readAuthenticatingExceptionField(JsonReader in, String name,
+                                                            AuthenticatingException value) throws IOException {
+        switch (name) {
+            case "authErrorString":
+                value.setAuthErrorString(readString(in));
+                return true;
+            case "authErrorStringDetails":
+                value.setAuthErrorStringDetails(readString(in));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static void writeAuthenticatingExceptionFields(JsonWriter out,
+                                                           AuthenticatingException value) throws IOException {
+        out.name("authErrorString").value(value.getAuthErrorString());
+        out.name("authErrorStringDetails").value(value.getAuthErrorStringDetails());
+    }
+
+    ////////////////////////////////////////////////////////
+    //Value readers, lenient in the same way as Gson's own//
+    ////////////////////////////////////////////////////////
+
+    private static String readString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+        return in.nextString();
+    }
+
+    private static Boolean readBoolean(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(in.nextString());
+        }
+        return in.nextBoolean();
+    }
+
+    private static Integer readInteger(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        try {
+            return in.nextInt();
+        } catch (NumberFormatException nfe) {
+            throw new JsonSyntaxException(nfe);
+        }
+    }
+
+    private static Long readLong(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        try {
+            return in.nextLong();
+        } catch (NumberFormatException nfe) {
+            throw new JsonSyntaxException(nfe);
+        }
+    }
+
+    private static Float readFloat(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return (float) in.nextDouble();
+    }
+
+    private static <E> List<E> readList(JsonReader in, TypeAdapter<E> elementAdapter) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<E> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            list.add(elementAdapter.read(in));
+        }
+        in.endArray();
+        return list;
+    }
+
+    private static <E> void writeList(JsonWriter out, List<E> list,
+                                      TypeAdapter<E> elementAdapter) throws IOException {
+        if (list == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (E element : list) {
+            elementAdapter.write(out, element);
+        }
+        out.endArray();
+    }
+
+    private static <E> void writeArray(JsonWriter out, E[] array,
+                                       TypeAdapter<E> elementAdapter) throws IOException {
+        if (array == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (E element : array) {
+            elementAdapter.write(out, element);
+        }
+        out.endArray();
+    }
+}
@@ -0,0 +1,35 @@
+package hotb.pgmacdesign.authenticatingsdk.datamodels;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Returned / thrown in place of making a call while the endpoint is failing (its circuit
+ * breaker is open). Tell the user to try again later, after {@link #getRetryAfterMillis()}.
+ */
+
+public class ServiceUnavailableException extends AuthenticatingException {
+
+    @SerializedName("endpoint")
+    private String endpoint;
+    @SerializedName("retryAfterMillis")
+    private long retryAfterMillis;
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * @return Milliseconds until the endpoint will be tried again
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+
+    public void setRetryAfterMillis(long retryAfterMillis) {
+        this.retryAfterMillis = retryAfterMillis;
+    }
+}
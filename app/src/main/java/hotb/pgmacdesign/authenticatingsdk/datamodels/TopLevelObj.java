@@ -9,6 +9,8 @@ import com.google.gson.annotations.SerializedName;
 public class TopLevelObj {
     @SerializedName("successful")
     private Boolean successful;
+    @SerializedName("errorMessage")
+    private String errorMessage;
 
     public Boolean getSuccessful() {
         if(successful == null){
@@ -17,7 +19,33 @@ public class TopLevelObj {
         return successful;
     }
 
+    /**
+     * The successful flag as it was received, null if there was none
+     */
+    Boolean getSuccessfulValue() {
+        return successful;
+    }
+
     public void setSuccessful(Boolean successful) {
         this.successful = successful;
     }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Whether the server reported the call as failed. That is "successful": false, or an
+     * errorMessage with no "successful" field at all
+     */
+    public boolean isErrorResponse() {
+        if(successful != null){
+            return !successful;
+        }
+        return errorMessage != null;
+    }
 }
@@ -26,22 +26,42 @@ public class UploadPhotosObj {
     @SerializedName("idBack")
     private String idBack;
 
+    protected String getIdFront() {
+        return idFront;
+    }
+
     public void setIdFront(String idFront) {
         this.idFront = idFront;
     }
 
+    protected String getIdBack() {
+        return idBack;
+    }
+
     public void setIdBack(String idBack) {
         this.idBack = idBack;
     }
 
+    protected String getImg1() {
+        return img1;
+    }
+
     public void setImg1(String img1) {
         this.img1 = img1;
     }
 
+    protected String getImg2() {
+        return img2;
+    }
+
     public void setImg2(String img2) {
         this.img2 = img2;
     }
 
+    protected String getAccessCode() {
+        return accessCode;
+    }
+
     public void setAccessCode(String accessCode) {
         this.accessCode = accessCode;
     }
@@ -0,0 +1,12 @@
+package hotb.pgmacdesign.authenticatingsdk.interfaces;
+
+import hotb.pgmacdesign.authenticatingsdk.networking.CircuitState;
+
+/**
+ * Listener for changes in the circuit breaker state of an endpoint, IE to tell users a feature
+ * is unavailable and to try again later. Called on the main thread.
+ * See {@link hotb.pgmacdesign.authenticatingsdk.networking.AuthenticatingClient#setCircuitStateListener(OnCircuitStateChangeListener)}
+ */
+public interface OnCircuitStateChangeListener {
+    public void onCircuitStateChanged(String endpoint, CircuitState state);
+}
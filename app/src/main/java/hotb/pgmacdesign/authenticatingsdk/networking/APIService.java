@@ -10,12 +10,26 @@ import hotb.pgmacdesign.authenticatingsdk.datamodels.TopLevelObj;
 import hotb.pgmacdesign.authenticatingsdk.datamodels.UploadPhotosObj;
 import hotb.pgmacdesign.authenticatingsdk.datamodels.User;
 import hotb.pgmacdesign.authenticatingsdk.datamodels.VerifyQuizObj;
+import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.http.Body;
 import retrofit2.http.Header;
 import retrofit2.http.POST;
 
+import static hotb.pgmacdesign.authenticatingsdk.networking.AuthenticatingConstants.SLOW_CALL_CONNECT_TIMEOUT;
+import static hotb.pgmacdesign.authenticatingsdk.networking.AuthenticatingConstants.SLOW_CALL_DEADLINE;
+import static hotb.pgmacdesign.authenticatingsdk.networking.AuthenticatingConstants.SLOW_CALL_READ_TIMEOUT;
+import static hotb.pgmacdesign.authenticatingsdk.networking.AuthenticatingConstants.SLOW_CALL_WRITE_TIMEOUT;
+import static hotb.pgmacdesign.authenticatingsdk.networking.AuthenticatingConstants.SMALL_CALL_CONNECT_TIMEOUT;
+import static hotb.pgmacdesign.authenticatingsdk.networking.AuthenticatingConstants.SMALL_CALL_DEADLINE;
+import static hotb.pgmacdesign.authenticatingsdk.networking.AuthenticatingConstants.SMALL_CALL_READ_TIMEOUT;
+import static hotb.pgmacdesign.authenticatingsdk.networking.AuthenticatingConstants.SMALL_CALL_WRITE_TIMEOUT;
+import static hotb.pgmacdesign.authenticatingsdk.networking.AuthenticatingConstants.UPLOAD_CONNECT_TIMEOUT;
+import static hotb.pgmacdesign.authenticatingsdk.networking.AuthenticatingConstants.UPLOAD_DEADLINE;
+import static hotb.pgmacdesign.authenticatingsdk.networking.AuthenticatingConstants.UPLOAD_READ_TIMEOUT;
+import static hotb.pgmacdesign.authenticatingsdk.networking.AuthenticatingConstants.UPLOAD_WRITE_TIMEOUT;
+
 /**
  * Link to web documentation: https://docs.authenticating.com
  * Created by pmacdowell on 2017-07-13.
@@ -35,6 +49,9 @@ public interface APIService {
      * @return {@link TopLevelObj}
      */
     @POST(API + VERSION + "/verifyPhone ")
+    @EndpointTimeouts(connect = SMALL_CALL_CONNECT_TIMEOUT, read = SMALL_CALL_READ_TIMEOUT,
+            write = SMALL_CALL_WRITE_TIMEOUT, call = SMALL_CALL_DEADLINE)
+    @NonIdempotent
     Call<ResponseBody> verifyPhone(@Header("authKey") String authKey,
                                         @Body PhoneVerification phoneInfo
     );
@@ -47,6 +64,9 @@ public interface APIService {
      * @return {@link SimpleResponse}
      */
     @POST(API + VERSION + "/verifyPhoneCode ")
+    @EndpointTimeouts(connect = SMALL_CALL_CONNECT_TIMEOUT, read = SMALL_CALL_READ_TIMEOUT,
+            write = SMALL_CALL_WRITE_TIMEOUT, call = SMALL_CALL_DEADLINE)
+    @NonIdempotent
     Call<ResponseBody> verifyPhoneCode(@Header("authKey") String authKey,
                                             @Body PhoneVerification phoneInfo
     );
@@ -59,6 +79,9 @@ public interface APIService {
      * @return {@link SimpleResponse}
      */
     @POST(API + VERSION + "/verifyEmail ")
+    @EndpointTimeouts(connect = SMALL_CALL_CONNECT_TIMEOUT, read = SMALL_CALL_READ_TIMEOUT,
+            write = SMALL_CALL_WRITE_TIMEOUT, call = SMALL_CALL_DEADLINE)
+    @NonIdempotent
     Call<ResponseBody> verifyEmail(@Header("authKey") String authKey,
                                         @Body User user
     );
@@ -72,6 +95,8 @@ public interface APIService {
      * @return {@link SimpleResponse}
      */
     @POST(API + VERSION + "/verifySocialNetworks")
+    @EndpointTimeouts(connect = SMALL_CALL_CONNECT_TIMEOUT, read = SMALL_CALL_READ_TIMEOUT,
+            write = SMALL_CALL_WRITE_TIMEOUT, call = SMALL_CALL_DEADLINE)
     Call<ResponseBody> verifySocialNetworks(@Header("authKey") String authKey,
                                                  @Body SocialNetworkObj socialNetworkObj
     );
@@ -84,6 +109,8 @@ public interface APIService {
      * @return {@link AvailableNetworks}
      */
     @POST(API + VERSION + "/getAvailableNetworks")
+    @EndpointTimeouts(connect = SMALL_CALL_CONNECT_TIMEOUT, read = SMALL_CALL_READ_TIMEOUT,
+            write = SMALL_CALL_WRITE_TIMEOUT, call = SMALL_CALL_DEADLINE)
     Call<ResponseBody> getAvailableNetworks(@Header("authKey") String authKey,
                                                        @Body User user
     );
@@ -96,6 +123,8 @@ public interface APIService {
      * @return {@link QuizObject}
      */
     @POST(API + VERSION + "/getQuiz")
+    @EndpointTimeouts(connect = SLOW_CALL_CONNECT_TIMEOUT, read = SLOW_CALL_READ_TIMEOUT,
+            write = SLOW_CALL_WRITE_TIMEOUT, call = SLOW_CALL_DEADLINE)
     Call<ResponseBody> getQuiz(@Header("authKey") String authKey,
                                    @Body User user
     );
@@ -110,6 +139,9 @@ public interface APIService {
      * @return {@link SimpleResponse}
      */
     @POST(API + VERSION + "/verifyQuiz ")
+    @EndpointTimeouts(connect = SMALL_CALL_CONNECT_TIMEOUT, read = SMALL_CALL_READ_TIMEOUT,
+            write = SMALL_CALL_WRITE_TIMEOUT, call = SMALL_CALL_DEADLINE)
+    @NonIdempotent
     Call<ResponseBody> verifyQuiz(@Header("authKey") String authKey,
                             @Body VerifyQuizObj verifyQuizObj
     );
@@ -122,6 +154,9 @@ public interface APIService {
      * @return {@link SimpleResponse}
      */
     @POST(API + VERSION + "/generateCriminalReport ")
+    @EndpointTimeouts(connect = SLOW_CALL_CONNECT_TIMEOUT, read = SLOW_CALL_READ_TIMEOUT,
+            write = SLOW_CALL_WRITE_TIMEOUT, call = SLOW_CALL_DEADLINE)
+    @NonIdempotent
     Call<ResponseBody> generateCriminalReport(@Header("authKey") String authKey,
                                         @Body User userObj
     );
@@ -134,6 +169,8 @@ public interface APIService {
      * @return {@link User}
      */
     @POST(API + VERSION + "/updateUser ")
+    @EndpointTimeouts(connect = SMALL_CALL_CONNECT_TIMEOUT, read = SMALL_CALL_READ_TIMEOUT,
+            write = SMALL_CALL_WRITE_TIMEOUT, call = SMALL_CALL_DEADLINE)
     Call<ResponseBody> updateUser(@Header("authKey") String authKey,
                                 @Body User userObj
     );
@@ -144,6 +181,8 @@ public interface APIService {
      * @return {@link User}
      */
     @POST(API + VERSION + "/getUser ")
+    @EndpointTimeouts(connect = SMALL_CALL_CONNECT_TIMEOUT, read = SMALL_CALL_READ_TIMEOUT,
+            write = SMALL_CALL_WRITE_TIMEOUT, call = SMALL_CALL_DEADLINE)
     Call<ResponseBody> getUser(@Header("authKey") String authKey,
                              @Body User userObj
     );
@@ -156,6 +195,10 @@ public interface APIService {
      * @return
      */
     @POST(API + VERSION + "/comparePhotos")
+    @EndpointTimeouts(connect = UPLOAD_CONNECT_TIMEOUT, read = UPLOAD_READ_TIMEOUT,
+            write = UPLOAD_WRITE_TIMEOUT, call = UPLOAD_DEADLINE)
+    @NonIdempotent
+    @BulkCall
     Call<ResponseBody> comparePhotos(@Header("authKey") String authKey,
                                            @Body UploadPhotosObj uploadPhotosObj
     );
@@ -168,6 +211,10 @@ public interface APIService {
      * @return
      */
     @POST(API + VERSION + "/uploadId")
+    @EndpointTimeouts(connect = UPLOAD_CONNECT_TIMEOUT, read = UPLOAD_READ_TIMEOUT,
+            write = UPLOAD_WRITE_TIMEOUT, call = UPLOAD_DEADLINE)
+    @NonIdempotent
+    @BulkCall
     Call<ResponseBody> uploadId(@Header("authKey") String authKey,
                                      @Body UploadPhotosObj uploadPhotosObj
     );
@@ -181,6 +228,10 @@ public interface APIService {
      * @return
      */
     @POST(API + VERSION + "/uploadPassport")
+    @EndpointTimeouts(connect = UPLOAD_CONNECT_TIMEOUT, read = UPLOAD_READ_TIMEOUT,
+            write = UPLOAD_WRITE_TIMEOUT, call = UPLOAD_DEADLINE)
+    @NonIdempotent
+    @BulkCall
     Call<ResponseBody> uploadPassport(@Header("authKey") String authKey,
                                      @Body UploadPhotosObj uploadPhotosObj
     );
@@ -195,10 +246,79 @@ public interface APIService {
      * @return
      */
     @POST(API + VERSION + "/uploadIdEnhanced")
+    @EndpointTimeouts(connect = UPLOAD_CONNECT_TIMEOUT, read = UPLOAD_READ_TIMEOUT,
+            write = UPLOAD_WRITE_TIMEOUT, call = UPLOAD_DEADLINE)
+    @NonIdempotent
+    @BulkCall
     Call<ResponseBody> uploadIdEnhanced(@Header("authKey") String authKey,
                                      @Body UploadPhotosObj uploadPhotosObj
     );
 
+    /**
+     * Upload and compare 2 photos. Overloaded to allow a pre-built body so that the images
+     * can be streamed rather than held as Strings (See {@link ImageUploadRequestBody}).
+     * @param authKey
+     * @param uploadPhotosBody JSON body containing the accessCode and both img1 / img2
+     * @return
+     */
+    @POST(API + VERSION + "/comparePhotos")
+    @EndpointTimeouts(connect = UPLOAD_CONNECT_TIMEOUT, read = UPLOAD_READ_TIMEOUT,
+            write = UPLOAD_WRITE_TIMEOUT, call = UPLOAD_DEADLINE)
+    @NonIdempotent
+    @BulkCall
+    Call<ResponseBody> comparePhotos(@Header("authKey") String authKey,
+                                     @Body RequestBody uploadPhotosBody
+    );
+
+    /**
+     * Upload a front and back of an ID for identity proof verification. Overloaded to allow
+     * a pre-built body so that the images can be streamed (See {@link ImageUploadRequestBody}).
+     * @param authKey
+     * @param uploadPhotosBody JSON body containing the accessCode and both idFront / idBack
+     * @return
+     */
+    @POST(API + VERSION + "/uploadId")
+    @EndpointTimeouts(connect = UPLOAD_CONNECT_TIMEOUT, read = UPLOAD_READ_TIMEOUT,
+            write = UPLOAD_WRITE_TIMEOUT, call = UPLOAD_DEADLINE)
+    @NonIdempotent
+    @BulkCall
+    Call<ResponseBody> uploadId(@Header("authKey") String authKey,
+                                @Body RequestBody uploadPhotosBody
+    );
+
+    /**
+     * Upload a picture of a passport for the verification process. Overloaded to allow a
+     * pre-built body so that the image can be streamed (See {@link ImageUploadRequestBody}).
+     * @param authKey
+     * @param uploadPhotosBody JSON body containing the accessCode and idFront
+     * @return
+     */
+    @POST(API + VERSION + "/uploadPassport")
+    @EndpointTimeouts(connect = UPLOAD_CONNECT_TIMEOUT, read = UPLOAD_READ_TIMEOUT,
+            write = UPLOAD_WRITE_TIMEOUT, call = UPLOAD_DEADLINE)
+    @NonIdempotent
+    @BulkCall
+    Call<ResponseBody> uploadPassport(@Header("authKey") String authKey,
+                                      @Body RequestBody uploadPhotosBody
+    );
+
+    /**
+     * Upload a front and back of an ID for identity proof verification (enhanced). Overloaded
+     * to allow a pre-built body so that the images can be streamed
+     * (See {@link ImageUploadRequestBody}).
+     * @param authKey
+     * @param uploadPhotosBody JSON body containing the accessCode and both idFront / idBack
+     * @return
+     */
+    @POST(API + VERSION + "/uploadIdEnhanced")
+    @EndpointTimeouts(connect = UPLOAD_CONNECT_TIMEOUT, read = UPLOAD_READ_TIMEOUT,
+            write = UPLOAD_WRITE_TIMEOUT, call = UPLOAD_DEADLINE)
+    @NonIdempotent
+    @BulkCall
+    Call<ResponseBody> uploadIdEnhanced(@Header("authKey") String authKey,
+                                        @Body RequestBody uploadPhotosBody
+    );
+
     /**
      * Check the status of the uploadId endpoint background operation.
      * @param authKey
@@ -206,6 +326,9 @@ public interface APIService {
      * @return {@link CheckPhotoResults}
      */
     @POST(API + VERSION + "/checkUploadId")
+    @EndpointTimeouts(connect = SMALL_CALL_CONNECT_TIMEOUT, read = SMALL_CALL_READ_TIMEOUT,
+            write = SMALL_CALL_WRITE_TIMEOUT, call = SMALL_CALL_DEADLINE)
+    @BulkCall
     Call<ResponseBody> checkUploadId(@Header("authKey") String authKey,
                                                 @Body User user
     );
@@ -217,6 +340,9 @@ public interface APIService {
      * @return {@link CheckPhotoResults}
      */
     @POST(API + VERSION + "/checkUploadPassport")
+    @EndpointTimeouts(connect = SMALL_CALL_CONNECT_TIMEOUT, read = SMALL_CALL_READ_TIMEOUT,
+            write = SMALL_CALL_WRITE_TIMEOUT, call = SMALL_CALL_DEADLINE)
+    @BulkCall
     Call<ResponseBody> checkUploadPassport(@Header("authKey") String authKey,
                                            @Body User user
     );
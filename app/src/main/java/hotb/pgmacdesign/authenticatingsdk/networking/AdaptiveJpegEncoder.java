@@ -0,0 +1,207 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.ColorMatrix;
+import android.graphics.ColorMatrixColorFilter;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.support.annotation.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+
+/**
+ * Picks the JPEG quality and scale for an image so that its encoded (wire) size fits within
+ * the byte budget of an {@link ImageUploadPolicy} without dropping below the policy's
+ * minimum resolution. Encoded sizes are measured by compressing into a counting stream, so
+ * no compressed bytes are kept on the heap while searching.
+ * Images are converted to the requested {@link ImagePixelFormat} only while being scaled, as
+ * a full size copy would raise peak memory rather than lower it. The memory saving of a
+ * format comes from decoding File / Uri images in it (See {@link SampledBitmapDecoder}).
+ * Those are made grayscale in place. Bitmaps passed in by the app are never modified, so
+ * making one grayscale without scaling it takes a full size copy.
+ */
+class AdaptiveJpegEncoder {
+
+    static final int MAX_QUALITY = 92;
+    static final int MIN_QUALITY = 50;
+    /**
+     * Binary search stops once the quality window is this small
+     */
+    private static final int QUALITY_TOLERANCE = 4;
+    /**
+     * A result this close to the budget (as a fraction of it) is considered good enough
+     */
+    private static final float CLOSE_ENOUGH = 0.9F;
+    /**
+     * Every downscale step shrinks each dimension by at least this much
+     */
+    private static final float MAX_SCALE_STEP = 0.9F;
+
+    /**
+     * Result of an encode. If {@link #bitmap} is not the same instance that was passed in, it
+     * is a scaled copy owned by the caller.
+     */
+    static class Result {
+        final Bitmap bitmap;
+        final int quality;
+        final long encodedBytes;
+
+        Result(Bitmap bitmap, int quality, long encodedBytes) {
+            this.bitmap = bitmap;
+            this.quality = quality;
+            this.encodedBytes = encodedBytes;
+        }
+    }
+
+    /**
+     * Find the largest quality (and scale) that fits the policy's byte budget.
+     * @param source Bitmap to encode. It is never recycled here.
+     * @param policy {@link ImageUploadPolicy} for the endpoint being uploaded to
+     * @param pixelFormat {@link ImagePixelFormat} to encode in. The source is converted if needed.
+     * @param mayModifySource True if the source was decoded by the SDK and can be made
+     *                        grayscale in place (if mutable)
+     * @return {@link Result}. If nothing fits, the smallest allowed encoding is returned.
+     */
+    static Result encode(@NonNull Bitmap source, @NonNull ImageUploadPolicy policy,
+                         @NonNull ImagePixelFormat pixelFormat, boolean mayModifySource) {
+        int sourceLongEdge = Math.max(source.getWidth(), source.getHeight());
+        float minScale = Math.min(1F, ((float) policy.minLongEdge) / sourceLongEdge);
+        float scale = Math.min(1F, ((float) policy.maxLongEdge) / sourceLongEdge);
+
+        while (true) {
+            Bitmap candidate = render(source, scale, pixelFormat, mayModifySource);
+
+            //Early exit, best quality already fits
+            long maxQualitySize = measure(candidate, MAX_QUALITY);
+            if (maxQualitySize <= policy.maxEncodedBytes) {
+                return new Result(candidate, MAX_QUALITY, maxQualitySize);
+            }
+
+            long minQualitySize = measure(candidate, MIN_QUALITY);
+            if (minQualitySize > policy.maxEncodedBytes) {
+                if (scale <= minScale) {
+                    //Cannot go any smaller without losing required detail, send the smallest
+                    return new Result(candidate, MIN_QUALITY, minQualitySize);
+                }
+                //Encoded size roughly follows pixel count, so shrink by the square root
+                float nextScale = scale * (float) Math.sqrt(
+                        ((double) policy.maxEncodedBytes) / minQualitySize) * CLOSE_ENOUGH;
+                nextScale = Math.max(minScale, Math.min(nextScale, scale * MAX_SCALE_STEP));
+                if (candidate != source) {
+                    candidate.recycle();
+                }
+                scale = nextScale;
+                continue;
+            }
+
+            //MIN_QUALITY fits and MAX_QUALITY does not, binary search between them
+            int low = MIN_QUALITY, high = MAX_QUALITY;
+            long lowSize = minQualitySize;
+            while (high - low > QUALITY_TOLERANCE
+                    && lowSize < policy.maxEncodedBytes * CLOSE_ENOUGH) {
+                int mid = (low + high) / 2;
+                long midSize = measure(candidate, mid);
+                if (midSize <= policy.maxEncodedBytes) {
+                    low = mid;
+                    lowSize = midSize;
+                } else {
+                    high = mid;
+                }
+            }
+            return new Result(candidate, low, lowSize);
+        }
+    }
+
+    /**
+     * Get the number of bytes a bitmap compresses to at the given quality
+     */
+    static long measure(@NonNull Bitmap bitmap, int quality) {
+        CountingOutputStream counter = new CountingOutputStream();
+        bitmap.compress(Bitmap.CompressFormat.JPEG, quality, counter);
+        return counter.count;
+    }
+
+    /**
+     * Compress a bitmap to JPEG bytes
+     * @param bitmap Bitmap to compress
+     * @param quality JPEG quality
+     * @param sizeHint Expected size, IE {@link Result#encodedBytes}, to avoid array copies
+     * @return JPEG bytes
+     */
+    static byte[] compress(@NonNull Bitmap bitmap, int quality, long sizeHint) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(
+                (int) Math.max(32, Math.min(sizeHint, Integer.MAX_VALUE)));
+        bitmap.compress(Bitmap.CompressFormat.JPEG, quality, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Scale the source, converting it to the pixel format as it is drawn. The source itself is
+     * returned if it does not need scaling, made grayscale in place if needed and allowed.
+     */
+    private static Bitmap render(@NonNull Bitmap source, float scale,
+                                 @NonNull ImagePixelFormat pixelFormat, boolean mayModifySource) {
+        boolean grayscale = (pixelFormat == ImagePixelFormat.LUMINANCE);
+        if (scale >= 1F) {
+            if (!grayscale) {
+                //JPEG has no pixel format of its own, a converted copy would only add memory
+                return source;
+            }
+            if (mayModifySource && source.isMutable()) {
+                desaturate(source);
+                return source;
+            }
+        }
+        scale = Math.min(1F, scale);
+        int width = Math.max(1, Math.round(source.getWidth() * scale));
+        int height = Math.max(1, Math.round(source.getHeight() * scale));
+        Bitmap target = Bitmap.createBitmap(width, height, pixelFormat.getConfig());
+        Paint paint = new Paint(Paint.FILTER_BITMAP_FLAG | Paint.DITHER_FLAG);
+        if (grayscale) {
+            ColorMatrix colorMatrix = new ColorMatrix();
+            colorMatrix.setSaturation(0);
+            paint.setColorFilter(new ColorMatrixColorFilter(colorMatrix));
+        }
+        new Canvas(target).drawBitmap(source, null, new Rect(0, 0, width, height), paint);
+        return target;
+    }
+
+    /**
+     * Remove the color from a mutable bitmap a row at a time, with the same weights as
+     * {@link ColorMatrix#setSaturation(float)}
+     */
+    private static void desaturate(@NonNull Bitmap bitmap) {
+        int width = bitmap.getWidth(), height = bitmap.getHeight();
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            bitmap.getPixels(row, 0, width, 0, y, width, 1);
+            for (int x = 0; x < width; x++) {
+                int pixel = row[x];
+                int luminance = (((pixel >> 16) & 0xFF) * 55 + ((pixel >> 8) & 0xFF) * 183
+                        + (pixel & 0xFF) * 18) >> 8;
+                row[x] = (pixel & 0xFF000000) | (luminance << 16) | (luminance << 8) | luminance;
+            }
+            bitmap.setPixels(row, 0, width, 0, y, width, 1);
+        }
+    }
+
+    /**
+     * Discards everything written to it, only keeping count of the bytes
+     */
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(@NonNull byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
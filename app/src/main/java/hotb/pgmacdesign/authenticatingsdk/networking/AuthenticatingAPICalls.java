@@ -1,40 +1,39 @@
 package hotb.pgmacdesign.authenticatingsdk.networking;
 
+import android.content.ContentResolver;
+import android.content.Context;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.net.Uri;
 import android.os.AsyncTask;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
-import android.util.Base64;
 import android.widget.ProgressBar;
 
-import com.google.gson.Gson;
-
-import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import hotb.pgmacdesign.authenticatingsdk.datamodels.AuthenticatingException;
 import hotb.pgmacdesign.authenticatingsdk.datamodels.AvailableNetworks;
 import hotb.pgmacdesign.authenticatingsdk.datamodels.CheckPhotoResults;
 import hotb.pgmacdesign.authenticatingsdk.datamodels.PhoneVerification;
 import hotb.pgmacdesign.authenticatingsdk.datamodels.QuizObject;
+import hotb.pgmacdesign.authenticatingsdk.datamodels.ServiceUnavailableException;
 import hotb.pgmacdesign.authenticatingsdk.datamodels.SimpleResponse;
 import hotb.pgmacdesign.authenticatingsdk.datamodels.SocialNetworkObj;
-import hotb.pgmacdesign.authenticatingsdk.datamodels.UploadPhotosObj;
 import hotb.pgmacdesign.authenticatingsdk.datamodels.User;
 import hotb.pgmacdesign.authenticatingsdk.datamodels.VerifyQuizObj;
 import hotb.pgmacdesign.authenticatingsdk.interfaces.OnTaskCompleteListener;
+import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
-import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
@@ -57,56 +56,36 @@ public class AuthenticatingAPICalls {
     private static final String MUST_INCLUDE_ACCESS_CODE = "You must include the AccessCode in this call";
     private static final String MISSING_AUTH_KEY = "You did not include your authKey. This is obtained when you register for an account. Calls will not function without this key";
     private static final String PARSING_CONVERSION_ERROR = "Could not convert server response data. Please enabling logging to see full request and response logs.";
-    private static final String BASE_64_ENCODED_STRING_REGEX = "^([A-Za-z0-9+/]{4})*([A-Za-z0-9+/]{4}|[A-Za-z0-9+/]{3}=|[A-Za-z0-9+/]{2}==)$";
-    private static final String URL_BASE = AuthenticatingConstants.BASE_URL;
 
-    private static APIService myService;
     private static AsyncTask<Void, Void, Void> uploadPhotosAsynctask;
 
     private static enum UploadIdTypes {
         uploadId, uploadIdEnhanced, comparePhotos, uploadPassport
     }
 
+    /**
+     * Get the shared service used by these calls. See {@link AuthenticatingClient}
+     */
     public static APIService getMyService() {
-        init();
-        return myService;
+        return AuthenticatingClient.getService();
     }
 
-    static {
-        init();
+    /**
+     * Optionally build the network client on a background thread ahead of the first call.
+     * See {@link AuthenticatingClient#warmUp()}
+     */
+    public static void warmUp() {
+        AuthenticatingClient.warmUp();
     }
 
-    private static void init() {
-        boolean shouldResetService = false;
-        if (WebCallsLogging.didUserChangeLogging()) {
-            shouldResetService = true;
-            WebCallsLogging.USER_CHANGED_LOGGING = false;
-        }
-        if (myService == null) {
-            shouldResetService = true;
-        }
-        if (shouldResetService) {
-//            RetrofitClient.Builder builder = new RetrofitClient.Builder(
-//                    APIService.class, AuthenticatingConstants.STAGING_URL);
-            RetrofitClient.Builder builder = new RetrofitClient.Builder(
-                  APIService.class, URL_BASE);
-            if (WebCallsLogging.isJsonLogging()) {
-                Logging.m("Updating Logging to: True");
-                builder.setLogLevel(HttpLoggingInterceptor.Level.BODY);
-            } else {
-                Logging.m("Updating Logging to: False");
-                builder.setLogLevel(HttpLoggingInterceptor.Level.NONE);
-            }
-            builder.setCustomConverterFactory(new CustomConverterFactory());
-            builder.setTimeouts(30000, 30000);
-
-            try {
-                myService = builder.build().buildServiceClient();
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        }
+    /**
+     * Optionally open a connection to the API ahead of the first call.
+     * See {@link AuthenticatingClient#prewarm()}
+     */
+    public static void prewarm() {
+        AuthenticatingClient.prewarm();
     }
+
     ///////////////////////////////////////////////////////////////
     //Synchronous Calls - Require Async Thread && Error Handling //
     ///////////////////////////////////////////////////////////////
@@ -126,23 +105,15 @@ public class AuthenticatingAPICalls {
         }
         User u = new User();
         u.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.getAvailableNetworks(companyAPIKey, u);
+        Call<ResponseBody> call = getMyService().getAvailableNetworks(companyAPIKey, u);
         AuthenticatingAPICalls.printOutRequestJson(u, AuthenticatingConstants.TYPE_USER, call);
         Object toReturn = null;
         try {
-            Response response = call.execute();
-
-            //Check the Error first
-            Object object = response.body();
-            ResponseBody errorBody = response.errorBody();
-            try {
-                ErrorHandler.checkForAuthenticatingErrorObject(object);
-                ErrorHandler.checkForAuthenticatingError(errorBody.string());
-            } catch (NullPointerException nope){}
-
-            toReturn = response.body();
+            Response<ResponseBody> response = call.execute();
+            toReturn = RetrofitParser.parseResponse(response, AvailableNetworks.class);
         } catch (IOException ioe) {
             ioe.printStackTrace();
+            throwIfCircuitOpen(ioe);
         }
         return toReturn;
     }
@@ -174,22 +145,15 @@ public class AuthenticatingAPICalls {
         s.setNetwork(network);
         s.setSocialMediaAccessToken(socialMediaAccessToken);
         s.setSocialMediaUserId(socialMediaUserId);
-        Call<ResponseBody> call = myService.verifySocialNetworks(companyAPIKey, s);
+        Call<ResponseBody> call = getMyService().verifySocialNetworks(companyAPIKey, s);
         AuthenticatingAPICalls.printOutRequestJson(s, AuthenticatingConstants.TYPE_SOCIAL_NETWORK_OBJ, call);
         Object toReturn = null;
         try {
-            Response response = call.execute();
-
-            //Check the error first
-			Object object = response.body();
-            ResponseBody errorBody = response.errorBody();
-            try {
-                ErrorHandler.checkForAuthenticatingErrorObject(object);
-                ErrorHandler.checkForAuthenticatingError(errorBody.string());
-            } catch (NullPointerException nope){}
-            toReturn = object;
+            Response<ResponseBody> response = call.execute();
+            toReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
         } catch (IOException ioe) {
             ioe.printStackTrace();
+            throwIfCircuitOpen(ioe);
         }
         return toReturn;
     }
@@ -212,22 +176,15 @@ public class AuthenticatingAPICalls {
         }
         PhoneVerification p = new PhoneVerification();
         p.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.verifyPhone(companyAPIKey, p);
+        Call<ResponseBody> call = getMyService().verifyPhone(companyAPIKey, p);
         AuthenticatingAPICalls.printOutRequestJson(p, AuthenticatingConstants.TYPE_PHONE_VERIFICATION, call);
         Object toReturn = null;
         try {
-            Response response = call.execute();
-
-            //Check the Error first
-			Object object = response.body();
-            ResponseBody errorBody = response.errorBody();
-            try {
-                ErrorHandler.checkForAuthenticatingErrorObject(object);
-                ErrorHandler.checkForAuthenticatingError(errorBody.string());
-            } catch (NullPointerException nope){}
-            toReturn = object;
+            Response<ResponseBody> response = call.execute();
+            toReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
         } catch (IOException ioe) {
             ioe.printStackTrace();
+            throwIfCircuitOpen(ioe);
         }
         return toReturn;
     }
@@ -251,22 +208,15 @@ public class AuthenticatingAPICalls {
         PhoneVerification p = new PhoneVerification();
         p.setAccessCode(accessCode);
         p.setSmsCode(smsCode);
-        Call<ResponseBody> call = myService.verifyPhoneCode(companyAPIKey, p);
+        Call<ResponseBody> call = getMyService().verifyPhoneCode(companyAPIKey, p);
         AuthenticatingAPICalls.printOutRequestJson(p, AuthenticatingConstants.TYPE_PHONE_VERIFICATION, call);
         Object toReturn = null;
         try {
-            Response response = call.execute();
-
-            //Check the Error first
-			Object object = response.body();
-            ResponseBody errorBody = response.errorBody();
-            try {
-                ErrorHandler.checkForAuthenticatingErrorObject(object);
-                ErrorHandler.checkForAuthenticatingError(errorBody.string());
-            } catch (NullPointerException nope){}
-            toReturn = object;
+            Response<ResponseBody> response = call.execute();
+            toReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
         } catch (IOException ioe) {
             ioe.printStackTrace();
+            throwIfCircuitOpen(ioe);
         }
         return toReturn;
     }
@@ -287,22 +237,15 @@ public class AuthenticatingAPICalls {
         }
         User user = new User();
         user.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.verifyEmail(companyAPIKey, user);
+        Call<ResponseBody> call = getMyService().verifyEmail(companyAPIKey, user);
         AuthenticatingAPICalls.printOutRequestJson(user, AuthenticatingConstants.TYPE_USER, call);
         Object toReturn = null;
         try {
-            Response response = call.execute();
-
-            //Check the Error first
-			Object object = response.body();
-            ResponseBody errorBody = response.errorBody();
-            try {
-                ErrorHandler.checkForAuthenticatingErrorObject(object);
-                ErrorHandler.checkForAuthenticatingError(errorBody.string());
-            } catch (NullPointerException nope){}
-            toReturn = object;
+            Response<ResponseBody> response = call.execute();
+            toReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
         } catch (IOException ioe) {
             ioe.printStackTrace();
+            throwIfCircuitOpen(ioe);
         }
         return toReturn;
     }
@@ -316,6 +259,7 @@ public class AuthenticatingAPICalls {
      * @param accessCode          The identifier String given to a user. Obtained when creating the user
      * @param base64EncodedImage1 First Photo File already converted to base64 encoded String
      * @param base64EncodedImage2  Second Photo File already converted to base64 encoded String
+     * @return {@link SimpleResponse}
      * @throws AuthenticatingException {@link AuthenticatingException}
      */
     public static Object comparePhotos(String companyAPIKey, String accessCode,
@@ -335,6 +279,7 @@ public class AuthenticatingAPICalls {
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
      * @param photo1Bitmap  First Photo File to parse.
      * @param photo2Bitmap  Second Photo File to parse.
+     * @return {@link SimpleResponse}
      * @throws AuthenticatingException {@link AuthenticatingException}
      */
     public static Object comparePhotos(String companyAPIKey, String accessCode,
@@ -353,6 +298,7 @@ public class AuthenticatingAPICalls {
      * @param accessCode          The identifier String given to a user. Obtained when creating the user
      * @param base64EncodedIdFront First Photo File already converted to base64 encoded String
      * @param base64EncodeIdBack  Second Photo File already converted to base64 encoded String
+     * @return {@link SimpleResponse}
      * @throws AuthenticatingException {@link AuthenticatingException}
      */
     public static Object uploadId(String companyAPIKey, String accessCode,
@@ -372,6 +318,7 @@ public class AuthenticatingAPICalls {
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
      * @param idFrontBitmap  First Photo File to parse.
      * @param idBackBitmap  Second Photo File to parse.
+     * @return {@link SimpleResponse}
      * @throws AuthenticatingException {@link AuthenticatingException}
      */
     public static Object uploadId(String companyAPIKey, String accessCode,
@@ -390,6 +337,7 @@ public class AuthenticatingAPICalls {
      * @param companyAPIKey       The company api key provided by Authenticating
      * @param accessCode          The identifier String given to a user. Obtained when creating the user
      * @param base64EncodedIdFront First Photo File already converted to base64 encoded String
+     * @return {@link SimpleResponse}
      * @throws AuthenticatingException {@link AuthenticatingException}
      */
     public static Object uploadPassport(String companyAPIKey, String accessCode,
@@ -408,6 +356,7 @@ public class AuthenticatingAPICalls {
      * @param companyAPIKey The company api key provided by Authenticating
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
      * @param idFrontBitmap  First Photo File to parse.
+     * @return {@link SimpleResponse}
      * @throws AuthenticatingException {@link AuthenticatingException}
      */
     public static Object uploadPassport(String companyAPIKey, String accessCode,
@@ -426,6 +375,7 @@ public class AuthenticatingAPICalls {
      * @param accessCode          The identifier String given to a user. Obtained when creating the user
      * @param base64EncodedIdFront First Photo File already converted to base64 encoded String
      * @param base64EncodeIdBack  Second Photo File already converted to base64 encoded String
+     * @return {@link SimpleResponse}
      * @throws AuthenticatingException {@link AuthenticatingException}
      */
     public static Object uploadIdEnhanced(String companyAPIKey, String accessCode,
@@ -445,6 +395,7 @@ public class AuthenticatingAPICalls {
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
      * @param idFrontBitmap  First Photo File to parse.
      * @param idBackBitmap  Second Photo File to parse.
+     * @return {@link SimpleResponse}
      * @throws AuthenticatingException {@link AuthenticatingException}
      */
     public static Object uploadIdEnhanced(String companyAPIKey, String accessCode,
@@ -461,49 +412,34 @@ public class AuthenticatingAPICalls {
             return null;
         }
 
-        if (StringUtilities.isNullOrEmpty(base64EncodedIdFront) ||
-                StringUtilities.isNullOrEmpty(base64EncodeIdBack)) {
-            return null;
+        if(type == UploadIdTypes.uploadPassport){
+            if (StringUtilities.isNullOrEmpty(base64EncodedIdFront)) {
+                return null;
+            }
+        } else {
+            if (StringUtilities.isNullOrEmpty(base64EncodedIdFront) ||
+                    StringUtilities.isNullOrEmpty(base64EncodeIdBack)) {
+                return null;
+            }
         }
 
-        Call<ResponseBody> call;
-        UploadPhotosObj uploadPhotosObj = new UploadPhotosObj();
-        uploadPhotosObj.setAccessCode(accessCode);
-        switch (type){
-
-            case uploadIdEnhanced:
-                uploadPhotosObj.setIdFront(base64EncodedIdFront);
-                uploadPhotosObj.setIdBack(base64EncodeIdBack);
-                call = myService.uploadIdEnhanced(companyAPIKey, uploadPhotosObj);
-                break;
-
-            case uploadId:
-                uploadPhotosObj.setIdFront(base64EncodedIdFront);
-                uploadPhotosObj.setIdBack(base64EncodeIdBack);
-                call = myService.uploadId(companyAPIKey, uploadPhotosObj);
-                break;
-
-            default:
-            case comparePhotos:
-                uploadPhotosObj.setImg1(base64EncodedIdFront);
-                uploadPhotosObj.setImg2(base64EncodeIdBack);
-                call = myService.comparePhotos(companyAPIKey, uploadPhotosObj);
-                break;
+        if (!Base64Validator.isValid(base64EncodedIdFront) ||
+                (type != UploadIdTypes.uploadPassport && !Base64Validator.isValid(base64EncodeIdBack))) {
+            throw buildErrorObject("Improperly formatted base64Encoded Strings");
         }
+
+        ImageUploadRequestBody uploadBody = buildUploadRequestBody(type, accessCode,
+                new ImageUploadRequestBody.Base64StringPart(base64EncodedIdFront),
+                (base64EncodeIdBack == null) ? null
+                        : new ImageUploadRequestBody.Base64StringPart(base64EncodeIdBack));
+        Call<ResponseBody> call = buildUploadCall(companyAPIKey, type, uploadBody);
         Object toReturn = null;
         try {
-            Response response = call.execute();
-
-            //Check the Error first
-			Object object = response.body();
-            ResponseBody errorBody = response.errorBody();
-            try {
-                ErrorHandler.checkForAuthenticatingErrorObject(object);
-                ErrorHandler.checkForAuthenticatingError(errorBody.string());
-            } catch (NullPointerException nope){}
-            toReturn = object;
+            Response<ResponseBody> response = call.execute();
+            toReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
         } catch (IOException ioe) {
             ioe.printStackTrace();
+            throwIfCircuitOpen(ioe);
         }
         return toReturn;
     }
@@ -536,87 +472,25 @@ public class AuthenticatingAPICalls {
             }
         }
 
-        if(type == UploadIdTypes.uploadPassport){
-            if (isBitmapTooLarge(idFrontBitmap)) {
-                try {
-                    idFrontBitmap = AuthenticatingAPICalls.resizePhoto(idFrontBitmap);
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            }
-        } else {
-            if (isBitmapTooLarge(idFrontBitmap)) {
-                try {
-                    idFrontBitmap = AuthenticatingAPICalls.resizePhoto(idFrontBitmap);
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            }
-            if (isBitmapTooLarge(idBackBitmap)) {
-                try {
-                    idBackBitmap = AuthenticatingAPICalls.resizePhoto(idBackBitmap);
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            }
-        }
-
-        UploadPhotosObj uploadPhotosObj = new UploadPhotosObj();
-        uploadPhotosObj.setAccessCode(accessCode);
-        String idFront = null, idBack = null;
-        try {
-            if(type == UploadIdTypes.uploadPassport){
-                idFront = encodeImage(idFrontBitmap);
-            } else {
-                idFront = encodeImage(idFrontBitmap);
-                idBack = encodeImage(idBackBitmap);   
-            }
-        } catch (Exception e) {
-            return null;
-        }
-
-        Call<ResponseBody> call;
-
-        switch (type){
-            case uploadPassport:
-                uploadPhotosObj.setIdFront(idFront);
-                call = myService.uploadPassport(companyAPIKey, uploadPhotosObj);
-                break;
-                
-            case uploadId:
-                uploadPhotosObj.setIdFront(idFront);
-                uploadPhotosObj.setIdBack(idBack);
-                call = myService.uploadId(companyAPIKey, uploadPhotosObj);
-
-                break;
-            case uploadIdEnhanced:
-                uploadPhotosObj.setIdFront(idFront);
-                uploadPhotosObj.setIdBack(idBack);
-                call = myService.uploadIdEnhanced(companyAPIKey, uploadPhotosObj);
-                break;
-
-            case comparePhotos:
-            default:
-                uploadPhotosObj.setImg1(idFront);
-                uploadPhotosObj.setImg2(idBack);
-                call = myService.comparePhotos(companyAPIKey, uploadPhotosObj);
-                break;
-        }
+        //Images are encoded here (or taken from the cache) to fit the upload budget. Base64
+        //encoding happens as the body is spooled, or written if spooling is off.
+        RequestBody uploadBody = spoolUploadBody(buildUploadRequestBody(type, accessCode,
+                buildBitmapPart(idFrontBitmap, type, false, false, null),
+                (type == UploadIdTypes.uploadPassport) ? null
+                        : buildBitmapPart(idBackBitmap, type, false, false, null)), type, accessCode);
+        Call<ResponseBody> call = buildUploadCall(companyAPIKey, type, uploadBody);
 
         Object toReturn = null;
+        boolean responded = false;
         try {
-            Response response = call.execute();
-
-            //Check the Error first
-			Object object = response.body();
-            ResponseBody errorBody = response.errorBody();
-            try {
-                ErrorHandler.checkForAuthenticatingErrorObject(object);
-                ErrorHandler.checkForAuthenticatingError(errorBody.string());
-            } catch (NullPointerException nope){}
-            toReturn = object;
+            Response<ResponseBody> response = call.execute();
+            responded = true;
+            toReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
         } catch (IOException ioe) {
             ioe.printStackTrace();
+            throwIfCircuitOpen(ioe);
+        } finally {
+            releaseUploadBody(uploadBody, responded);
         }
         return toReturn;
     }
@@ -637,22 +511,15 @@ public class AuthenticatingAPICalls {
 
         User u = new User();
         u.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.checkUploadId(companyAPIKey, u);
+        Call<ResponseBody> call = getMyService().checkUploadId(companyAPIKey, u);
         AuthenticatingAPICalls.printOutRequestJson(u, AuthenticatingConstants.TYPE_USER, call);
         Object toReturn = null;
         try {
-            Response response = call.execute();
-
-            //Check the Error first
-			Object object = response.body();
-            ResponseBody errorBody = response.errorBody();
-            try {
-                ErrorHandler.checkForAuthenticatingErrorObject(object);
-                ErrorHandler.checkForAuthenticatingError(errorBody.string());
-            } catch (NullPointerException nope){}
-            toReturn =  object;
+            Response<ResponseBody> response = call.execute();
+            toReturn = RetrofitParser.parseResponse(response, CheckPhotoResults.class);
         } catch (IOException ioe) {
             ioe.printStackTrace();
+            throwIfCircuitOpen(ioe);
         }
         return toReturn;
     }
@@ -673,22 +540,15 @@ public class AuthenticatingAPICalls {
 
         User u = new User();
         u.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.checkUploadPassport(companyAPIKey, u);
+        Call<ResponseBody> call = getMyService().checkUploadPassport(companyAPIKey, u);
         AuthenticatingAPICalls.printOutRequestJson(u, AuthenticatingConstants.TYPE_USER, call);
         Object toReturn = null;
         try {
-            Response response = call.execute();
-
-            //Check the Error first
-			Object object = response.body();
-            ResponseBody errorBody = response.errorBody();
-            try {
-                ErrorHandler.checkForAuthenticatingErrorObject(object);
-                ErrorHandler.checkForAuthenticatingError(errorBody.string());
-            } catch (NullPointerException nope){}
-            toReturn = object;
+            Response<ResponseBody> response = call.execute();
+            toReturn = RetrofitParser.parseResponse(response, CheckPhotoResults.class);
         } catch (IOException ioe) {
             ioe.printStackTrace();
+            throwIfCircuitOpen(ioe);
         }
         return toReturn;
     }
@@ -709,22 +569,15 @@ public class AuthenticatingAPICalls {
 
         User u = new User();
         u.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.getQuiz(companyAPIKey, u);
+        Call<ResponseBody> call = getMyService().getQuiz(companyAPIKey, u);
         AuthenticatingAPICalls.printOutRequestJson(u, AuthenticatingConstants.TYPE_USER, call);
         Object toReturn = null;
         try {
-            Response response = call.execute();
-
-            //Check the Error first
-			Object object = response.body();
-            ResponseBody errorBody = response.errorBody();
-            try {
-                ErrorHandler.checkForAuthenticatingErrorObject(object);
-                ErrorHandler.checkForAuthenticatingError(errorBody.string());
-            } catch (NullPointerException nope){}
-            toReturn = object;
+            Response<ResponseBody> response = call.execute();
+            toReturn = RetrofitParser.parseResponse(response, QuizObject.class);
         } catch (IOException ioe) {
             ioe.printStackTrace();
+            throwIfCircuitOpen(ioe);
         }
         return toReturn;
     }
@@ -761,22 +614,15 @@ public class AuthenticatingAPICalls {
         v.setTransactionID(transactionId);
         v.setResponseUniqueId(responseUniqueId);
 
-        Call<ResponseBody> call = myService.verifyQuiz(companyAPIKey, v);
+        Call<ResponseBody> call = getMyService().verifyQuiz(companyAPIKey, v);
         AuthenticatingAPICalls.printOutRequestJson(v, AuthenticatingConstants.TYPE_VERIFY_QUIZ_OBJ, call);
         Object toReturn = null;
         try {
-            Response response = call.execute();
-
-            //Check the Error first
-			Object object = response.body();
-            ResponseBody errorBody = response.errorBody();
-            try {
-                ErrorHandler.checkForAuthenticatingErrorObject(object);
-                ErrorHandler.checkForAuthenticatingError(errorBody.string());
-            } catch (NullPointerException nope){}
-            toReturn = object;
+            Response<ResponseBody> response = call.execute();
+            toReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
         } catch (IOException ioe) {
             ioe.printStackTrace();
+            throwIfCircuitOpen(ioe);
         }
         return toReturn;
     }
@@ -800,22 +646,15 @@ public class AuthenticatingAPICalls {
         User user = new User();
         user.setAccessCode(accessCode);
 
-        Call<ResponseBody> call = myService.generateCriminalReport(companyAPIKey, user);
+        Call<ResponseBody> call = getMyService().generateCriminalReport(companyAPIKey, user);
         AuthenticatingAPICalls.printOutRequestJson(user, AuthenticatingConstants.TYPE_USER, call);
         Object toReturn = null;
         try {
-            Response response = call.execute();
-
-            //Check the Error first
-			Object object = response.body();
-            ResponseBody errorBody = response.errorBody();
-            try {
-                ErrorHandler.checkForAuthenticatingErrorObject(object);
-                ErrorHandler.checkForAuthenticatingError(errorBody.string());
-            } catch (NullPointerException nope){}
-            toReturn = object;
+            Response<ResponseBody> response = call.execute();
+            toReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
         } catch (IOException ioe) {
             ioe.printStackTrace();
+            throwIfCircuitOpen(ioe);
         }
         return toReturn;
     }
@@ -837,22 +676,15 @@ public class AuthenticatingAPICalls {
 
         User user = new User();
         user.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.getUser(companyAPIKey, user);
+        Call<ResponseBody> call = getMyService().getUser(companyAPIKey, user);
         AuthenticatingAPICalls.printOutRequestJson(user, AuthenticatingConstants.TYPE_USER, call);
         Object toReturn = null;
         try {
-            Response response = call.execute();
-
-            //Check the Error first
-			Object object = response.body();
-            ResponseBody errorBody = response.errorBody();
-            try {
-                ErrorHandler.checkForAuthenticatingErrorObject(object);
-                ErrorHandler.checkForAuthenticatingError(errorBody.string());
-            } catch (NullPointerException nope){}
-            toReturn = object;
+            Response<ResponseBody> response = call.execute();
+            toReturn = RetrofitParser.parseResponse(response, User.class);
         } catch (IOException ioe) {
             ioe.printStackTrace();
+            throwIfCircuitOpen(ioe);
         }
         return toReturn;
     }
@@ -872,22 +704,15 @@ public class AuthenticatingAPICalls {
             throw buildMissingAuthKeyError();
         }
         user.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.updateUser(companyAPIKey, user);
+        Call<ResponseBody> call = getMyService().updateUser(companyAPIKey, user);
         AuthenticatingAPICalls.printOutRequestJson(user, AuthenticatingConstants.TYPE_USER, call);
         Object toReturn = null;
         try {
-            Response response = call.execute();
-
-            //Check the Error first
-			Object object = response.body();
-            ResponseBody errorBody = response.errorBody();
-            try {
-                ErrorHandler.checkForAuthenticatingErrorObject(object);
-                ErrorHandler.checkForAuthenticatingError(errorBody.string());
-            } catch (NullPointerException nope){}
-            toReturn = object;
+            Response<ResponseBody> response = call.execute();
+            toReturn = RetrofitParser.parseResponse(response, User.class);
         } catch (IOException ioe) {
             ioe.printStackTrace();
+            throwIfCircuitOpen(ioe);
         }
         return toReturn;
     }
@@ -978,41 +803,25 @@ public class AuthenticatingAPICalls {
      * @param listener      {@link OnTaskCompleteListener}
      * @param companyAPIKey The company api key provided by Authenticating
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void getAvailableNetworks(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall getAvailableNetworks(@NonNull final OnTaskCompleteListener listener,
                                             String companyAPIKey,
                                             String accessCode) {
         if (StringUtilities.isNullOrEmpty(accessCode)) {
             listener.onTaskComplete(buildMissingAuthKeyError(),
                     AuthenticatingConstants.TAG_ERROR_RESPONSE);
-            return;
+            return AuthenticatingCall.completed();
         }
         User u = new User();
         u.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.getAvailableNetworks(companyAPIKey, u);
+        Call<ResponseBody> call = getMyService().getAvailableNetworks(companyAPIKey, u);
         AuthenticatingAPICalls.printOutRequestJson(u, AuthenticatingConstants.TYPE_USER, call);
-        call.enqueue(new Callback<ResponseBody>() {
+        return AuthenticatingCall.enqueue(call, new Callback<ResponseBody>() {
             @Override
             public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
                 try {
-                    ResponseBody object = response.body();
-                    ResponseBody errorBody = response.errorBody();
-                    String responseBodyString, errorBodyString;
-                    try {
-                        responseBodyString = object.string();
-                    } catch (Exception e){
-                        responseBodyString = null;
-                    }
-                    try {
-                        errorBodyString = errorBody.string();
-                    } catch (Exception e){
-                        errorBodyString = null;
-                    }
-                    try {
-                        ErrorHandler.checkForAuthenticatingErrorObject(object);
-                        ErrorHandler.checkForAuthenticatingError(errorBodyString);
-                    } catch (NullPointerException nope){}
-                    AvailableNetworks myObjectToReturn = (AvailableNetworks) RetrofitParser.convert(responseBodyString, AvailableNetworks.class);
+                    AvailableNetworks myObjectToReturn = RetrofitParser.parseResponse(response, AvailableNetworks.class);
                     if(myObjectToReturn != null) {
                         AuthenticatingAPICalls.printOutResponseJson(myObjectToReturn, AuthenticatingConstants.TYPE_AVAILABLE_NETWORKS);
                         listener.onTaskComplete(myObjectToReturn, AuthenticatingConstants.TAG_AVAILABLE_NETWORKS);
@@ -1035,7 +844,7 @@ public class AuthenticatingAPICalls {
             @Override
             public void onFailure(Call<ResponseBody> call, Throwable t) {
                 t.printStackTrace();
-                listener.onTaskComplete(buildErrorObject(t.getMessage()), AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                listener.onTaskComplete(buildErrorObject(t), AuthenticatingConstants.TAG_ERROR_RESPONSE);
             }
         });
     }
@@ -1052,8 +861,9 @@ public class AuthenticatingAPICalls {
      *                               faecbook, google, twitter, instagram
      * @param socialMediaAccessToken The access token you received from the social media login
      * @param socialMediaUserId      The user id you received from the social media login
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void verifySocialNetworks(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall verifySocialNetworks(@NonNull final OnTaskCompleteListener listener,
                                             String companyAPIKey,
                                             String accessCode, String network,
                                             String socialMediaAccessToken,
@@ -1062,37 +872,20 @@ public class AuthenticatingAPICalls {
         if (StringUtilities.isNullOrEmpty(accessCode)) {
             listener.onTaskComplete(buildMissingAuthKeyError(),
                     AuthenticatingConstants.TAG_ERROR_RESPONSE);
-            return;
+            return AuthenticatingCall.completed();
         }
         SocialNetworkObj s = new SocialNetworkObj();
         s.setAccessCode(accessCode);
         s.setNetwork(network);
         s.setSocialMediaAccessToken(socialMediaAccessToken);
         s.setSocialMediaUserId(socialMediaUserId);
-        Call<ResponseBody> call = myService.verifySocialNetworks(companyAPIKey, s);
+        Call<ResponseBody> call = getMyService().verifySocialNetworks(companyAPIKey, s);
         AuthenticatingAPICalls.printOutRequestJson(s, AuthenticatingConstants.TYPE_SOCIAL_NETWORK_OBJ, call);
-        call.enqueue(new Callback<ResponseBody>() {
+        return AuthenticatingCall.enqueue(call, new Callback<ResponseBody>() {
             @Override
             public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
                 try {
-                    ResponseBody object = response.body();
-                    ResponseBody errorBody = response.errorBody();
-                    String responseBodyString, errorBodyString;
-                    try {
-                        responseBodyString = object.string();
-                    } catch (Exception e){
-                        responseBodyString = null;
-                    }
-                    try {
-                        errorBodyString = errorBody.string();
-                    } catch (Exception e){
-                        errorBodyString = null;
-                    }
-                    try {
-                        ErrorHandler.checkForAuthenticatingErrorObject(object);
-                        ErrorHandler.checkForAuthenticatingError(errorBodyString);
-                    } catch (NullPointerException nope){}
-                    SimpleResponse myObjectToReturn = (SimpleResponse) RetrofitParser.convert(responseBodyString, SimpleResponse.class);
+                    SimpleResponse myObjectToReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
                     if(myObjectToReturn != null) {
                         AuthenticatingAPICalls.printOutResponseJson(myObjectToReturn, AuthenticatingConstants.TYPE_SIMPLE_RESPONSE);
                         listener.onTaskComplete(myObjectToReturn, AuthenticatingConstants.TAG_SIMPLE_RESPONSE);
@@ -1114,7 +907,7 @@ public class AuthenticatingAPICalls {
             @Override
             public void onFailure(Call<ResponseBody> call, Throwable t) {
                 t.printStackTrace();
-                listener.onTaskComplete(buildErrorObject(t.getMessage()), AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                listener.onTaskComplete(buildErrorObject(t), AuthenticatingConstants.TAG_ERROR_RESPONSE);
             }
         });
     }
@@ -1127,42 +920,26 @@ public class AuthenticatingAPICalls {
      * @param listener      {@link OnTaskCompleteListener}
      * @param companyAPIKey The company api key provided by Authenticating
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void verifyPhone(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall verifyPhone(@NonNull final OnTaskCompleteListener listener,
                                    String companyAPIKey,
                                    String accessCode) {
 
         if (StringUtilities.isNullOrEmpty(accessCode)) {
             listener.onTaskComplete(buildMissingAuthKeyError(),
                     AuthenticatingConstants.TAG_ERROR_RESPONSE);
-            return;
+            return AuthenticatingCall.completed();
         }
         PhoneVerification p = new PhoneVerification();
         p.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.verifyPhone(companyAPIKey, p);
+        Call<ResponseBody> call = getMyService().verifyPhone(companyAPIKey, p);
         AuthenticatingAPICalls.printOutRequestJson(p, AuthenticatingConstants.TYPE_PHONE_VERIFICATION, call);
-        call.enqueue(new Callback<ResponseBody>() {
+        return AuthenticatingCall.enqueue(call, new Callback<ResponseBody>() {
             @Override
             public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
                 try {
-                    ResponseBody object = response.body();
-                    ResponseBody errorBody = response.errorBody();
-                    String responseBodyString, errorBodyString;
-                    try {
-                        responseBodyString = object.string();
-                    } catch (Exception e){
-                        responseBodyString = null;
-                    }
-                    try {
-                        errorBodyString = errorBody.string();
-                    } catch (Exception e){
-                        errorBodyString = null;
-                    }
-                    try {
-                        ErrorHandler.checkForAuthenticatingErrorObject(object);
-                        ErrorHandler.checkForAuthenticatingError(errorBodyString);
-                    } catch (NullPointerException nope){}
-                    SimpleResponse myObjectToReturn = (SimpleResponse) RetrofitParser.convert(responseBodyString, SimpleResponse.class);
+                    SimpleResponse myObjectToReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
                     if(myObjectToReturn != null) {
                         AuthenticatingAPICalls.printOutResponseJson(myObjectToReturn, AuthenticatingConstants.TYPE_SIMPLE_RESPONSE);
                         listener.onTaskComplete(myObjectToReturn, AuthenticatingConstants.TAG_SIMPLE_RESPONSE);
@@ -1185,7 +962,7 @@ public class AuthenticatingAPICalls {
             @Override
             public void onFailure(Call<ResponseBody> call, Throwable t) {
                 t.printStackTrace();
-                listener.onTaskComplete(buildErrorObject(t.getMessage()), AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                listener.onTaskComplete(buildErrorObject(t), AuthenticatingConstants.TAG_ERROR_RESPONSE);
             }
         });
     }
@@ -1198,43 +975,27 @@ public class AuthenticatingAPICalls {
      * @param companyAPIKey The company api key provided by Authenticating
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
      * @param smsCode       The code received in the user's SMS to be sent outbound.
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void verifyPhoneCode(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall verifyPhoneCode(@NonNull final OnTaskCompleteListener listener,
                                        String companyAPIKey,
                                        String accessCode, String smsCode) {
 
         if (StringUtilities.isNullOrEmpty(accessCode)) {
             listener.onTaskComplete(buildMissingAuthKeyError(),
                     AuthenticatingConstants.TAG_ERROR_RESPONSE);
-            return;
+            return AuthenticatingCall.completed();
         }
         PhoneVerification p = new PhoneVerification();
         p.setAccessCode(accessCode);
         p.setSmsCode(smsCode);
-        Call<ResponseBody> call = myService.verifyPhoneCode(companyAPIKey, p);
+        Call<ResponseBody> call = getMyService().verifyPhoneCode(companyAPIKey, p);
         AuthenticatingAPICalls.printOutRequestJson(p, AuthenticatingConstants.TYPE_PHONE_VERIFICATION, call);
-        call.enqueue(new Callback<ResponseBody>() {
+        return AuthenticatingCall.enqueue(call, new Callback<ResponseBody>() {
             @Override
             public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
                 try {
-                    ResponseBody object = response.body();
-                    ResponseBody errorBody = response.errorBody();
-                    String responseBodyString, errorBodyString;
-                    try {
-                        responseBodyString = object.string();
-                    } catch (Exception e){
-                        responseBodyString = null;
-                    }
-                    try {
-                        errorBodyString = errorBody.string();
-                    } catch (Exception e){
-                        errorBodyString = null;
-                    }
-                    try {
-                        ErrorHandler.checkForAuthenticatingErrorObject(object);
-                        ErrorHandler.checkForAuthenticatingError(errorBodyString);
-                    } catch (NullPointerException nope){}
-                    SimpleResponse myObjectToReturn = (SimpleResponse) RetrofitParser.convert(responseBodyString, SimpleResponse.class);
+                    SimpleResponse myObjectToReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
                     if(myObjectToReturn != null) {
                         AuthenticatingAPICalls.printOutResponseJson(myObjectToReturn, AuthenticatingConstants.TYPE_SIMPLE_RESPONSE);
                         listener.onTaskComplete(myObjectToReturn, AuthenticatingConstants.TAG_SIMPLE_RESPONSE);
@@ -1257,7 +1018,7 @@ public class AuthenticatingAPICalls {
             @Override
             public void onFailure(Call<ResponseBody> call, Throwable t) {
                 t.printStackTrace();
-                listener.onTaskComplete(buildErrorObject(t.getMessage()), AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                listener.onTaskComplete(buildErrorObject(t), AuthenticatingConstants.TAG_ERROR_RESPONSE);
             }
         });
     }
@@ -1268,42 +1029,26 @@ public class AuthenticatingAPICalls {
      * @param listener      {@link OnTaskCompleteListener}
      * @param companyAPIKey The company api key provided by Authenticating
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void verifyEmail(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall verifyEmail(@NonNull final OnTaskCompleteListener listener,
                                    String companyAPIKey,
                                    String accessCode) {
 
         if (StringUtilities.isNullOrEmpty(accessCode)) {
             listener.onTaskComplete(buildMissingAuthKeyError(),
                     AuthenticatingConstants.TAG_ERROR_RESPONSE);
-            return;
+            return AuthenticatingCall.completed();
         }
         User user = new User();
         user.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.verifyEmail(companyAPIKey, user);
+        Call<ResponseBody> call = getMyService().verifyEmail(companyAPIKey, user);
         AuthenticatingAPICalls.printOutRequestJson(user, AuthenticatingConstants.TYPE_USER, call);
-        call.enqueue(new Callback<ResponseBody>() {
+        return AuthenticatingCall.enqueue(call, new Callback<ResponseBody>() {
             @Override
             public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
                 try {
-                    ResponseBody object = response.body();
-                    ResponseBody errorBody = response.errorBody();
-                    String responseBodyString, errorBodyString;
-                    try {
-                        responseBodyString = object.string();
-                    } catch (Exception e){
-                        responseBodyString = null;
-                    }
-                    try {
-                        errorBodyString = errorBody.string();
-                    } catch (Exception e){
-                        errorBodyString = null;
-                    }
-                    try {
-                        ErrorHandler.checkForAuthenticatingErrorObject(object);
-                        ErrorHandler.checkForAuthenticatingError(errorBodyString);
-                    } catch (NullPointerException nope){}
-                    SimpleResponse myObjectToReturn = (SimpleResponse) RetrofitParser.convert(responseBodyString, SimpleResponse.class);
+                    SimpleResponse myObjectToReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
                     if(myObjectToReturn != null) {
                         AuthenticatingAPICalls.printOutResponseJson(myObjectToReturn, AuthenticatingConstants.TYPE_SIMPLE_RESPONSE);
                         listener.onTaskComplete(myObjectToReturn, AuthenticatingConstants.TAG_SIMPLE_RESPONSE);
@@ -1326,7 +1071,7 @@ public class AuthenticatingAPICalls {
             @Override
             public void onFailure(Call<ResponseBody> call, Throwable t) {
                 t.printStackTrace();
-                listener.onTaskComplete(buildErrorObject(t.getMessage()), AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                listener.onTaskComplete(buildErrorObject(t), AuthenticatingConstants.TAG_ERROR_RESPONSE);
             }
         });
     }
@@ -1341,14 +1086,55 @@ public class AuthenticatingAPICalls {
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
      * @param photo1Bitmap  First Photo File to parse.
      * @param photo2Bitmap  Second Photo File to parse.
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void comparePhotos(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall comparePhotos(@NonNull final OnTaskCompleteListener listener,
                                      final String companyAPIKey, final String accessCode,
                                      final Bitmap photo1Bitmap, final Bitmap photo2Bitmap) {
-        AuthenticatingAPICalls.uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode,
+        return AuthenticatingAPICalls.uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode,
                 photo1Bitmap, photo2Bitmap, UploadIdTypes.comparePhotos);
     }
 
+    /**
+     * Upload 2 photos to the endpoint for Photo proof. The files are decoded on a thread, directly
+     * at (or near) the resolution they will be uploaded at, so full size camera images are
+     * never loaded into memory.
+     *
+     * @param listener      {@link OnTaskCompleteListener}
+     * @param companyAPIKey The company api key provided by Authenticating
+     * @param accessCode    The identifier String given to a user. Obtained when creating the user
+     * @param photo1File    First Photo File to parse.
+     * @param photo2File    Second Photo File to parse.
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
+     */
+    public static AuthenticatingCall comparePhotos(@NonNull final OnTaskCompleteListener listener,
+                                     final String companyAPIKey, final String accessCode,
+                                     final File photo1File, final File photo2File) {
+        return AuthenticatingAPICalls.uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode,
+                photo1File, photo2File, UploadIdTypes.comparePhotos);
+    }
+
+    /**
+     * Upload 2 photos to the endpoint for Photo proof. The images are read through the ContentResolver (content://, file:// and
+     * android.resource:// Uris are supported) and decoded on a thread, directly at (or near)
+     * the resolution they will be uploaded at.
+     *
+     * @param listener      {@link OnTaskCompleteListener}
+     * @param context       Context used to get the ContentResolver
+     * @param companyAPIKey The company api key provided by Authenticating
+     * @param accessCode    The identifier String given to a user. Obtained when creating the user
+     * @param photo1Uri     First Photo Uri to parse.
+     * @param photo2Uri     Second Photo Uri to parse.
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
+     */
+    public static AuthenticatingCall comparePhotos(@NonNull final OnTaskCompleteListener listener,
+                                     @NonNull Context context,
+                                     final String companyAPIKey, final String accessCode,
+                                     final Uri photo1Uri, final Uri photo2Uri) {
+        return AuthenticatingAPICalls.uploadIdEndpointsJoiner(listener, context, companyAPIKey,
+                accessCode, photo1Uri, photo2Uri, UploadIdTypes.comparePhotos);
+    }
+
     /**
      * Upload 2 photos to the endpoint for Photo proof.
      * I recommend using the other asynchronous method over this one due to the possibility of more errors
@@ -1359,11 +1145,12 @@ public class AuthenticatingAPICalls {
      * @param accessCode          The identifier String given to a user. Obtained when creating the user
      * @param base64EncodedImage1 First Photo File already converted to base64 encoded String
      * @param base64EncodedImage2  Second Photo File already converted to base64 encoded String
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void comparePhotos(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall comparePhotos(@NonNull final OnTaskCompleteListener listener,
                                      String companyAPIKey, String accessCode,
                                      String base64EncodedImage1, String base64EncodedImage2) {
-        AuthenticatingAPICalls.uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode,
+        return AuthenticatingAPICalls.uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode,
                 base64EncodedImage1, base64EncodedImage2, UploadIdTypes.comparePhotos);
     }
 
@@ -1377,14 +1164,56 @@ public class AuthenticatingAPICalls {
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
      * @param idFrontBitmap  First Photo File to parse.
      * @param idBackBitmap  Second Photo File to parse.
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void uploadIdEnhanced(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall uploadIdEnhanced(@NonNull final OnTaskCompleteListener listener,
                                 final String companyAPIKey, final String accessCode,
                                 final Bitmap idFrontBitmap, final Bitmap idBackBitmap) {
-        uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode, idFrontBitmap,
+        return uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode, idFrontBitmap,
                 idBackBitmap, UploadIdTypes.uploadIdEnhanced);
     }
 
+    /**
+     * Upload 2 photos to the endpoint for uploadIdEnhanced and identify verification.
+     * The files are decoded on a thread, directly at (or near) the resolution they will be
+     * uploaded at, so full size camera images are never loaded into memory.
+     *
+     * @param listener      {@link OnTaskCompleteListener}
+     * @param companyAPIKey The company api key provided by Authenticating
+     * @param accessCode    The identifier String given to a user. Obtained when creating the user
+     * @param idFrontFile   First Photo File to parse.
+     * @param idBackFile    Second Photo File to parse.
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
+     */
+    public static AuthenticatingCall uploadIdEnhanced(@NonNull final OnTaskCompleteListener listener,
+                                final String companyAPIKey, final String accessCode,
+                                final File idFrontFile, final File idBackFile) {
+        return uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode, idFrontFile,
+                idBackFile, UploadIdTypes.uploadIdEnhanced);
+    }
+
+    /**
+     * Upload 2 photos to the endpoint for uploadIdEnhanced and identify verification.
+     * The images are read through the ContentResolver (content://, file:// and
+     * android.resource:// Uris are supported) and decoded on a thread, directly at (or near)
+     * the resolution they will be uploaded at.
+     *
+     * @param listener      {@link OnTaskCompleteListener}
+     * @param context       Context used to get the ContentResolver
+     * @param companyAPIKey The company api key provided by Authenticating
+     * @param accessCode    The identifier String given to a user. Obtained when creating the user
+     * @param idFrontUri    First Photo Uri to parse.
+     * @param idBackUri     Second Photo Uri to parse.
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
+     */
+    public static AuthenticatingCall uploadIdEnhanced(@NonNull final OnTaskCompleteListener listener,
+                                @NonNull Context context,
+                                final String companyAPIKey, final String accessCode,
+                                final Uri idFrontUri, final Uri idBackUri) {
+        return uploadIdEndpointsJoiner(listener, context, companyAPIKey, accessCode, idFrontUri,
+                idBackUri, UploadIdTypes.uploadIdEnhanced);
+    }
+
     /**
      * Upload 2 photos to the endpoint for uploadIdEnhanced and identify verification.
      * I recommend using the other asynchronous method over this one due to the possibility of more errors
@@ -1395,11 +1224,12 @@ public class AuthenticatingAPICalls {
      * @param accessCode          The identifier String given to a user. Obtained when creating the user
      * @param base64EncodedIdFront First Photo File already converted to base64 encoded String
      * @param base64EncodedIdBack  Second Photo File already converted to base64 encoded String
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void uploadIdEnhanced(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall uploadIdEnhanced(@NonNull final OnTaskCompleteListener listener,
                                 String companyAPIKey, String accessCode,
                                 String base64EncodedIdFront, String base64EncodedIdBack) {
-        uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode, base64EncodedIdFront,
+        return uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode, base64EncodedIdFront,
                 base64EncodedIdBack, UploadIdTypes.uploadIdEnhanced);
     }
 
@@ -1412,14 +1242,56 @@ public class AuthenticatingAPICalls {
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
      * @param idFrontBitmap  First Photo File to parse.
      * @param idBackBitmap  Second Photo File to parse.
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void uploadId(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall uploadId(@NonNull final OnTaskCompleteListener listener,
                                      final String companyAPIKey, final String accessCode,
                                      final Bitmap idFrontBitmap, final Bitmap idBackBitmap) {
-        uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode, idFrontBitmap,
+        return uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode, idFrontBitmap,
                 idBackBitmap, UploadIdTypes.uploadId);
     }
 
+    /**
+     * Upload 2 photos to the endpoint for uploadId and identify verification. The files are
+     * decoded on a thread, directly at (or near) the resolution they will be uploaded at, so
+     * full size camera images are never loaded into memory.
+     *
+     * @param listener      {@link OnTaskCompleteListener}
+     * @param companyAPIKey The company api key provided by Authenticating
+     * @param accessCode    The identifier String given to a user. Obtained when creating the user
+     * @param idFrontFile   First Photo File to parse.
+     * @param idBackFile    Second Photo File to parse.
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
+     */
+    public static AuthenticatingCall uploadId(@NonNull final OnTaskCompleteListener listener,
+                                     final String companyAPIKey, final String accessCode,
+                                     final File idFrontFile, final File idBackFile) {
+        return uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode, idFrontFile,
+                idBackFile, UploadIdTypes.uploadId);
+    }
+
+    /**
+     * Upload 2 photos to the endpoint for uploadId and identify verification.
+     * The images are read through the ContentResolver (content://, file:// and
+     * android.resource:// Uris are supported) and decoded on a thread, directly at (or near)
+     * the resolution they will be uploaded at.
+     *
+     * @param listener      {@link OnTaskCompleteListener}
+     * @param context       Context used to get the ContentResolver
+     * @param companyAPIKey The company api key provided by Authenticating
+     * @param accessCode    The identifier String given to a user. Obtained when creating the user
+     * @param idFrontUri    First Photo Uri to parse.
+     * @param idBackUri     Second Photo Uri to parse.
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
+     */
+    public static AuthenticatingCall uploadId(@NonNull final OnTaskCompleteListener listener,
+                                     @NonNull Context context,
+                                     final String companyAPIKey, final String accessCode,
+                                     final Uri idFrontUri, final Uri idBackUri) {
+        return uploadIdEndpointsJoiner(listener, context, companyAPIKey, accessCode, idFrontUri,
+                idBackUri, UploadIdTypes.uploadId);
+    }
+
     /**
      * Upload 2 photos to the endpoint for uploadId and identify verification.
      * I recommend using the other asynchronous method over this one due to the possibility of more errors
@@ -1430,11 +1302,12 @@ public class AuthenticatingAPICalls {
      * @param accessCode          The identifier String given to a user. Obtained when creating the user
      * @param base64EncodedIdFront First Photo File already converted to base64 encoded String
      * @param base64EncodedIdBack  Second Photo File already converted to base64 encoded String
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void uploadId(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall uploadId(@NonNull final OnTaskCompleteListener listener,
                                      String companyAPIKey, String accessCode,
                                      String base64EncodedIdFront, String base64EncodedIdBack) {
-        uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode, base64EncodedIdFront,
+        return uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode, base64EncodedIdFront,
                 base64EncodedIdBack, UploadIdTypes.uploadId);
     }
     
@@ -1447,11 +1320,52 @@ public class AuthenticatingAPICalls {
      * @param companyAPIKey The company api key provided by Authenticating
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
      * @param idFrontBitmap  First Photo File to parse.
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void uploadPassport(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall uploadPassport(@NonNull final OnTaskCompleteListener listener,
                                 final String companyAPIKey, final String accessCode,
                                 final Bitmap idFrontBitmap) {
-        uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode, idFrontBitmap,
+        return uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode, idFrontBitmap,
+                null, UploadIdTypes.uploadPassport);
+    }
+
+    /**
+     * Upload a picture of a passport for the verification process. Note that only the front (The
+     * portion with the data, usually on the first or second page) is required. The file is
+     * decoded on a thread, directly at (or near) the resolution it will be uploaded at.
+     *
+     * @param listener      {@link OnTaskCompleteListener}
+     * @param companyAPIKey The company api key provided by Authenticating
+     * @param accessCode    The identifier String given to a user. Obtained when creating the user
+     * @param idFrontFile   Photo File to parse.
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
+     */
+    public static AuthenticatingCall uploadPassport(@NonNull final OnTaskCompleteListener listener,
+                                final String companyAPIKey, final String accessCode,
+                                final File idFrontFile) {
+        return uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode, idFrontFile,
+                null, UploadIdTypes.uploadPassport);
+    }
+
+    /**
+     * Upload a picture of a passport for the verification process. Note that only the front (The
+     * portion with the data, usually on the first or second page) is required.
+     * The images are read through the ContentResolver (content://, file:// and
+     * android.resource:// Uris are supported) and decoded on a thread, directly at (or near)
+     * the resolution they will be uploaded at.
+     *
+     * @param listener      {@link OnTaskCompleteListener}
+     * @param context       Context used to get the ContentResolver
+     * @param companyAPIKey The company api key provided by Authenticating
+     * @param accessCode    The identifier String given to a user. Obtained when creating the user
+     * @param idFrontUri    Photo Uri to parse.
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
+     */
+    public static AuthenticatingCall uploadPassport(@NonNull final OnTaskCompleteListener listener,
+                                @NonNull Context context,
+                                final String companyAPIKey, final String accessCode,
+                                final Uri idFrontUri) {
+        return uploadIdEndpointsJoiner(listener, context, companyAPIKey, accessCode, idFrontUri,
                 null, UploadIdTypes.uploadPassport);
     }
 
@@ -1465,90 +1379,101 @@ public class AuthenticatingAPICalls {
      * @param companyAPIKey       The company api key provided by Authenticating
      * @param accessCode          The identifier String given to a user. Obtained when creating the user
      * @param base64EncodedIdFront First Photo File already converted to base64 encoded String
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void uploadPassport(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall uploadPassport(@NonNull final OnTaskCompleteListener listener,
                                 String companyAPIKey, String accessCode,
                                 String base64EncodedIdFront) {
-        uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode, base64EncodedIdFront,
+        return uploadIdEndpointsJoiner(listener, companyAPIKey, accessCode, base64EncodedIdFront,
                 null, UploadIdTypes.uploadPassport);
     }
 
-    private static void uploadIdEndpointsJoiner(@NonNull final OnTaskCompleteListener listener,
+    /**
+     * Send any image uploads (uploadId, uploadIdEnhanced, uploadPassport, comparePhotos) for
+     * this user again that were prepared but did not complete. IE, due to a network failure or
+     * the app being closed mid upload. The images are not processed again, the prepared
+     * upload is sent from disk (See {@link UploadSpool}). The listener is called once for
+     * every upload that is resent. Uploads that are still in progress are not resent.
+     * Only uploads made while {@link UploadSpool#setEnabled(boolean)} is on can be resumed.
+     * Starting a new upload to an endpoint discards the pending one for it, so an app that
+     * retries by uploading again will not also resend it here. An upload already being resent
+     * is not stopped by a new one though, do not do both at the same time.
+     *
+     * @param listener      {@link OnTaskCompleteListener}
+     * @param companyAPIKey The company api key provided by Authenticating
+     * @param accessCode    The identifier String given to a user. Obtained when creating the user
+     * @return An {@link AuthenticatingCall} for every upload that was resent, empty if there
+     *         were none. Cancel them if the results are no longer needed.
+     */
+    @NonNull
+    public static List<AuthenticatingCall> resumePendingUploads(
+            @NonNull final OnTaskCompleteListener listener, String companyAPIKey,
+            String accessCode) {
+        List<AuthenticatingCall> resumed = new ArrayList<>();
+        if (StringUtilities.isNullOrEmpty(accessCode)) {
+            return resumed;
+        }
+        for (UploadSpool.SpooledRequestBody uploadBody : UploadSpool.getPending(accessCode)) {
+            UploadIdTypes type;
+            try {
+                type = UploadIdTypes.valueOf(uploadBody.getEndpoint());
+            } catch (IllegalArgumentException e) {
+                //Not written by this version of the SDK
+                uploadBody.release(true);
+                continue;
+            }
+            //Not AuthenticatingCall.enqueue(), the callback must still run to free the body
+            AuthenticatingCall handle = new AuthenticatingCall();
+            Call<ResponseBody> call = buildUploadCall(companyAPIKey, type, uploadBody);
+            call.enqueue(buildUploadCallback(handle, handle.guard(listener), uploadBody));
+            handle.setCall(call);
+            resumed.add(handle);
+        }
+        return resumed;
+    }
+
+    private static AuthenticatingCall uploadIdEndpointsJoiner(@NonNull final OnTaskCompleteListener listener,
                                           final String companyAPIKey, final String accessCode,
                                           String base64EncodedIdFront, String base64EncodedIdBack,
                                           UploadIdTypes type){
         if (StringUtilities.isNullOrEmpty(accessCode)) {
             listener.onTaskComplete(buildMissingAuthKeyError(),
                     AuthenticatingConstants.TAG_ERROR_RESPONSE);
-            return;
+            return AuthenticatingCall.completed();
         }
 
         if(type == UploadIdTypes.uploadPassport){
             if(StringUtilities.isNullOrEmpty(base64EncodedIdFront)){
                 listener.onTaskComplete(buildErrorObject("Please pass in a valid photo"),
                         AuthenticatingConstants.TAG_ERROR_RESPONSE);
-                return;
+                return AuthenticatingCall.completed();
             }
         } else {
             if (StringUtilities.isNullOrEmpty(base64EncodedIdFront) ||
                     StringUtilities.isNullOrEmpty(base64EncodedIdBack)) {
                 listener.onTaskComplete(buildErrorObject("Please pass in a valid photo"),
                         AuthenticatingConstants.TAG_ERROR_RESPONSE);
-                return;
+                return AuthenticatingCall.completed();
             }
         }
 
-        UploadPhotosObj uploadPhotosObj = new UploadPhotosObj();
-        uploadPhotosObj.setAccessCode(accessCode);
-        Call<ResponseBody> call;
-        switch (type){
-
-            case uploadPassport:
-                uploadPhotosObj.setIdFront(base64EncodedIdFront);
-                call = myService.uploadPassport(companyAPIKey, uploadPhotosObj);
-                break;
-
-            case uploadId:
-                uploadPhotosObj.setIdFront(base64EncodedIdFront);
-                uploadPhotosObj.setIdBack(base64EncodedIdBack);
-                call = myService.uploadId(companyAPIKey, uploadPhotosObj);
-                break;
-
-            case uploadIdEnhanced:
-                uploadPhotosObj.setIdFront(base64EncodedIdFront);
-                uploadPhotosObj.setIdBack(base64EncodedIdBack);
-                call = myService.uploadIdEnhanced(companyAPIKey, uploadPhotosObj);
-                break;
-
-            default:
-            case comparePhotos:
-                uploadPhotosObj.setImg1(base64EncodedIdFront);
-                uploadPhotosObj.setImg2(base64EncodedIdBack);
-                call = myService.comparePhotos(companyAPIKey, uploadPhotosObj);
-                break;
+        if (!Base64Validator.isValid(base64EncodedIdFront) ||
+                (type != UploadIdTypes.uploadPassport && !Base64Validator.isValid(base64EncodedIdBack))) {
+            listener.onTaskComplete(buildErrorObject("Improperly formatted base64Encoded Strings"),
+                    AuthenticatingConstants.TAG_ERROR_RESPONSE);
+            return AuthenticatingCall.completed();
         }
-        call.enqueue(new Callback<ResponseBody>() {
+
+        ImageUploadRequestBody uploadBody = buildUploadRequestBody(type, accessCode,
+                new ImageUploadRequestBody.Base64StringPart(base64EncodedIdFront),
+                (type == UploadIdTypes.uploadPassport) ? null
+                        : new ImageUploadRequestBody.Base64StringPart(base64EncodedIdBack));
+        Call<ResponseBody> call = buildUploadCall(companyAPIKey, type, uploadBody);
+        return AuthenticatingCall.enqueue(call, new Callback<ResponseBody>() {
             @Override
             public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
                 try {
-                    ResponseBody object = response.body();
-                    ResponseBody errorBody = response.errorBody();
-                    String responseBodyString, errorBodyString;
-                    try {
-                        responseBodyString = object.string();
-                    } catch (Exception e){
-                        responseBodyString = null;
-                    }
-                    try {
-                        errorBodyString = errorBody.string();
-                    } catch (Exception e){
-                        errorBodyString = null;
-                    }
-                    try {
-                        ErrorHandler.checkForAuthenticatingErrorObject(object);
-                        ErrorHandler.checkForAuthenticatingError(errorBodyString);
-                    } catch (NullPointerException nope){}
-                    SimpleResponse myObjectToReturn = (SimpleResponse) RetrofitParser.convert(responseBodyString, SimpleResponse.class);
+                    SimpleResponse myObjectToReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
                     if(myObjectToReturn != null) {
                         AuthenticatingAPICalls.printOutResponseJson(myObjectToReturn, AuthenticatingConstants.TYPE_SIMPLE_RESPONSE);
                         listener.onTaskComplete(myObjectToReturn, AuthenticatingConstants.TAG_SIMPLE_RESPONSE);
@@ -1571,32 +1496,32 @@ public class AuthenticatingAPICalls {
             @Override
             public void onFailure(Call<ResponseBody> call, Throwable t) {
                 t.printStackTrace();
-                listener.onTaskComplete(buildErrorObject(t.getMessage()), AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                listener.onTaskComplete(buildErrorObject(t), AuthenticatingConstants.TAG_ERROR_RESPONSE);
             }
         });
     }
 
-    private static void uploadIdEndpointsJoiner(@NonNull final OnTaskCompleteListener listener,
+    private static AuthenticatingCall uploadIdEndpointsJoiner(@NonNull final OnTaskCompleteListener listener,
                                           final String companyAPIKey, final String accessCode,
                                           final Bitmap idFrontBitmap, final Bitmap idBackBitmap,
                                           final UploadIdTypes type){
         if (StringUtilities.isNullOrEmpty(accessCode)) {
             listener.onTaskComplete(buildMissingAuthKeyError(),
                     AuthenticatingConstants.TAG_ERROR_RESPONSE);
-            return;
+            return AuthenticatingCall.completed();
         }
 
         if(type == UploadIdTypes.uploadPassport){
             if (idFrontBitmap == null) {
                 listener.onTaskComplete(buildErrorObject("Please pass in a valid photo"),
                         AuthenticatingConstants.TAG_ERROR_RESPONSE);
-                return;
+                return AuthenticatingCall.completed();
             }
         } else {
             if (idFrontBitmap == null || idBackBitmap == null) {
                 listener.onTaskComplete(buildErrorObject("Please pass in a valid photo"),
                         AuthenticatingConstants.TAG_ERROR_RESPONSE);
-                return;
+                return AuthenticatingCall.completed();
             }
         }
 
@@ -1604,93 +1529,119 @@ public class AuthenticatingAPICalls {
             if (idFrontBitmap.getRowBytes() <= 0 || idFrontBitmap.getHeight() <= 0) {
                 listener.onTaskComplete(buildErrorObject("Please pass in a valid photo"),
                         AuthenticatingConstants.TAG_ERROR_RESPONSE);
-                return;
+                return AuthenticatingCall.completed();
             }
         } else {
             if (idFrontBitmap.getRowBytes() <= 0 || idFrontBitmap.getHeight() <= 0 ||
                     idBackBitmap.getRowBytes() <= 0 || idBackBitmap.getHeight() <= 0) {
                 listener.onTaskComplete(buildErrorObject("Please pass in a valid photo"),
                         AuthenticatingConstants.TAG_ERROR_RESPONSE);
-                return;
+                return AuthenticatingCall.completed();
             }
         }
 
-        ConvertPhotosAsync async = new ConvertPhotosAsync(null, new OnTaskCompleteListener() {
-            @Override
-            public void onTaskComplete(Object result, int customTag) {
-                if(customTag == AuthenticatingConstants.TAG_UPLOAD_PHOTO_OBJECT){
-                    UploadPhotosObj uploadPhotosObj = (UploadPhotosObj) result;
-                    if(uploadPhotosObj == null){
+        AuthenticatingCall handle = new AuthenticatingCall();
+        ConvertPhotosAsync async = new ConvertPhotosAsync(null,
+                buildConvertedPhotosListener(handle, listener, companyAPIKey, type),
+                idFrontBitmap, idBackBitmap, type).setAccessCode(accessCode);
+        handle.setTask(async);
+        //Runs on the SDK's own executor rather than the app wide AsyncTask serial executor
+        async.executeOnExecutor(ImageProcessingExecutor.getTaskExecutor());
+        return handle;
+    }
+
+    private static AuthenticatingCall uploadIdEndpointsJoiner(@NonNull final OnTaskCompleteListener listener,
+                                          final String companyAPIKey, final String accessCode,
+                                          final File idFrontFile, final File idBackFile,
+                                          final UploadIdTypes type){
+        if (StringUtilities.isNullOrEmpty(accessCode)) {
+            listener.onTaskComplete(buildMissingAuthKeyError(),
+                    AuthenticatingConstants.TAG_ERROR_RESPONSE);
+            return AuthenticatingCall.completed();
+        }
+
+        if(type == UploadIdTypes.uploadPassport){
+            if (idFrontFile == null || !idFrontFile.exists()) {
+                listener.onTaskComplete(buildErrorObject("Please pass in a valid photo"),
+                        AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                return AuthenticatingCall.completed();
+            }
+        } else {
+            if (idFrontFile == null || idBackFile == null ||
+                    !idFrontFile.exists() || !idBackFile.exists()) {
+                listener.onTaskComplete(buildErrorObject("Please pass in a valid photo"),
+                        AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                return AuthenticatingCall.completed();
+            }
+        }
+
+        //Files are decoded (subsampled) off of the main thread
+        AuthenticatingCall handle = new AuthenticatingCall();
+        ConvertPhotosAsync async = new ConvertPhotosAsync(null,
+                buildConvertedPhotosListener(handle, listener, companyAPIKey, type),
+                idFrontFile, idBackFile, type).setAccessCode(accessCode);
+        handle.setTask(async);
+        async.executeOnExecutor(ImageProcessingExecutor.getTaskExecutor());
+        return handle;
+    }
+
+    private static AuthenticatingCall uploadIdEndpointsJoiner(@NonNull final OnTaskCompleteListener listener,
+                                          @NonNull Context context,
+                                          final String companyAPIKey, final String accessCode,
+                                          final Uri idFrontUri, final Uri idBackUri,
+                                          final UploadIdTypes type){
+        if (StringUtilities.isNullOrEmpty(accessCode)) {
+            listener.onTaskComplete(buildMissingAuthKeyError(),
+                    AuthenticatingConstants.TAG_ERROR_RESPONSE);
+            return AuthenticatingCall.completed();
+        }
+
+        if (idFrontUri == null || (type != UploadIdTypes.uploadPassport && idBackUri == null)) {
+            listener.onTaskComplete(buildErrorObject(SENT_IMAGE_BAD),
+                    AuthenticatingConstants.TAG_ERROR_RESPONSE);
+            return AuthenticatingCall.completed();
+        }
+
+        //Only the ContentResolver is held onto, not the Context
+        AuthenticatingCall handle = new AuthenticatingCall();
+        ConvertPhotosAsync async = new ConvertPhotosAsync(null,
+                buildConvertedPhotosListener(handle, listener, companyAPIKey, type),
+                context.getContentResolver(), idFrontUri, idBackUri, type)
+                .setAccessCode(accessCode);
+        handle.setTask(async);
+        async.executeOnExecutor(ImageProcessingExecutor.getTaskExecutor());
+        return handle;
+    }
+
+    /**
+     * Build the listener that receives the prepared upload body from
+     * {@link ConvertPhotosAsync} and makes the upload call with it
+     * @param handle {@link AuthenticatingCall} returned to the caller
+     * @param callerListener {@link OnTaskCompleteListener} to send the final result to
+     * @param companyAPIKey The company api key provided by Authenticating
+     * @param type Endpoint to call
+     * @return {@link OnTaskCompleteListener}
+     */
+    private static OnTaskCompleteListener buildConvertedPhotosListener(
+            @NonNull final AuthenticatingCall handle,
+            @NonNull OnTaskCompleteListener callerListener, final String companyAPIKey,
+            final UploadIdTypes type){
+        final OnTaskCompleteListener listener = handle.guard(callerListener);
+        return new OnTaskCompleteListener() {
+            @Override
+            public void onTaskComplete(Object result, int customTag) {
+                if(customTag == AuthenticatingConstants.TAG_UPLOAD_PHOTO_OBJECT){
+                    RequestBody uploadBody = (RequestBody) result;
+                    if(uploadBody == null){
                         listener.onTaskComplete(buildErrorObject("Could not convert images"),
                                 AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                    } else if (handle.isCanceled()){
+                        releaseUploadBody(uploadBody, true);
                     } else {
-                        uploadPhotosObj.setAccessCode(accessCode);
-                        Call<ResponseBody> call;
-                        switch (type){
-                            case uploadPassport:
-                                call = myService.uploadPassport(companyAPIKey, uploadPhotosObj);
-                                break;
-
-                            case uploadId:
-                                call = myService.uploadId(companyAPIKey, uploadPhotosObj);
-                                break;
-
-                            case uploadIdEnhanced:
-                                call = myService.uploadIdEnhanced(companyAPIKey, uploadPhotosObj);
-                                break;
-                                
-                            case comparePhotos:
-                            default:
-                                call = myService.comparePhotos(companyAPIKey, uploadPhotosObj);
-                                break;
-                        }
-                        call.enqueue(new Callback<ResponseBody>() {
-                            @Override
-                            public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
-                                try {
-                                    ResponseBody object = response.body();
-                                    ResponseBody errorBody = response.errorBody();
-                                    String responseBodyString, errorBodyString;
-                                    try {
-                                        responseBodyString = object.string();
-                                    } catch (Exception e){
-                                        responseBodyString = null;
-                                    }
-                                    try {
-                                        errorBodyString = errorBody.string();
-                                    } catch (Exception e){
-                                        errorBodyString = null;
-                                    }
-                                    try {
-                                        ErrorHandler.checkForAuthenticatingErrorObject(object);
-                                        ErrorHandler.checkForAuthenticatingError(errorBodyString);
-                                    } catch (NullPointerException nope){}
-                                    SimpleResponse myObjectToReturn = (SimpleResponse) RetrofitParser.convert(responseBodyString, SimpleResponse.class);
-                                    if(myObjectToReturn != null) {
-                                        AuthenticatingAPICalls.printOutResponseJson(myObjectToReturn, AuthenticatingConstants.TYPE_SIMPLE_RESPONSE);
-                                        listener.onTaskComplete(myObjectToReturn, AuthenticatingConstants.TAG_SIMPLE_RESPONSE);
-                                    } else {
-                                        AuthenticatingException parseError = buildParsingError();
-                                        listener.onTaskComplete(parseError, AuthenticatingConstants.TAG_ERROR_RESPONSE);
-                                        AuthenticatingAPICalls.printOutResponseJson(parseError, AuthenticatingConstants.TYPE_AUTHENTICATING_ERROR);
-                                    }
-
-                                } catch (AuthenticatingException authE) {
-                                    listener.onTaskComplete(authE, AuthenticatingConstants.TAG_ERROR_RESPONSE);
-                                    AuthenticatingAPICalls.printOutResponseJson(authE, AuthenticatingConstants.TYPE_AUTHENTICATING_ERROR);
-                                } catch (Exception e) {
-                                    e.printStackTrace();
-                                    listener.onTaskComplete(buildErrorObject(e.getMessage()),
-                                            AuthenticatingConstants.TAG_ERROR_RESPONSE);
-                                }
-                            }
-
-                            @Override
-                            public void onFailure(Call<ResponseBody> call, Throwable t) {
-                                t.printStackTrace();
-                                listener.onTaskComplete(buildErrorObject(t.getMessage()), AuthenticatingConstants.TAG_ERROR_RESPONSE);
-                            }
-                        });
+                        //Cancelling the call still calls the callback, which frees the body
+                        Call<ResponseBody> call = buildUploadCall(companyAPIKey, type, uploadBody);
+                        call.enqueue(buildUploadCallback(handle, listener, uploadBody));
+                        handle.setCall(call);
                     }
                 } else if (customTag == AuthenticatingConstants.TAG_ERROR_RESPONSE){
                     listener.onTaskComplete(((AuthenticatingException)result),
@@ -1700,8 +1651,57 @@ public class AuthenticatingAPICalls {
                             AuthenticatingConstants.TAG_ERROR_RESPONSE);
                 }
             }
-        }, idFrontBitmap, idBackBitmap, type);
-        async.execute();
+        };
+    }
+
+    /**
+     * Build the callback for an image upload call. Releases the body once the call completes.
+     * @param handle {@link AuthenticatingCall} for the upload
+     * @param listener {@link OnTaskCompleteListener} to send the result to
+     * @param uploadBody Body being sent
+     * @return {@link Callback}
+     */
+    private static Callback<ResponseBody> buildUploadCallback(
+            @NonNull final AuthenticatingCall handle,
+            @NonNull final OnTaskCompleteListener listener, final RequestBody uploadBody){
+        return new Callback<ResponseBody>() {
+            @Override
+            public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
+                //Body has been fully written, bitmaps / spool file are no longer needed
+                releaseUploadBody(uploadBody, true);
+                try {
+                    SimpleResponse myObjectToReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
+                    if(myObjectToReturn != null) {
+                        AuthenticatingAPICalls.printOutResponseJson(myObjectToReturn, AuthenticatingConstants.TYPE_SIMPLE_RESPONSE);
+                        listener.onTaskComplete(myObjectToReturn, AuthenticatingConstants.TAG_SIMPLE_RESPONSE);
+                    } else {
+                        AuthenticatingException parseError = buildParsingError();
+                        listener.onTaskComplete(parseError, AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                        AuthenticatingAPICalls.printOutResponseJson(parseError, AuthenticatingConstants.TYPE_AUTHENTICATING_ERROR);
+                    }
+
+                } catch (AuthenticatingException authE) {
+                    listener.onTaskComplete(authE, AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                    AuthenticatingAPICalls.printOutResponseJson(authE, AuthenticatingConstants.TYPE_AUTHENTICATING_ERROR);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    listener.onTaskComplete(buildErrorObject(e.getMessage()),
+                            AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                }
+            }
+
+            @Override
+            public void onFailure(Call<ResponseBody> call, Throwable t) {
+                //A spooled body is kept so that the upload can be resumed, unless it was cancelled
+                boolean canceled = handle.isCanceled();
+                releaseUploadBody(uploadBody, canceled);
+                if(canceled){
+                    return;
+                }
+                t.printStackTrace();
+                listener.onTaskComplete(buildErrorObject(t), AuthenticatingConstants.TAG_ERROR_RESPONSE);
+            }
+        };
     }
 
     /**
@@ -1710,44 +1710,28 @@ public class AuthenticatingAPICalls {
      * @param listener {@link OnTaskCompleteListener}
      * @param companyAPIKey The company api key provided by Authenticating
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
-     * @return {@link CheckPhotoResults}
      * @throws AuthenticatingException {@link AuthenticatingException}
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed. The
+     *         listener receives a {@link CheckPhotoResults}
      */
-    public static void checkUploadId(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall checkUploadId(@NonNull final OnTaskCompleteListener listener,
                                                                           String companyAPIKey,
                                                                           String accessCode) {
         if (StringUtilities.isNullOrEmpty(accessCode)) {
             listener.onTaskComplete(buildMissingAuthKeyError(),
                     AuthenticatingConstants.TAG_ERROR_RESPONSE);
-            return;
+            return AuthenticatingCall.completed();
         }
 
         User u = new User();
         u.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.checkUploadId(companyAPIKey, u);
+        Call<ResponseBody> call = getMyService().checkUploadId(companyAPIKey, u);
         AuthenticatingAPICalls.printOutRequestJson(u, AuthenticatingConstants.TYPE_USER, call);
-        call.enqueue(new Callback<ResponseBody>() {
+        return AuthenticatingCall.enqueue(call, new Callback<ResponseBody>() {
             @Override
             public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
                 try {
-                    ResponseBody object = response.body();
-                    ResponseBody errorBody = response.errorBody();
-                    String responseBodyString, errorBodyString;
-                    try {
-                        responseBodyString = object.string();
-                    } catch (Exception e){
-                        responseBodyString = null;
-                    }
-                    try {
-                        errorBodyString = errorBody.string();
-                    } catch (Exception e){
-                        errorBodyString = null;
-                    }
-                    try {
-                        ErrorHandler.checkForAuthenticatingErrorObject(object);
-                        ErrorHandler.checkForAuthenticatingError(errorBodyString);
-                    } catch (NullPointerException nope){}
-                    CheckPhotoResults myObjectToReturn = (CheckPhotoResults) RetrofitParser.convert(responseBodyString, CheckPhotoResults.class);
+                    CheckPhotoResults myObjectToReturn = RetrofitParser.parseResponse(response, CheckPhotoResults.class);
                     if(myObjectToReturn != null) {
                         AuthenticatingAPICalls.printOutResponseJson(myObjectToReturn, AuthenticatingConstants.TYPE_CHECK_PHOTO_RESULT);
                         listener.onTaskComplete(myObjectToReturn, AuthenticatingConstants.TAG_CHECK_PHOTO_RESULT);
@@ -1770,7 +1754,7 @@ public class AuthenticatingAPICalls {
             @Override
             public void onFailure(Call<ResponseBody> call, Throwable t) {
                 t.printStackTrace();
-                listener.onTaskComplete(buildErrorObject(t.getMessage()),
+                listener.onTaskComplete(buildErrorObject(t),
                         AuthenticatingConstants.TAG_ERROR_RESPONSE);
             }
         });
@@ -1782,44 +1766,28 @@ public class AuthenticatingAPICalls {
      * @param listener {@link OnTaskCompleteListener}
      * @param companyAPIKey The company api key provided by Authenticating
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
-     * @return {@link CheckPhotoResults}
      * @throws AuthenticatingException {@link AuthenticatingException}
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed. The
+     *         listener receives a {@link CheckPhotoResults}
      */
-    public static void checkUploadPassport(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall checkUploadPassport(@NonNull final OnTaskCompleteListener listener,
                                      String companyAPIKey,
                                      String accessCode) {
         if (StringUtilities.isNullOrEmpty(accessCode)) {
             listener.onTaskComplete(buildMissingAuthKeyError(),
                     AuthenticatingConstants.TAG_ERROR_RESPONSE);
-            return;
+            return AuthenticatingCall.completed();
         }
 
         User u = new User();
         u.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.checkUploadPassport(companyAPIKey, u);
+        Call<ResponseBody> call = getMyService().checkUploadPassport(companyAPIKey, u);
         AuthenticatingAPICalls.printOutRequestJson(u, AuthenticatingConstants.TYPE_USER, call);
-        call.enqueue(new Callback<ResponseBody>() {
+        return AuthenticatingCall.enqueue(call, new Callback<ResponseBody>() {
             @Override
             public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
                 try {
-                    ResponseBody object = response.body();
-                    ResponseBody errorBody = response.errorBody();
-                    String responseBodyString, errorBodyString;
-                    try {
-                        responseBodyString = object.string();
-                    } catch (Exception e){
-                        responseBodyString = null;
-                    }
-                    try {
-                        errorBodyString = errorBody.string();
-                    } catch (Exception e){
-                        errorBodyString = null;
-                    }
-                    try {
-                        ErrorHandler.checkForAuthenticatingErrorObject(object);
-                        ErrorHandler.checkForAuthenticatingError(errorBodyString);
-                    } catch (NullPointerException nope){}
-                    CheckPhotoResults myObjectToReturn = (CheckPhotoResults) RetrofitParser.convert(responseBodyString, CheckPhotoResults.class);
+                    CheckPhotoResults myObjectToReturn = RetrofitParser.parseResponse(response, CheckPhotoResults.class);
                     if(myObjectToReturn != null) {
                         AuthenticatingAPICalls.printOutResponseJson(myObjectToReturn, AuthenticatingConstants.TYPE_CHECK_PHOTO_RESULT);
                         listener.onTaskComplete(myObjectToReturn, AuthenticatingConstants.TAG_CHECK_PHOTO_RESULT);
@@ -1842,7 +1810,7 @@ public class AuthenticatingAPICalls {
             @Override
             public void onFailure(Call<ResponseBody> call, Throwable t) {
                 t.printStackTrace();
-                listener.onTaskComplete(buildErrorObject(t.getMessage()),
+                listener.onTaskComplete(buildErrorObject(t),
                         AuthenticatingConstants.TAG_ERROR_RESPONSE);
             }
         });
@@ -1859,42 +1827,26 @@ public class AuthenticatingAPICalls {
      * @param listener      {@link OnTaskCompleteListener}
      * @param companyAPIKey The company api key provided by Authenticating
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void getQuiz(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall getQuiz(@NonNull final OnTaskCompleteListener listener,
                                String companyAPIKey,
                                String accessCode) {
 
         if (StringUtilities.isNullOrEmpty(accessCode)) {
             listener.onTaskComplete(buildMissingAuthKeyError(),
                     AuthenticatingConstants.TAG_ERROR_RESPONSE);
-            return;
+            return AuthenticatingCall.completed();
         }
         User u = new User();
         u.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.getQuiz(companyAPIKey, u);
+        Call<ResponseBody> call = getMyService().getQuiz(companyAPIKey, u);
         AuthenticatingAPICalls.printOutRequestJson(u, AuthenticatingConstants.TYPE_USER, call);
-        call.enqueue(new Callback<ResponseBody>() {
+        return AuthenticatingCall.enqueue(call, new Callback<ResponseBody>() {
             @Override
             public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
                 try {
-                    ResponseBody object = response.body();
-                    ResponseBody errorBody = response.errorBody();
-                    String responseBodyString, errorBodyString;
-                    try {
-                        responseBodyString = object.string();
-                    } catch (Exception e){
-                        responseBodyString = null;
-                    }
-                    try {
-                        errorBodyString = errorBody.string();
-                    } catch (Exception e){
-                        errorBodyString = null;
-                    }
-                    try {
-                        ErrorHandler.checkForAuthenticatingErrorObject(object);
-                        ErrorHandler.checkForAuthenticatingError(errorBodyString);
-                    } catch (NullPointerException nope){}
-                    QuizObject myObjectToReturn = (QuizObject) RetrofitParser.convert(responseBodyString, QuizObject.class);
+                    QuizObject myObjectToReturn = RetrofitParser.parseResponse(response, QuizObject.class);
                     if(myObjectToReturn != null) {
                         AuthenticatingAPICalls.printOutResponseJson(myObjectToReturn, AuthenticatingConstants.TYPE_QUIZ_QUESTIONS);
                         listener.onTaskComplete(myObjectToReturn, AuthenticatingConstants.TAG_QUIZ_QUESTIONS);
@@ -1917,7 +1869,7 @@ public class AuthenticatingAPICalls {
             @Override
             public void onFailure(Call<ResponseBody> call, Throwable t) {
                 t.printStackTrace();
-                listener.onTaskComplete(buildErrorObject(t.getMessage()), AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                listener.onTaskComplete(buildErrorObject(t), AuthenticatingConstants.TAG_ERROR_RESPONSE);
             }
         });
     }
@@ -1937,8 +1889,9 @@ public class AuthenticatingAPICalls {
      *                         This is obtained from the {@link QuizObject} obtained from getQuiz()
      * @param responseUniqueId The quiz response unique id.
      *                         This is obtained from the {@link QuizObject} obtained from getQuiz()
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void verifyQuiz(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall verifyQuiz(@NonNull final OnTaskCompleteListener listener,
                                   String companyAPIKey,
                                   String accessCode, VerifyQuizObj.Answer[] answers,
                                   String quizId, String transactionId,
@@ -1947,7 +1900,7 @@ public class AuthenticatingAPICalls {
         if (StringUtilities.isNullOrEmpty(accessCode)) {
             listener.onTaskComplete(buildMissingAuthKeyError(),
                     AuthenticatingConstants.TAG_ERROR_RESPONSE);
-            return;
+            return AuthenticatingCall.completed();
         }
         VerifyQuizObj v = new VerifyQuizObj();
         v.setAccessCode(accessCode);
@@ -1956,30 +1909,13 @@ public class AuthenticatingAPICalls {
         v.setTransactionID(transactionId);
         v.setResponseUniqueId(responseUniqueId);
 
-        Call<ResponseBody> call = myService.verifyQuiz(companyAPIKey, v);
+        Call<ResponseBody> call = getMyService().verifyQuiz(companyAPIKey, v);
         AuthenticatingAPICalls.printOutRequestJson(v, AuthenticatingConstants.TYPE_VERIFY_QUIZ_OBJ, call);
-        call.enqueue(new Callback<ResponseBody>() {
+        return AuthenticatingCall.enqueue(call, new Callback<ResponseBody>() {
             @Override
             public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
                 try {
-                    ResponseBody object = response.body();
-                    ResponseBody errorBody = response.errorBody();
-                    String responseBodyString, errorBodyString;
-                    try {
-                        responseBodyString = object.string();
-                    } catch (Exception e){
-                        responseBodyString = null;
-                    }
-                    try {
-                        errorBodyString = errorBody.string();
-                    } catch (Exception e){
-                        errorBodyString = null;
-                    }
-                    try {
-                        ErrorHandler.checkForAuthenticatingErrorObject(object);
-                        ErrorHandler.checkForAuthenticatingError(errorBodyString);
-                    } catch (NullPointerException nope){}
-                    SimpleResponse myObjectToReturn = (SimpleResponse) RetrofitParser.convert(responseBodyString, SimpleResponse.class);
+                    SimpleResponse myObjectToReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
                     if(myObjectToReturn != null) {
                         AuthenticatingAPICalls.printOutResponseJson(myObjectToReturn, AuthenticatingConstants.TYPE_SIMPLE_RESPONSE);
                         listener.onTaskComplete(myObjectToReturn, AuthenticatingConstants.TAG_SIMPLE_RESPONSE);
@@ -2002,7 +1938,7 @@ public class AuthenticatingAPICalls {
             @Override
             public void onFailure(Call<ResponseBody> call, Throwable t) {
                 t.printStackTrace();
-                listener.onTaskComplete(buildErrorObject(t.getMessage()), AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                listener.onTaskComplete(buildErrorObject(t), AuthenticatingConstants.TAG_ERROR_RESPONSE);
             }
         });
     }
@@ -2015,43 +1951,27 @@ public class AuthenticatingAPICalls {
      * @param listener      {@link OnTaskCompleteListener}
      * @param companyAPIKey The company api key provided by Authenticating
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void generateBackgroundReport(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall generateBackgroundReport(@NonNull final OnTaskCompleteListener listener,
                                                 String companyAPIKey,
                                                 String accessCode) {
 
         if (StringUtilities.isNullOrEmpty(accessCode)) {
             listener.onTaskComplete(buildMissingAuthKeyError(),
                     AuthenticatingConstants.TAG_ERROR_RESPONSE);
-            return;
+            return AuthenticatingCall.completed();
         }
         User user = new User();
         user.setAccessCode(accessCode);
 
-        Call<ResponseBody> call = myService.generateCriminalReport(companyAPIKey, user);
+        Call<ResponseBody> call = getMyService().generateCriminalReport(companyAPIKey, user);
         AuthenticatingAPICalls.printOutRequestJson(user, AuthenticatingConstants.TYPE_USER, call);
-        call.enqueue(new Callback<ResponseBody>() {
+        return AuthenticatingCall.enqueue(call, new Callback<ResponseBody>() {
             @Override
             public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
                 try {
-                    ResponseBody object = response.body();
-                    ResponseBody errorBody = response.errorBody();
-                    String responseBodyString, errorBodyString;
-                    try {
-                        responseBodyString = object.string();
-                    } catch (Exception e){
-                        responseBodyString = null;
-                    }
-                    try {
-                        errorBodyString = errorBody.string();
-                    } catch (Exception e){
-                        errorBodyString = null;
-                    }
-                    try {
-                        ErrorHandler.checkForAuthenticatingErrorObject(object);
-                        ErrorHandler.checkForAuthenticatingError(errorBodyString);
-                    } catch (NullPointerException nope){}
-                    SimpleResponse myObjectToReturn = (SimpleResponse) RetrofitParser.convert(responseBodyString, SimpleResponse.class);
+                    SimpleResponse myObjectToReturn = RetrofitParser.parseResponse(response, SimpleResponse.class);
                     if(myObjectToReturn != null) {
                         AuthenticatingAPICalls.printOutResponseJson(myObjectToReturn, AuthenticatingConstants.TYPE_SIMPLE_RESPONSE);
                         listener.onTaskComplete(myObjectToReturn, AuthenticatingConstants.TAG_SIMPLE_RESPONSE);
@@ -2074,7 +1994,7 @@ public class AuthenticatingAPICalls {
             @Override
             public void onFailure(Call<ResponseBody> call, Throwable t) {
                 t.printStackTrace();
-                listener.onTaskComplete(buildErrorObject(t.getMessage()), AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                listener.onTaskComplete(buildErrorObject(t), AuthenticatingConstants.TAG_ERROR_RESPONSE);
             }
         });
     }
@@ -2086,43 +2006,26 @@ public class AuthenticatingAPICalls {
      * @param listener      {@link OnTaskCompleteListener}
      * @param companyAPIKey The company api key provided by Authenticating
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void getUser(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall getUser(@NonNull final OnTaskCompleteListener listener,
                                String companyAPIKey,
                                String accessCode) {
 
         if (StringUtilities.isNullOrEmpty(accessCode)) {
             listener.onTaskComplete(buildMissingAuthKeyError(),
                     AuthenticatingConstants.TAG_ERROR_RESPONSE);
-            return;
+            return AuthenticatingCall.completed();
         }
         User user = new User();
         user.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.getUser(companyAPIKey, user);
+        Call<ResponseBody> call = getMyService().getUser(companyAPIKey, user);
         AuthenticatingAPICalls.printOutRequestJson(user, AuthenticatingConstants.TYPE_USER, call);
-        call.enqueue(new Callback<ResponseBody>() {
+        return AuthenticatingCall.enqueue(call, new Callback<ResponseBody>() {
             @Override
             public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
                 try {
-                    ResponseBody object = response.body();
-                    ResponseBody errorBody = response.errorBody();
-                    String responseBodyString, errorBodyString;
-                    try {
-                        responseBodyString = object.string();
-                    } catch (Exception e){
-                        responseBodyString = null;
-                    }
-                    try {
-                        errorBodyString = errorBody.string();
-                    } catch (Exception e){
-                        errorBodyString = null;
-                    }
-                    try {
-                        ErrorHandler.checkForAuthenticatingErrorObject(object);
-                        ErrorHandler.checkForAuthenticatingError(errorBodyString);
-                    } catch (NullPointerException nope){}
-
-                    User myObjectToReturn = (User) RetrofitParser.convert(responseBodyString, User.class);
+                    User myObjectToReturn = RetrofitParser.parseResponse(response, User.class);
                     if(myObjectToReturn != null) {
                         AuthenticatingAPICalls.printOutResponseJson(myObjectToReturn, AuthenticatingConstants.TYPE_USER);
                         listener.onTaskComplete(myObjectToReturn, AuthenticatingConstants.TAG_USER);
@@ -2144,7 +2047,7 @@ public class AuthenticatingAPICalls {
             @Override
             public void onFailure(Call<ResponseBody> call, Throwable t) {
                 t.printStackTrace();
-                listener.onTaskComplete(buildErrorObject(t.getMessage()), AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                listener.onTaskComplete(buildErrorObject(t), AuthenticatingConstants.TAG_ERROR_RESPONSE);
             }
         });
     }
@@ -2156,40 +2059,24 @@ public class AuthenticatingAPICalls {
      * @param companyAPIKey The company api key provided by Authenticating
      * @param accessCode    The identifier String given to a user. Obtained when creating the user
      * @param user          {@link User}
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void updateUser(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall updateUser(@NonNull final OnTaskCompleteListener listener,
                                   @NonNull String companyAPIKey, @NonNull String accessCode,
                                   @NonNull User user) {
         if (StringUtilities.isNullOrEmpty(accessCode)) {
             listener.onTaskComplete(buildMissingAuthKeyError(),
                     AuthenticatingConstants.TAG_ERROR_RESPONSE);
-            return;
+            return AuthenticatingCall.completed();
         }
         user.setAccessCode(accessCode);
-        Call<ResponseBody> call = myService.updateUser(companyAPIKey, user);
+        Call<ResponseBody> call = getMyService().updateUser(companyAPIKey, user);
         AuthenticatingAPICalls.printOutRequestJson(user, AuthenticatingConstants.TYPE_USER, call);
-        call.enqueue(new Callback<ResponseBody>() {
+        return AuthenticatingCall.enqueue(call, new Callback<ResponseBody>() {
             @Override
             public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
                 try {
-                    ResponseBody object = response.body();
-                    ResponseBody errorBody = response.errorBody();
-                    String responseBodyString, errorBodyString;
-                    try {
-                        responseBodyString = object.string();
-                    } catch (Exception e){
-                        responseBodyString = null;
-                    }
-                    try {
-                        errorBodyString = errorBody.string();
-                    } catch (Exception e){
-                        errorBodyString = null;
-                    }
-                    try {
-                        ErrorHandler.checkForAuthenticatingErrorObject(object);
-                        ErrorHandler.checkForAuthenticatingError(errorBodyString);
-                    } catch (NullPointerException nope){}
-                    User myObjectToReturn = (User) RetrofitParser.convert(responseBodyString, User.class);
+                    User myObjectToReturn = RetrofitParser.parseResponse(response, User.class);
                     if(myObjectToReturn != null) {
                         AuthenticatingAPICalls.printOutResponseJson(myObjectToReturn, AuthenticatingConstants.TYPE_USER);
                         listener.onTaskComplete(myObjectToReturn, AuthenticatingConstants.TAG_USER);
@@ -2212,7 +2099,7 @@ public class AuthenticatingAPICalls {
             @Override
             public void onFailure(Call<ResponseBody> call, Throwable t) {
                 t.printStackTrace();
-                listener.onTaskComplete(buildErrorObject(t.getMessage()), AuthenticatingConstants.TAG_ERROR_RESPONSE);
+                listener.onTaskComplete(buildErrorObject(t), AuthenticatingConstants.TAG_ERROR_RESPONSE);
             }
         });
     }
@@ -2240,8 +2127,9 @@ public class AuthenticatingAPICalls {
      * @param email         Email (IE, email@email.com)
      * @param phoneNumber   Phone number, numbers only (IE: 2138675309)
      * @param ssn           Social Security Number, 9 digits (IE: 123456789)
+     * @return {@link AuthenticatingCall}, cancel it if the result is no longer needed
      */
-    public static void updateUser(@NonNull final OnTaskCompleteListener listener,
+    public static AuthenticatingCall updateUser(@NonNull final OnTaskCompleteListener listener,
                                   @NonNull String companyAPIKey,
                                   @NonNull String accessCode, @Nullable String firstName,
                                   @Nullable String lastName, @Nullable Integer birthYear, @Nullable Integer birthMonth,
@@ -2252,7 +2140,7 @@ public class AuthenticatingAPICalls {
         if (StringUtilities.isNullOrEmpty(accessCode)) {
             listener.onTaskComplete(buildMissingAuthKeyError(),
                     AuthenticatingConstants.TAG_ERROR_RESPONSE);
-            return;
+            return AuthenticatingCall.completed();
         }
 
         User user = new User();
@@ -2287,7 +2175,7 @@ public class AuthenticatingAPICalls {
             user.setEmail(email);
         if (!isNullOrEmpty(keepNumbersOnly(phoneNumber)))
             user.setPhone(keepNumbersOnly(phoneNumber));
-        updateUser(listener, companyAPIKey, accessCode, user);
+        return updateUser(listener, companyAPIKey, accessCode, user);
     }
 
     /////////////////////////
@@ -2312,6 +2200,26 @@ public class AuthenticatingAPICalls {
         return e;
     }
 
+    /**
+     * Build the error for a failed call. Calls refused by an open circuit breaker get a
+     * {@link ServiceUnavailableException}
+     */
+    private static AuthenticatingException buildErrorObject(Throwable t) {
+        if (t instanceof CircuitOpenException) {
+            return ((CircuitOpenException) t).toAuthenticatingException();
+        }
+        return buildErrorObject(t.getMessage());
+    }
+
+    /**
+     * Rethrow calls refused by an open circuit breaker as a {@link ServiceUnavailableException}
+     */
+    private static void throwIfCircuitOpen(IOException ioe) throws ServiceUnavailableException {
+        if (ioe instanceof CircuitOpenException) {
+            throw ((CircuitOpenException) ioe).toAuthenticatingException();
+        }
+    }
+
     private static AuthenticatingException buildParsingError() {
         return buildErrorObject(PARSING_CONVERSION_ERROR);
     }
@@ -2346,7 +2254,7 @@ public class AuthenticatingAPICalls {
                     Logging.log("AuthenticatingException API Response: " + message);
                 } else {
                     try {
-                        Logging.log("Authenticating API Response: " + new Gson().toJson(obj, type));
+                        Logging.log("Authenticating API Response: " + GsonProvider.get().toJson(obj, type));
                     } catch (Exception e) {
                         //e.printStackTrace();
                         Logging.log("Authenticating API Response: Response Received, but was not parseable: " + e.getMessage());
@@ -2390,7 +2298,7 @@ public class AuthenticatingAPICalls {
                 }
                 try {
                     Logging.log("Body:");
-                    Logging.log(new Gson().toJson(obj, type));
+                    Logging.log(GsonProvider.get().toJson(obj, type));
                 } catch (Exception e) {
                     //e.printStackTrace();
                     Logging.log("Could not be printed, " + e.getMessage());
@@ -2405,147 +2313,178 @@ public class AuthenticatingAPICalls {
     //////////////////////////
 
     /**
-     * Encode a Bitmap to a base 64 String
-     *
-     * @param bm
-     * @return
+     * Build the streamed request body for one of the image upload endpoints
+     * @param type Endpoint being called, determines the JSON field names used
+     * @param accessCode The identifier String given to a user
+     * @param idFrontOrImg1 First image (idFront or img1)
+     * @param idBackOrImg2 Second image (idBack or img2). Ignored for passports.
+     * @return {@link ImageUploadRequestBody}
      */
-    private static String encodeImage(Bitmap bm) {
-        if (bm == null) {
-            return null;
-        }
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        bm.compress(Bitmap.CompressFormat.JPEG, 100, baos);
-        byte[] b = baos.toByteArray();
-        String encImage = Base64.encodeToString(b, Base64.DEFAULT);
-
-        return encImage;
-    }
+    private static ImageUploadRequestBody buildUploadRequestBody(@NonNull UploadIdTypes type,
+                                                                 String accessCode,
+                                                                 @NonNull ImageUploadRequestBody.ImagePart idFrontOrImg1,
+                                                                 @Nullable ImageUploadRequestBody.ImagePart idBackOrImg2){
+        ImageUploadRequestBody uploadBody = new ImageUploadRequestBody();
+        uploadBody.setAccessCode(accessCode);
+        switch (type){
+            case uploadPassport:
+                uploadBody.addImage(ImageUploadRequestBody.ID_FRONT, idFrontOrImg1);
+                break;
 
-    /**
-     * Encode an image to a base 64 String
-     *
-     * @param file
-     * @return
-     */
-    private static String encodeImage(File file) {
-        FileInputStream fis = null;
-        try {
-            fis = new FileInputStream(file);
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
-        }
+            case uploadId:
+            case uploadIdEnhanced:
+                uploadBody.addImage(ImageUploadRequestBody.ID_FRONT, idFrontOrImg1);
+                uploadBody.addImage(ImageUploadRequestBody.ID_BACK, idBackOrImg2);
+                break;
 
-        Bitmap bm = BitmapFactory.decodeStream(fis);
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        if (bm == null) {
-            return null;
+            case comparePhotos:
+            default:
+                uploadBody.addImage(ImageUploadRequestBody.IMG_1, idFrontOrImg1);
+                uploadBody.addImage(ImageUploadRequestBody.IMG_2, idBackOrImg2);
+                break;
         }
-        bm.compress(Bitmap.CompressFormat.JPEG, 100, baos);
-        byte[] b = baos.toByteArray();
-        String encImage = Base64.encodeToString(b, Base64.DEFAULT);
-        //Base64.de
-        return encImage;
-
+        return uploadBody;
     }
 
     /**
-     * Encode an image to a base 64 String
-     *
-     * @param path
-     * @return
+     * Build the call for one of the image upload endpoints
+     * @param companyAPIKey The company api key provided by Authenticating
+     * @param type Endpoint to call
+     * @param uploadBody Body built via {@link #buildUploadRequestBody}
+     * @return {@link Call}
      */
-    private static String encodeImage(String path) {
-        File imagefile = new File(path);
-        FileInputStream fis = null;
-        try {
-            fis = new FileInputStream(imagefile);
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
-        }
-        Bitmap bm = BitmapFactory.decodeStream(fis);
-        if (bm == null) {
-            return null;
-        }
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        bm.compress(Bitmap.CompressFormat.JPEG, 100, baos);
-        byte[] b = baos.toByteArray();
-        String encImage = Base64.encodeToString(b, Base64.DEFAULT);
-        //Base64.de
-        return encImage;
+    private static Call<ResponseBody> buildUploadCall(String companyAPIKey,
+                                                      @NonNull UploadIdTypes type,
+                                                      @NonNull RequestBody uploadBody){
+        switch (type){
+            case uploadPassport:
+                return getMyService().uploadPassport(companyAPIKey, uploadBody);
 
-    }
+            case uploadId:
+                return getMyService().uploadId(companyAPIKey, uploadBody);
 
-    private static boolean isBitmapTooLarge(@NonNull Bitmap bmp) {
-        return isImageTooLarge(bmp, AuthenticatingConstants.MAX_SIZE_IMAGE_UPLOAD);
+            case uploadIdEnhanced:
+                return getMyService().uploadIdEnhanced(companyAPIKey, uploadBody);
+
+            case comparePhotos:
+            default:
+                return getMyService().comparePhotos(companyAPIKey, uploadBody);
+        }
     }
 
     /**
-     * Determine if a bitmap is too large as compared to passed param
-     * @param bmp Bitmap to check
-     * @param desiredSizeInBytes Desired size (in Bytes) to check against
-     * @return boolean, if true, bitmap is larger than the desired size, else, it is not.
+     * Get the encoding limits for images sent to an upload endpoint
+     * @param type Endpoint being called
+     * @return {@link ImageUploadPolicy}
      */
-    private static boolean isImageTooLarge(@NonNull Bitmap bmp, float desiredSizeInBytes){
-        long bitmapSize = bmp.getByteCount();
-        float shrinkFactor = desiredSizeInBytes / bitmapSize;
-        if(shrinkFactor >= 1){
-            return false;
-        } else {
-            return true;
+    private static ImageUploadPolicy getUploadPolicy(@NonNull UploadIdTypes type){
+        switch (type){
+            case comparePhotos:
+                return ImageUploadPolicy.PHOTO;
+
+            case uploadId:
+            case uploadIdEnhanced:
+            case uploadPassport:
+            default:
+                return ImageUploadPolicy.DOCUMENT;
         }
     }
 
     /**
-     * Determine the float value needed to resize the image so that it is less in size (Bytes)
-     * than the value passed
-     * @param bmp Bitmap to check
-     * @param desiredSizeInBytes Desired size in bytes of the image
-     * @return float value to resize. IE, if 0.34 is returned, the bitmap in question needs
-     *         to be shrunk down by 34% to reach the desired size
+     * Build the upload part for a bitmap. The JPEG quality and scale are chosen so that the
+     * encoded image fits within the byte budget of the endpoint (See {@link AdaptiveJpegEncoder}).
+     * The encoded image is cached (See {@link EncodedImageCache}) so that sending the same image
+     * again skips the encoding.
+     * @param bmp Bitmap to upload
+     * @param type Endpoint being called
+     * @param recycleSource If true, the passed bitmap will be recycled once it is no longer
+     *                      needed. Scaled copies made here are always recycled.
+     * @param decodedHere True if the bitmap was decoded by the SDK (not passed in by the app),
+     *                    it may then be modified while encoding
+     * @param cacheKey Key to cache the encoded image under, or null to build one from the
+     *                 bitmap's pixels
+     * @return {@link ImageUploadRequestBody.ImagePart}
      */
-    private static float getImageResizeFactor(@NonNull Bitmap bmp, float desiredSizeInBytes){
-        long bitmapSize = bmp.getByteCount();
-        float flt = (desiredSizeInBytes / bitmapSize);
-        return flt;
+    private static ImageUploadRequestBody.ImagePart buildBitmapPart(@NonNull Bitmap bmp,
+                                                                    @NonNull UploadIdTypes type,
+                                                                    boolean recycleSource,
+                                                                    boolean decodedHere,
+                                                                    @Nullable String cacheKey){
+        ImageUploadPolicy policy = getUploadPolicy(type);
+        ImagePixelFormat pixelFormat = ImageUploadOptions.getPixelFormat(policy);
+        try {
+            if(cacheKey == null){
+                cacheKey = EncodedImageCache.buildKey(bmp, policy, pixelFormat);
+            }
+            byte[] jpeg = EncodedImageCache.get(cacheKey);
+            if(jpeg == null){
+                AdaptiveJpegEncoder.Result result = AdaptiveJpegEncoder.encode(
+                        bmp, policy, pixelFormat, decodedHere);
+                jpeg = AdaptiveJpegEncoder.compress(result.bitmap, result.quality,
+                        result.encodedBytes);
+                AuthenticatingMetrics.increment(pixelFormat.getMetricName());
+                AuthenticatingMetrics.add(AuthenticatingMetrics.IMAGE_BITMAP_BYTES,
+                        result.bitmap.getByteCount());
+                AuthenticatingMetrics.add(AuthenticatingMetrics.IMAGE_ENCODED_BYTES, jpeg.length);
+                if(result.bitmap != bmp){
+                    result.bitmap.recycle();
+                }
+                EncodedImageCache.put(cacheKey, jpeg);
+            }
+            if(recycleSource){
+                bmp.recycle();
+            }
+            return new ImageUploadRequestBody.JpegBytesPart(jpeg);
+        } catch (OutOfMemoryError oom){
+            //File too large, resize to very small and compress as the body is written
+            Bitmap toUpload = shrinkPhoto(bmp, 8);
+            if(toUpload == bmp){
+                return new ImageUploadRequestBody.BitmapPart(bmp,
+                        AdaptiveJpegEncoder.MIN_QUALITY, recycleSource);
+            }
+            if(recycleSource){
+                bmp.recycle();
+            }
+            return new ImageUploadRequestBody.BitmapPart(toUpload,
+                    AdaptiveJpegEncoder.MIN_QUALITY, true);
+        }
     }
 
     /**
-     * Resize a photo
-     * @param bmp Bitmap to resize
-     * @param factorToDivide Factor to divide by. if (IE) 2 is passed, it will cut the
-     *                       image in half, 10 will cut it down 10x in size
-     * @return Resized bitmap. If it fails, will send back original
+     * Spool a prepared upload to disk (See {@link UploadSpool}) so that it can be sent again
+     * without processing the images a second time.
+     * @param uploadBody Prepared body. It is released if spooling succeeds.
+     * @param type Endpoint being called
+     * @param accessCode The identifier String given to a user
+     * @return The spooled body, or the one passed in if spooling is disabled or failed
      */
-    private static Bitmap resizePhoto(@NonNull Bitmap bmp, int factorToDivide){
-        if(factorToDivide <= 1){
-            factorToDivide = 2;
+    private static RequestBody spoolUploadBody(@NonNull ImageUploadRequestBody uploadBody,
+                                               @NonNull UploadIdTypes type, String accessCode){
+        if(StringUtilities.isNullOrEmpty(accessCode)){
+            return uploadBody;
         }
-        try {
-            return Bitmap.createScaledBitmap(bmp, (int)(bmp.getWidth() / factorToDivide),
-                    (int)(bmp.getHeight() / factorToDivide), true);
-        } catch (Exception e){
-            e.printStackTrace();
-            return bmp;
+        //This upload replaces any earlier one to the endpoint that is waiting to be resumed
+        UploadSpool.discardPending(type.name(), accessCode);
+        UploadSpool.SpooledRequestBody spooled = UploadSpool.spool(uploadBody, type.name(), accessCode);
+        if(spooled == null){
+            return uploadBody;
         }
+        //The encoded images are on disk now, the bitmaps are no longer needed
+        uploadBody.release();
+        return spooled;
     }
 
     /**
-     * Resize a photo
-     * @param bmp Bitmap to resize
-     * @return Resized bitmap. If it fails, will send back original
+     * Release an upload body once its call has finished
+     * @param uploadBody Body that was sent
+     * @param responded True if the server responded. Spool files are only deleted in that
+     *                  case so that failed uploads can be resumed.
      */
-    private static Bitmap resizePhoto(@NonNull Bitmap bmp){
-        try {
-            double height = Math.sqrt(AuthenticatingConstants.MAX_SIZE_IMAGE_UPLOAD /
-                    (((double) bmp.getWidth()) / bmp.getHeight()));
-            double width = (height / bmp.getHeight()) * bmp.getWidth();
-            Bitmap bmp1 = Bitmap.createScaledBitmap(bmp, (int)(width),
-                    (int)(height), true);
-            return bmp1;
-        } catch (Exception e){
-            e.printStackTrace();
-            return bmp;
+    private static void releaseUploadBody(RequestBody uploadBody, boolean responded){
+        if(uploadBody instanceof ImageUploadRequestBody){
+            ((ImageUploadRequestBody) uploadBody).release();
+        } else if (uploadBody instanceof UploadSpool.SpooledRequestBody){
+            ((UploadSpool.SpooledRequestBody) uploadBody).release(responded);
         }
     }
 
@@ -2558,15 +2497,17 @@ public class AuthenticatingAPICalls {
      * This class will be implemented asap in order to make life easier for developers.
      * In the meantime, please convert your own images to bitmaps for comparePhotos()
      */
-    protected static class ConvertPhotosAsync extends AsyncTask<Void, Integer, UploadPhotosObj> {
+    protected static class ConvertPhotosAsync extends AsyncTask<Void, Integer, RequestBody> {
 
         //Input variables
         private String base64EncodedImage1, base64EncodedImage2;
         private Bitmap bitmap1OrIDFront, bitmap2OrIDBack;
         private File file1, file2;
         private Uri uri1, uri2;
+        private ContentResolver contentResolver;
 
         //Misc
+        private String accessCode;
         private ProgressBar progressBar;
         private OnTaskCompleteListener listener;
         private Bitmap resizedBitmap1, resizedBitmap2;
@@ -2626,8 +2567,10 @@ public class AuthenticatingAPICalls {
 
         private ConvertPhotosAsync(@Nullable ProgressBar progressBar,
                                    @NonNull OnTaskCompleteListener listener,
+                                   @NonNull ContentResolver contentResolver,
                                    @NonNull Uri imageUri1, @NonNull Uri imageUri2,
                                    @NonNull AuthenticatingAPICalls.UploadIdTypes type) {
+            this.contentResolver = contentResolver;
             this.uri1 = imageUri1;
             this.uri2 = imageUri2;
             this.progressBar = progressBar;
@@ -2639,6 +2582,14 @@ public class AuthenticatingAPICalls {
             this.type = type;
         }
 
+        /**
+         * Set the accessCode the images are being uploaded for. Must be called before execute.
+         */
+        private ConvertPhotosAsync setAccessCode(String accessCode) {
+            this.accessCode = accessCode;
+            return this;
+        }
+
         @Override
         protected void onPreExecute() {
             super.onPreExecute();
@@ -2661,193 +2612,169 @@ public class AuthenticatingAPICalls {
         }
 
         @Override
-        protected UploadPhotosObj doInBackground(Void... params) {
-            UploadPhotosObj uploadPhotosObj;
-            //First check type:
-            if(type == UploadIdTypes.uploadPassport){
-                if (isString) {
-                    Pattern pattern = Pattern.compile(BASE_64_ENCODED_STRING_REGEX);
-                    Matcher m1 = pattern.matcher(this.base64EncodedImage1);
-                    if (m1.matches()) {
-                        //Both strings are already converted properly to base 64
-                        stringOutput1 = base64EncodedImage1;
-                        return null;
-                    } else {
-                        //Strings are not properly formatted
-                        error = buildErrorObject("Improperly formatted base64Encoded Strings");
-                        return null;
-                    }
-
-                } else if (isBitmap) {
-                    if (bitmap1OrIDFront == null) {
-                        error = buildErrorObject("One or both bitmaps were null");
-                        return null;
-                    }
-
-                } else if (isUri) {
-                    file1 = convertUriToFile(uri1);
+        protected RequestBody doInBackground(Void... params) {
+            try {
+                return convertPhotos();
+            } catch (OutOfMemoryError oom) {
+                error = buildErrorObject("Not enough memory available to process the images");
+                return null;
+            }
+        }
 
-                    if (file1 == null) {
-                        error = buildErrorObject("One or both of URIs sent could not be converted to Files");
-                        return null;
-                    }
+        private RequestBody convertPhotos() {
+            if (isCancelled()) {
+                return null;
+            }
+            boolean isPassport = (type == UploadIdTypes.uploadPassport);
+            //First check type:
+            if (isString) {
+                if (Base64Validator.isValid(this.base64EncodedImage1) && (isPassport
+                        || Base64Validator.isValid(this.base64EncodedImage2))) {
+                    //Strings are already converted properly to base 64
+                    stringOutput1 = base64EncodedImage1;
+                    stringOutput2 = isPassport ? null : base64EncodedImage2;
+                    return buildUploadRequestBody(type, accessCode,
+                            new ImageUploadRequestBody.Base64StringPart(stringOutput1),
+                            isPassport ? null
+                                    : new ImageUploadRequestBody.Base64StringPart(stringOutput2));
+                } else {
+                    //Strings are not properly formatted
+                    error = buildErrorObject("Improperly formatted base64Encoded Strings");
+                    return null;
+                }
+            }
 
-                    bitmap1OrIDFront = convertFileToBitmap(file1);
-                    if (bitmap1OrIDFront == null) {
-                        error = buildErrorObject("One or both of the files could not be converted to bitmaps");
-                        return null;
-                    }
+            if ((isBitmap && (bitmap1OrIDFront == null || (!isPassport && bitmap2OrIDBack == null)))
+                    || (isFile && (file1 == null || (!isPassport && file2 == null)))
+                    || (isUri && (uri1 == null || (!isPassport && uri2 == null)))) {
+                error = buildErrorObject("One or both of the images passed were null");
+                return null;
+            }
 
-                } else if (isFile) {
-                    if (file1 == null) {
-                        error = buildErrorObject("One or both of the files passed were null");
-                        return null;
+            //The back is handed to the image executor while the front is processed here
+            FutureTask<ImageUploadRequestBody.ImagePart> backTask = null;
+            if (!isPassport) {
+                backTask = new FutureTask<>(new Callable<ImageUploadRequestBody.ImagePart>() {
+                    @Override
+                    public ImageUploadRequestBody.ImagePart call() throws Exception {
+                        return prepareImage(bitmap2OrIDBack, file2, uri2);
                     }
-                    bitmap1OrIDFront = convertFileToBitmap(file1);
-                    if (bitmap1OrIDFront == null) {
-                        error = buildErrorObject("One or both of the files could not be converted to bitmaps");
-                        return null;
-                    }
-
-                }
-
+                });
                 try {
-                    if (isBitmapTooLarge(bitmap1OrIDFront)) {
-                        bitmap1OrIDFront = AuthenticatingAPICalls.resizePhoto(bitmap1OrIDFront);
-                    }
-                } catch (OutOfMemoryError oom) {
-                    //File too large, resize to very small
-                    bitmap1OrIDFront = shrinkPhoto(bitmap1OrIDFront, 8);
+                    ImageProcessingExecutor.getExecutor().execute(backTask);
+                } catch (RejectedExecutionException ree) {
+                    //Executor shut down or full, the back is processed here after the front
+                    ree.printStackTrace();
                 }
+            }
 
+            ImageUploadRequestBody.ImagePart front = null, back = null;
+            if (!isCancelled()) {
                 try {
-                    stringOutput1 = encodeImage(bitmap1OrIDFront);
-                } catch (Exception e) {
-                    error = buildErrorObject("Could not convert images to base64: " + e.getMessage());
-                    return null;
+                    front = prepareImage(bitmap1OrIDFront, file1, uri1);
+                } catch (AuthenticatingException e) {
+                    error = e;
                 }
-
-                if (isNullOrEmpty(stringOutput1)) {
-                    uploadPhotosObj = null;
-                    error = buildErrorObject("Could not convert images to base64");
-                } else {
-                    uploadPhotosObj = new UploadPhotosObj();
-                    switch (type) {
-                        case uploadPassport:
-                            uploadPhotosObj.setIdFront(stringOutput1);
-                            break;
-                    }
+            }
+            if (backTask != null) {
+                if (isCancelled()) {
+                    //Only stops the back if no thread has picked it up, otherwise it is freed below
+                    backTask.cancel(false);
                 }
-            } else {
-                if (isString) {
-                    Pattern pattern = Pattern.compile(BASE_64_ENCODED_STRING_REGEX);
-                    Matcher m1 = pattern.matcher(this.base64EncodedImage1);
-                    Matcher m2 = pattern.matcher(this.base64EncodedImage2);
-                    if (m1.matches() && m2.matches()) {
-                        //Both strings are already converted properly to base 64
-                        stringOutput1 = base64EncodedImage1;
-                        stringOutput2 = base64EncodedImage2;
-                        return null;
-                    } else {
-                        //Strings are not properly formatted
-                        error = buildErrorObject("Improperly formatted base64Encoded Strings");
-                        return null;
-                    }
-
-                } else if (isBitmap) {
-                    if (bitmap1OrIDFront == null || bitmap2OrIDBack == null) {
-                        error = buildErrorObject("One or both bitmaps were null");
-                        return null;
-                    }
-
-                } else if (isUri) {
-                    file1 = convertUriToFile(uri1);
-                    file2 = convertUriToFile(uri2);
-
-                    if (file1 == null || file2 == null) {
-                        error = buildErrorObject("One or both of URIs sent could not be converted to Files");
-                        return null;
-                    }
-
-                    bitmap1OrIDFront = convertFileToBitmap(file1);
-                    bitmap2OrIDBack = convertFileToBitmap(file2);
-                    if (bitmap1OrIDFront == null || bitmap2OrIDBack == null) {
-                        error = buildErrorObject("One or both of the files could not be converted to bitmaps");
-                        return null;
+                //If no thread has picked up the back yet, do it here instead of waiting on it
+                backTask.run();
+                try {
+                    back = backTask.get();
+                } catch (CancellationException e) {
+                    back = null;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof OutOfMemoryError) {
+                        throw (OutOfMemoryError) e.getCause();
                     }
-
-                } else if (isFile) {
-                    if (file1 == null || file2 == null) {
-                        error = buildErrorObject("One or both of the files passed were null");
-                        return null;
+                    if (error == null) {
+                        error = (e.getCause() instanceof AuthenticatingException)
+                                ? (AuthenticatingException) e.getCause()
+                                : buildErrorObject(e.getMessage());
                     }
-                    bitmap1OrIDFront = convertFileToBitmap(file1);
-                    bitmap2OrIDBack = convertFileToBitmap(file2);
-                    if (bitmap1OrIDFront == null || bitmap2OrIDBack == null) {
-                        error = buildErrorObject("One or both of the files could not be converted to bitmaps");
-                        return null;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    if (error == null) {
+                        error = buildErrorObject("Image processing was interrupted");
                     }
-
                 }
+            }
 
-                try {
-                    if (isBitmapTooLarge(bitmap1OrIDFront)) {
-                        bitmap1OrIDFront = AuthenticatingAPICalls.resizePhoto(bitmap1OrIDFront);
-                    }
-                } catch (OutOfMemoryError oom) {
-                    //File too large, resize to very small
-                    bitmap1OrIDFront = shrinkPhoto(bitmap1OrIDFront, 8);
+            if (error != null || isCancelled()) {
+                if (front != null) {
+                    front.release();
                 }
-
-                try {
-                    if (isBitmapTooLarge(bitmap2OrIDBack)) {
-                        bitmap2OrIDBack = AuthenticatingAPICalls.resizePhoto(bitmap2OrIDBack);
-                    }
-//                while(isBitmapTooLarge(bitmap2OrIDBack)){
-//                    bitmap2OrIDBack = shrinkPhoto(bitmap2OrIDBack, 2);
-//                }
-                } catch (OutOfMemoryError oom) {
-                    //File too large, resize to very small
-                    bitmap2OrIDBack = shrinkPhoto(bitmap2OrIDBack, 8);
+                if (back != null) {
+                    back.release();
                 }
+                return null;
+            }
+            //Base64 encoding happens once, as the body is spooled to disk. If spooling is off,
+            //it happens as the body is written to the network
+            return spoolUploadBody(buildUploadRequestBody(type, accessCode, front, back),
+                    type, accessCode);
+        }
+
+        /**
+         * Decode (if needed) one of the images and size it for the upload. Safe to call from
+         * multiple threads at once for different sides.
+         */
+        private ImageUploadRequestBody.ImagePart prepareImage(@Nullable Bitmap bitmap,
+                                                              @Nullable File file,
+                                                              @Nullable Uri uri)
+                throws AuthenticatingException {
+            String cacheKey = null;
+            if (isUri || isFile) {
+                //Uris are read through the ContentResolver, no temp file copy is made
+                ImageSource source = isUri ? ImageSource.fromUri(contentResolver, uri)
+                        : ImageSource.fromFile(file);
+                ImageUploadPolicy policy = getUploadPolicy(type);
+                ImagePixelFormat pixelFormat = ImageUploadOptions.getPixelFormat(policy);
                 try {
-                    stringOutput1 = encodeImage(bitmap1OrIDFront);
-                    stringOutput2 = encodeImage(bitmap2OrIDBack);
-                } catch (Exception e) {
-                    error = buildErrorObject("Could not convert images to base64: " + e.getMessage());
-                    return null;
-                }
-
-                if (isNullOrEmpty(stringOutput1) || isNullOrEmpty(stringOutput2)) {
-                    uploadPhotosObj = null;
-                    error = buildErrorObject("Could not convert images to base64");
-                } else {
-                    uploadPhotosObj = new UploadPhotosObj();
-                    switch (type) {
-                        case uploadIdEnhanced:
-                        case uploadId:
-                            uploadPhotosObj.setIdFront(stringOutput1);
-                            uploadPhotosObj.setIdBack(stringOutput2);
-                            break;
-
-                        case comparePhotos:
-                            uploadPhotosObj.setImg1(stringOutput1);
-                            uploadPhotosObj.setImg2(stringOutput2);
-                            break;
+                    //An image sent before does not need to be decoded again
+                    cacheKey = EncodedImageCache.buildKey(source, policy, pixelFormat);
+                    byte[] jpeg = EncodedImageCache.get(cacheKey);
+                    if (jpeg != null) {
+                        return new ImageUploadRequestBody.JpegBytesPart(jpeg);
+                    }
+                    //JPEGs that already fit are sent as they are, unless they need to be grayscale
+                    if (ImageUploadOptions.isJpegPassthrough()
+                            && pixelFormat != ImagePixelFormat.LUMINANCE) {
+                        jpeg = JpegPassthrough.read(source, policy,
+                                ImageUploadOptions.isStripJpegMetadata());
+                        if (jpeg != null) {
+                            AuthenticatingMetrics.increment(AuthenticatingMetrics.IMAGE_PASSTHROUGH);
+                            return new ImageUploadRequestBody.JpegBytesPart(jpeg);
+                        }
                     }
+                    //Decoded directly at (or near) the size they will be uploaded at
+                    bitmap = SampledBitmapDecoder.decode(source, policy, pixelFormat);
+                } catch (IOException ioe) {
+                    ioe.printStackTrace();
+                    throw buildErrorObject("One or both of the images could not be read");
+                }
+                if (bitmap == null) {
+                    throw buildErrorObject("One or both of the images could not be converted to bitmaps");
                 }
             }
-            if(bitmap1OrIDFront != null) {
-                bitmap1OrIDFront.recycle();
-            }
-            if(bitmap2OrIDBack != null) {
-                bitmap2OrIDBack.recycle();
+            //Quality and scale are chosen here to fit the upload budget
+            return buildBitmapPart(bitmap, type, true, isUri || isFile, cacheKey);
+        }
+
+        @Override
+        protected void onCancelled(RequestBody args) {
+            //Cancelled via AuthenticatingCall after the images were prepared
+            if(args != null){
+                releaseUploadBody(args, true);
             }
-            return uploadPhotosObj;
         }
 
         @Override
-        protected void onPostExecute(UploadPhotosObj args) {
+        protected void onPostExecute(RequestBody args) {
             if(error == null){
                 if(args != null){
                     listener.onTaskComplete(args, AuthenticatingConstants.TAG_UPLOAD_PHOTO_OBJECT);
@@ -2876,43 +2803,4 @@ public class AuthenticatingAPICalls {
         }
     }
 
-    private static Bitmap convertFileToBitmap(@NonNull File file){
-        Bitmap bmp = null;
-        try {
-            bmp = BitmapFactory.decodeFile(file.getPath());
-            if(bmp == null){
-                bmp = BitmapFactory.decodeFile(file.getAbsolutePath());
-            }
-        } catch (Exception e){
-            e.printStackTrace();
-        }
-        return bmp;
-    }
-
-    private static File convertUriToFile(@NonNull Uri uri){
-        File file = null;
-        try {
-            file = new File(uri.getPath());
-            if(file == null){
-                file = new File(uri.getEncodedPath());
-            }
-            /*
-            //To be implemented at a later date:
-            // https://stackoverflow.com/questions/6935497/android-get-gallery-image-uri-path
-            if(file == null){
-                Context context = null;
-                String[] projection = { MediaStore.Images.Media.DATA };
-                CursorLoader cursor = new CursorLoader(context, uri, projection, null, null, null);
-                cursor.startLoading();
-                //cursor.loadInBackground();
-                String str = cursor.getSelection();
-                file = new File(str);
-            }
-            */
-        } catch (Exception e){
-            e.printStackTrace();
-        }
-        return file;
-    }
-
 }
\ No newline at end of file
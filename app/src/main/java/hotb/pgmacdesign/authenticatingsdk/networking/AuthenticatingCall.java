@@ -0,0 +1,152 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.os.AsyncTask;
+import android.support.annotation.NonNull;
+
+import hotb.pgmacdesign.authenticatingsdk.interfaces.OnTaskCompleteListener;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Handle returned by the asynchronous calls in {@link AuthenticatingAPICalls}. Call
+ * {@link #cancel()} when the result is no longer wanted (IE in onDestroy of the Activity that
+ * made the call). Cancelling stops the network call (and any image processing still running
+ * for it), frees the images held for it and makes sure the listener is not called.
+ */
+public class AuthenticatingCall {
+
+    private volatile boolean canceled;
+    private Call<?> call;
+    private AsyncTask<?, ?, ?> task;
+
+    AuthenticatingCall() {
+    }
+
+    /**
+     * Handle for a call that finished (or failed validation) before this method returned
+     */
+    @NonNull
+    static AuthenticatingCall completed() {
+        return new AuthenticatingCall();
+    }
+
+    /**
+     * Enqueue a call, the callback is not called if the returned handle is cancelled
+     */
+    @NonNull
+    static AuthenticatingCall enqueue(@NonNull Call<ResponseBody> call,
+                                      @NonNull Callback<ResponseBody> callback) {
+        AuthenticatingCall handle = new AuthenticatingCall();
+        handle.setCall(call);
+        call.enqueue(handle.guard(callback));
+        return handle;
+    }
+
+    /**
+     * Cancel the call. Safe to call more than once, from any thread and after the call has
+     * completed. The listener will not be called after this returns (if called on the main
+     * thread).
+     */
+    public void cancel() {
+        Call<?> callToCancel;
+        AsyncTask<?, ?, ?> taskToCancel;
+        synchronized (this) {
+            if (canceled) {
+                return;
+            }
+            canceled = true;
+            callToCancel = call;
+            taskToCancel = task;
+        }
+        if (taskToCancel != null) {
+            //Not interrupted, the task frees whatever it has prepared once it sees the cancel
+            taskToCancel.cancel(false);
+        }
+        if (callToCancel != null) {
+            callToCancel.cancel();
+        }
+    }
+
+    public boolean isCanceled() {
+        return canceled;
+    }
+
+    /**
+     * Set the network call this handle controls. Cancelled straight away if the handle
+     * already has been.
+     */
+    void setCall(@NonNull Call<?> call) {
+        synchronized (this) {
+            this.call = call;
+            if (!canceled) {
+                return;
+            }
+        }
+        call.cancel();
+    }
+
+    /**
+     * Set the image processing task this handle controls. Cancelled straight away if the
+     * handle already has been.
+     */
+    void setTask(@NonNull AsyncTask<?, ?, ?> task) {
+        synchronized (this) {
+            this.task = task;
+            if (!canceled) {
+                return;
+            }
+        }
+        task.cancel(false);
+    }
+
+    /**
+     * Wrap a listener so that it is not called once this handle has been cancelled
+     */
+    @NonNull
+    OnTaskCompleteListener guard(@NonNull final OnTaskCompleteListener listener) {
+        return new OnTaskCompleteListener() {
+            @Override
+            public void onTaskComplete(Object result, int customTag) {
+                if (!canceled) {
+                    listener.onTaskComplete(result, customTag);
+                }
+            }
+        };
+    }
+
+    /**
+     * Wrap a callback so that it is not called once this handle has been cancelled
+     */
+    @NonNull
+    <T> Callback<T> guard(@NonNull final Callback<T> callback) {
+        return new Callback<T>() {
+            @Override
+            public void onResponse(Call<T> call, Response<T> response) {
+                if (canceled) {
+                    closeQuietly(response);
+                    return;
+                }
+                callback.onResponse(call, response);
+            }
+
+            @Override
+            public void onFailure(Call<T> call, Throwable t) {
+                if (!canceled) {
+                    callback.onFailure(call, t);
+                }
+            }
+        };
+    }
+
+    private static void closeQuietly(Response<?> response) {
+        Object body = response.body();
+        if (body instanceof ResponseBody) {
+            ((ResponseBody) body).close();
+        }
+        if (response.errorBody() != null) {
+            response.errorBody().close();
+        }
+    }
+}
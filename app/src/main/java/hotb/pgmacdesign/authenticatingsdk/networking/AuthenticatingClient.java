@@ -0,0 +1,353 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import hotb.pgmacdesign.authenticatingsdk.interfaces.OnCircuitStateChangeListener;
+import okhttp3.Call;
+import okhttp3.ConnectionPool;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.logging.HttpLoggingInterceptor;
+
+/**
+ * Holds the single {@link OkHttpClient} / {@link APIService} used by
+ * {@link AuthenticatingAPICalls}. It is built once, on the first call (or by {@link #warmUp()}),
+ * and shared by every thread. Nothing is built when the SDK classes are loaded.
+ * Changing the log level, timeouts or headers updates the existing client in place, so the
+ * pooled (already TLS negotiated) connections are kept.
+ */
+public class AuthenticatingClient {
+
+    private static final int DEFAULT_TIMEOUT = 30000;
+    private static final String BACKGROUND_THREAD_NAME = "Authenticating-Background";
+
+    private static volatile AuthenticatingClient instance;
+    //Guards instance and the config below
+    static final Object LOCK = new Object();
+
+    //Config is also kept here so it can be set before the client is built
+    private static volatile Map<String, String> headers;
+    private static volatile int readTimeout = DEFAULT_TIMEOUT, writeTimeout = DEFAULT_TIMEOUT;
+    private static int maxIdleConnections = AuthenticatingConstants.MAX_IDLE_CONNECTIONS;
+    private static long keepAliveMillis = AuthenticatingConstants.CONNECTION_KEEP_ALIVE_MILLIS;
+
+    private final RetrofitClient retrofitClient;
+    private final APIService service;
+
+    private AuthenticatingClient() {
+        long startTime = SystemClock.elapsedRealtime();
+        RetrofitClient.Builder builder = new RetrofitClient.Builder(
+                APIService.class, AuthenticatingConstants.BASE_URL);
+        builder.setLogLevel(getLogLevel());
+        builder.setCustomConverterFactory(new CustomConverterFactory());
+        builder.setTimeouts(readTimeout, writeTimeout);
+        builder.setHeaders(headers);
+        builder.setEventListenerFactory(NetworkPhaseListener.FACTORY);
+        builder.addInterceptor(new EndpointPolicyInterceptor());
+        builder.addInterceptor(new CircuitBreakerInterceptor());
+        builder.addInterceptor(new RetryInterceptor());
+        builder.setCallFactoryProvider(new RetrofitClient.CallFactoryProvider() {
+            @Override
+            public Call.Factory create(OkHttpClient client) {
+                return new CallLanes(client);
+            }
+        });
+        builder.setConnectionPool(new ConnectionPool(maxIdleConnections, keepAliveMillis,
+                TimeUnit.MILLISECONDS));
+        this.retrofitClient = builder.build();
+        this.service = retrofitClient.buildServiceClient();
+        AuthenticatingMetrics.add(AuthenticatingMetrics.CLIENT_INIT_MILLIS,
+                SystemClock.elapsedRealtime() - startTime);
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            AuthenticatingMetrics.increment(AuthenticatingMetrics.CLIENT_INIT_MAIN_THREAD);
+        }
+    }
+
+    /**
+     * Build the client (trust store, TLS context, OkHttpClient and Retrofit) on a background
+     * thread so that the first call does not pay for it. Optional, returns immediately and
+     * does nothing if the client has already been built.
+     */
+    public static void warmUp() {
+        if (instance != null) {
+            return;
+        }
+        runInBackground(new Runnable() {
+            @Override
+            public void run() {
+                getInstance();
+            }
+        });
+    }
+
+    /**
+     * Open a connection to {@link AuthenticatingConstants#BASE_URL} ahead of time (DNS lookup,
+     * TCP connect and TLS handshake) and leave it idle in the connection pool, so that the next
+     * call only pays for its own round trip. Call this when the user opens a screen that will
+     * make calls shortly. Returns immediately, the work is done on a background thread.
+     * The connection stays open for the keep alive set in {@link #setConnectionPool(int, long)}.
+     * The request is not retried and does not count towards the circuit breakers.
+     */
+    public static void prewarm() {
+        runInBackground(new Runnable() {
+            @Override
+            public void run() {
+                Request request = new Request.Builder()
+                        .url(AuthenticatingConstants.BASE_URL)
+                        .head()
+                        .build();
+                //Shares the connection pool, but skips the endpoint, retry and circuit
+                //breaker interceptors, which are for API calls
+                PrewarmListener listener = new PrewarmListener();
+                OkHttpClient.Builder builder = getOkHttpClient().newBuilder();
+                builder.interceptors().clear();
+                OkHttpClient client = builder.eventListener(listener).build();
+                Response response = null;
+                try {
+                    response = client.newCall(request).execute();
+                    if (listener.connected) {
+                        //Not counted if a pooled connection was already open
+                        AuthenticatingMetrics.increment(AuthenticatingMetrics.CONNECTIONS_PREWARMED);
+                    }
+                } catch (IOException ioe) {
+                    ioe.printStackTrace();
+                } finally {
+                    if (response != null) {
+                        //Closing the response hands the connection back to the pool
+                        response.close();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Notes whether a new connection was opened for the prewarm request
+     */
+    private static class PrewarmListener extends EventListener {
+
+        volatile boolean connected;
+
+        @Override
+        public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy,
+                               Protocol protocol) {
+            connected = true;
+        }
+    }
+
+    private static void runInBackground(final Runnable runnable) {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                try {
+                    runnable.run();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+        }, BACKGROUND_THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Get the shared client, building it if this is the first call
+     */
+    @NonNull
+    static AuthenticatingClient getInstance() {
+        AuthenticatingClient client = instance;
+        if (client == null) {
+            synchronized (LOCK) {
+                client = instance;
+                if (client == null) {
+                    client = new AuthenticatingClient();
+                    instance = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * @return True once the client has been built
+     */
+    static boolean isBuilt() {
+        return instance != null;
+    }
+
+    /**
+     * Get the service used to make calls
+     */
+    @NonNull
+    public static APIService getService() {
+        return getInstance().service;
+    }
+
+    /**
+     * Get the OkHttpClient shared by every call
+     */
+    @NonNull
+    static OkHttpClient getOkHttpClient() {
+        return getInstance().retrofitClient.getOkHttpClient();
+    }
+
+    /**
+     * Set the read and write timeouts, in milliseconds. Defaults to 30 seconds each.
+     * Endpoints with their own {@link EndpointTimeouts} use those instead.
+     * @param readTimeoutInMilliseconds Read timeout. Pass 0 for no timeout
+     * @param writeTimeoutInMilliseconds Write timeout. Pass 0 for no timeout
+     */
+    public static void setTimeouts(int readTimeoutInMilliseconds, int writeTimeoutInMilliseconds) {
+        synchronized (LOCK) {
+            readTimeout = readTimeoutInMilliseconds;
+            writeTimeout = writeTimeoutInMilliseconds;
+            if (instance != null) {
+                instance.retrofitClient.setTimeouts(readTimeout, writeTimeout);
+            }
+        }
+    }
+
+    /**
+     * Replace the timeouts of one endpoint. The defaults are set per endpoint with
+     * {@link EndpointTimeouts} on {@link APIService}. Takes effect on the next call.
+     * @param endpoint Endpoint name, IE "verifyPhone" or "uploadIdEnhanced"
+     * @param connectTimeout Connect timeout in milliseconds
+     * @param readTimeout Read timeout in milliseconds
+     * @param writeTimeout Write timeout in milliseconds
+     * @param callDeadline Deadline for the whole call in milliseconds, 0 for none
+     *                     Pass {@link EndpointTimeouts#CLIENT_DEFAULT} for any of the above to
+     *                     use the client wide setting.
+     */
+    public static void setEndpointTimeouts(@NonNull String endpoint, int connectTimeout,
+                                           int readTimeout, int writeTimeout, int callDeadline) {
+        EndpointRegistry.setPolicy(endpoint, EndpointRegistry.getPolicy(endpoint)
+                .withTimeouts(connectTimeout, readTimeout, writeTimeout, callDeadline));
+    }
+
+    /**
+     * Set the retry policy for calls that are safe to repeat.
+     * Defaults to {@link RetryPolicy#DEFAULT}, pass {@link RetryPolicy#NONE} to disable retries
+     */
+    public static void setRetryPolicy(@NonNull RetryPolicy policy) {
+        RetryInterceptor.setRetryPolicy(policy);
+    }
+
+    /**
+     * Set the retry policy for {@link NonIdempotent} calls (IE verifyQuiz and image uploads).
+     * These are only ever retried when the request cannot have been acted on.
+     * Defaults to {@link RetryPolicy#NON_IDEMPOTENT_DEFAULT}
+     */
+    public static void setNonIdempotentRetryPolicy(@NonNull RetryPolicy policy) {
+        RetryInterceptor.setNonIdempotentRetryPolicy(policy);
+    }
+
+    /**
+     * Set when endpoint circuit breakers open. Defaults to the CIRCUIT_ values in
+     * {@link AuthenticatingConstants}
+     * @param failureThreshold Failures within the window that open the circuit
+     * @param windowMillis Length of the sliding window, in milliseconds
+     * @param openMillis How long calls fail straight away before a probe is let through
+     */
+    public static void setCircuitBreaker(int failureThreshold, long windowMillis, long openMillis) {
+        CircuitBreaker.configure(failureThreshold, windowMillis, openMillis);
+    }
+
+    /**
+     * Get the circuit breaker state of an endpoint
+     * @param endpoint Endpoint name, IE "uploadIdEnhanced"
+     * @return {@link CircuitState}
+     */
+    @NonNull
+    public static CircuitState getCircuitState(@NonNull String endpoint) {
+        return CircuitBreaker.getState(endpoint);
+    }
+
+    /**
+     * Set a listener to be told (on the main thread) whenever an endpoint circuit breaker
+     * changes state
+     * @param listener {@link OnCircuitStateChangeListener}, null to remove
+     */
+    public static void setCircuitStateListener(@Nullable OnCircuitStateChangeListener listener) {
+        CircuitBreaker.setListener(listener);
+    }
+
+    /**
+     * Set how many asynchronous calls may run at once in each lane. Uploads (and the checks of
+     * their results) run in the bulk lane, everything else in the interactive lane, so the
+     * interactive calls never wait on uploads. Takes effect straight away. Defaults to
+     * {@link AuthenticatingConstants#INTERACTIVE_LANE_MAX_REQUESTS} and
+     * {@link AuthenticatingConstants#BULK_LANE_MAX_REQUESTS}
+     */
+    public static void setLaneLimits(int interactiveMaxRequests, int bulkMaxRequests) {
+        CallLanes.setLimits(interactiveMaxRequests, bulkMaxRequests);
+    }
+
+    /**
+     * Set how many idle connections are kept open to the API and for how long. Defaults to
+     * {@link AuthenticatingConstants#MAX_IDLE_CONNECTIONS} and
+     * {@link AuthenticatingConstants#CONNECTION_KEEP_ALIVE_MILLIS}.
+     * Note! This must be called before the client is built (before the first call,
+     * {@link #warmUp()} or {@link #prewarm()}) as replacing the pool would close its connections.
+     * @param maxIdle Maximum number of idle connections
+     * @param keepAliveInMilliseconds How long an idle connection is kept open
+     * @return True if applied, false if the client had already been built
+     */
+    public static boolean setConnectionPool(int maxIdle, long keepAliveInMilliseconds) {
+        synchronized (LOCK) {
+            if (instance != null) {
+                Logging.m("Connection pool not changed, the client has already been built");
+                return false;
+            }
+            maxIdleConnections = maxIdle;
+            keepAliveMillis = keepAliveInMilliseconds;
+            return true;
+        }
+    }
+
+    /**
+     * Set extra headers to send with every call. They are added to the headers of each call,
+     * replacing only headers of the same name. The map is copied, so later changes to it
+     * need another call to this.
+     * @param headersMap Headers map, null or empty to send none
+     */
+    public static void setHeaders(@Nullable Map<String, String> headersMap) {
+        synchronized (LOCK) {
+            headers = (headersMap == null) ? null : new HashMap<>(headersMap);
+            if (instance != null) {
+                instance.retrofitClient.setHeaders(headers);
+            }
+        }
+    }
+
+    /**
+     * Apply the current {@link WebCallsLogging} setting to the client, if it has been built
+     */
+    static void updateLogLevel() {
+        synchronized (LOCK) {
+            if (instance != null) {
+                Logging.m("Updating Logging to: " + WebCallsLogging.isJsonLogging());
+                instance.retrofitClient.setLogLevel(getLogLevel());
+            }
+        }
+    }
+
+    private static HttpLoggingInterceptor.Level getLogLevel() {
+        return WebCallsLogging.isJsonLogging() ? HttpLoggingInterceptor.Level.BODY
+                : HttpLoggingInterceptor.Level.NONE;
+    }
+}
@@ -55,9 +55,102 @@ public class AuthenticatingConstants {
     static final Type TYPE_CHECK_PHOTO_RESULT = new TypeToken<CheckPhotoResults>() {}.getType();
 
     /**
-     * 2 Megabyte cap on incoming images. Larger ones will be resized down. Anything <2mb will be
-     * sent in without any image pre-processing
+     * 2 Megabyte hard cap on the encoded size of an uploaded image. The per-endpoint budgets
+     * below are kept under this.
      */
     public static final float MAX_SIZE_IMAGE_UPLOAD = 2000000;
 
+    /**
+     * Target encoded (JPEG) size, in bytes, for ID and passport images
+     */
+    public static final int DOCUMENT_IMAGE_BYTE_BUDGET = 450000;
+    /**
+     * ID and passport images will not be scaled below this many pixels on their longest side
+     * so that the text on them stays readable
+     */
+    public static final int DOCUMENT_IMAGE_MIN_LONG_EDGE = 1280;
+    /**
+     * ID and passport images larger than this (longest side, in pixels) are scaled down
+     */
+    public static final int DOCUMENT_IMAGE_MAX_LONG_EDGE = 2400;
+
+    /**
+     * Target encoded (JPEG) size, in bytes, for the photos sent to comparePhotos
+     */
+    public static final int PHOTO_IMAGE_BYTE_BUDGET = 250000;
+    /**
+     * Photos sent to comparePhotos will not be scaled below this many pixels on their longest side
+     */
+    public static final int PHOTO_IMAGE_MIN_LONG_EDGE = 640;
+    /**
+     * Photos sent to comparePhotos larger than this (longest side, in pixels) are scaled down
+     */
+    public static final int PHOTO_IMAGE_MAX_LONG_EDGE = 1600;
+
+    /**
+     * Maximum number of idle connections kept open to the API
+     */
+    public static final int MAX_IDLE_CONNECTIONS = 5;
+    /**
+     * How long (in milliseconds) an idle connection to the API is kept open for reuse
+     */
+    public static final long CONNECTION_KEEP_ALIVE_MILLIS = 5 * 60 * 1000;
+    /**
+     * Number of TLS sessions kept for resumption, shared by every client in the process
+     */
+    public static final int TLS_SESSION_CACHE_SIZE = 32;
+
+    /////////////////////
+    //Endpoint Timeouts//
+    /////////////////////
+
+    //Small JSON calls. These fail fast so that a bad network is reported quickly
+    static final int SMALL_CALL_CONNECT_TIMEOUT = 10000;
+    static final int SMALL_CALL_READ_TIMEOUT = 15000;
+    static final int SMALL_CALL_WRITE_TIMEOUT = 10000;
+    static final int SMALL_CALL_DEADLINE = 30000;
+
+    //Calls the server takes a while to answer (quiz generation, background reports)
+    static final int SLOW_CALL_CONNECT_TIMEOUT = 10000;
+    static final int SLOW_CALL_READ_TIMEOUT = 45000;
+    static final int SLOW_CALL_WRITE_TIMEOUT = 10000;
+    static final int SLOW_CALL_DEADLINE = 60000;
+
+    //Image uploads (up to several megabytes of base64 and server side image processing)
+    static final int UPLOAD_CONNECT_TIMEOUT = 15000;
+    static final int UPLOAD_READ_TIMEOUT = 60000;
+    static final int UPLOAD_WRITE_TIMEOUT = 60000;
+    static final int UPLOAD_DEADLINE = 180000;
+
+    ///////////////////
+    //Circuit Breaker//
+    ///////////////////
+
+    /**
+     * Failures of an endpoint within {@link #CIRCUIT_WINDOW_MILLIS} that open its circuit
+     */
+    public static final int CIRCUIT_FAILURE_THRESHOLD = 5;
+    /**
+     * Length of the sliding window failures are counted in, in milliseconds
+     */
+    public static final long CIRCUIT_WINDOW_MILLIS = 60000;
+    /**
+     * How long an open circuit fails calls straight away before letting a probe through,
+     * in milliseconds
+     */
+    public static final long CIRCUIT_OPEN_MILLIS = 30000;
+
+    //////////////
+    //Call Lanes//
+    //////////////
+
+    /**
+     * Asynchronous interactive (non upload) calls that may run at once
+     */
+    public static final int INTERACTIVE_LANE_MAX_REQUESTS = 5;
+    /**
+     * Asynchronous {@link BulkCall} (upload) calls that may run at once
+     */
+    public static final int BULK_LANE_MAX_REQUESTS = 2;
+
 }
@@ -0,0 +1,192 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.support.annotation.NonNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters kept by the SDK at runtime. Read them via {@link #getCount(String)} using one of the
+ * names below or take a copy of all of them with {@link #snapshot()}.
+ */
+public class AuthenticatingMetrics {
+
+    /**
+     * Encoded images found in the in memory image cache
+     */
+    public static final String IMAGE_CACHE_MEMORY_HITS = "image_cache_memory_hits";
+    /**
+     * Encoded images found in the on disk image cache
+     */
+    public static final String IMAGE_CACHE_DISK_HITS = "image_cache_disk_hits";
+    /**
+     * Images that had to be encoded as they were not cached
+     */
+    public static final String IMAGE_CACHE_MISSES = "image_cache_misses";
+    /**
+     * JPEG images that already fit the upload limits and were sent without being re-encoded
+     */
+    public static final String IMAGE_PASSTHROUGH = "image_passthrough";
+    /**
+     * Images encoded as {@link ImagePixelFormat#ARGB_8888}
+     */
+    public static final String IMAGE_FORMAT_ARGB_8888 = "image_format_argb_8888";
+    /**
+     * Images encoded as {@link ImagePixelFormat#RGB_565}
+     */
+    public static final String IMAGE_FORMAT_RGB_565 = "image_format_rgb_565";
+    /**
+     * Images encoded as {@link ImagePixelFormat#LUMINANCE}
+     */
+    public static final String IMAGE_FORMAT_LUMINANCE = "image_format_luminance";
+    /**
+     * Total bitmap memory (in bytes) of the images that were encoded for upload
+     */
+    public static final String IMAGE_BITMAP_BYTES = "image_bitmap_bytes";
+    /**
+     * Total size (in bytes) of the JPEGs that were encoded for upload
+     */
+    public static final String IMAGE_ENCODED_BYTES = "image_encoded_bytes";
+    /**
+     * Time (in milliseconds) taken to build the shared network client, including the TLS setup
+     */
+    public static final String CLIENT_INIT_MILLIS = "client_init_millis";
+    /**
+     * Number of times the shared network client was built on the main thread. Call
+     * {@link AuthenticatingClient#warmUp()} early to keep this at 0.
+     */
+    public static final String CLIENT_INIT_MAIN_THREAD = "client_init_main_thread";
+    /**
+     * Time (in milliseconds) taken to build the shared JSON parser and its adapters for the
+     * response models. Paid once, as part of building the shared network client
+     */
+    public static final String GSON_INIT_MILLIS = "gson_init_millis";
+    /**
+     * Connections opened ahead of time by {@link AuthenticatingClient#prewarm()}
+     */
+    public static final String CONNECTIONS_PREWARMED = "connections_prewarmed";
+    /**
+     * TLS handshakes that negotiated a new session
+     */
+    public static final String TLS_HANDSHAKES_FULL = "tls_handshakes_full";
+    /**
+     * TLS handshakes that resumed a cached session
+     */
+    public static final String TLS_HANDSHAKES_RESUMED = "tls_handshakes_resumed";
+    /**
+     * Calls cancelled because they ran past their {@link EndpointTimeouts#call()} deadline
+     */
+    public static final String CALL_DEADLINE_EXCEEDED = "call_deadline_exceeded";
+    /**
+     * Calls retried by {@link RetryInterceptor}. A counter per endpoint is also kept, named this
+     * followed by an underscore and the endpoint, IE "retry_attempts_getQuiz"
+     */
+    public static final String RETRY_ATTEMPTS = "retry_attempts";
+    /**
+     * Total time (in milliseconds) spent waiting between retries
+     */
+    public static final String RETRY_DELAY_MILLIS = "retry_delay_millis";
+    /**
+     * Calls that still failed after their last allowed attempt
+     */
+    public static final String RETRY_EXHAUSTED = "retry_exhausted";
+    /**
+     * Times an endpoint circuit breaker opened
+     */
+    public static final String CIRCUIT_OPENED = "circuit_opened";
+    /**
+     * Calls failed straight away because their endpoint circuit breaker was open
+     */
+    public static final String CIRCUIT_REJECTED = "circuit_rejected";
+    /**
+     * Prefix of the per endpoint network timings and byte counts, IE "net_getQuiz_server".
+     * See {@link NetworkPhaseListener} for the phases
+     */
+    public static final String NETWORK_PREFIX = "net_";
+    /**
+     * Suffixes of the counters kept for each timing (See {@link #recordTiming(String, long)})
+     */
+    public static final String COUNT_SUFFIX = "_count";
+    public static final String TOTAL_MILLIS_SUFFIX = "_total_millis";
+    public static final String MAX_MILLIS_SUFFIX = "_max_millis";
+
+    private static final ConcurrentMap<String, AtomicLong> COUNTERS = new ConcurrentHashMap<>();
+
+    /**
+     * Get the current value of a counter
+     * @param name Counter name, IE {@link #IMAGE_CACHE_MISSES}
+     * @return Value, 0 if it has never been incremented
+     */
+    public static long getCount(@NonNull String name) {
+        AtomicLong counter = COUNTERS.get(name);
+        return (counter == null) ? 0 : counter.get();
+    }
+
+    /**
+     * Get a copy of every counter
+     * @return Map of counter name to value, sorted by name
+     */
+    @NonNull
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> toReturn = new TreeMap<>();
+        for (Map.Entry<String, AtomicLong> entry : COUNTERS.entrySet()) {
+            toReturn.put(entry.getKey(), entry.getValue().get());
+        }
+        return toReturn;
+    }
+
+    /**
+     * Export every counter, IE to attach to a bug report or send to your own analytics
+     * @return JSON object of counter name to value, sorted by name
+     */
+    @NonNull
+    public static String export() {
+        return GsonProvider.get().toJson(snapshot());
+    }
+
+    /**
+     * Set every counter back to 0
+     */
+    public static void reset() {
+        COUNTERS.clear();
+    }
+
+    static void increment(@NonNull String name) {
+        add(name, 1);
+    }
+
+    static void add(@NonNull String name, long delta) {
+        getCounter(name).addAndGet(delta);
+    }
+
+    /**
+     * Record a timing as three counters: the name followed by {@link #COUNT_SUFFIX},
+     * {@link #TOTAL_MILLIS_SUFFIX} and {@link #MAX_MILLIS_SUFFIX}
+     */
+    static void recordTiming(@NonNull String name, long millis) {
+        add(name + COUNT_SUFFIX, 1);
+        add(name + TOTAL_MILLIS_SUFFIX, millis);
+        AtomicLong max = getCounter(name + MAX_MILLIS_SUFFIX);
+        long current;
+        while (millis > (current = max.get())) {
+            if (max.compareAndSet(current, millis)) {
+                break;
+            }
+        }
+    }
+
+    private static AtomicLong getCounter(@NonNull String name) {
+        AtomicLong counter = COUNTERS.get(name);
+        if (counter == null) {
+            AtomicLong newCounter = new AtomicLong();
+            counter = COUNTERS.putIfAbsent(name, newCounter);
+            if (counter == null) {
+                counter = newCounter;
+            }
+        }
+        return counter;
+    }
+}
@@ -0,0 +1,108 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.support.annotation.NonNull;
+
+/**
+ * Single pass validation of standard (RFC 4648, non URL safe) base64 input. Checks the alphabet,
+ * padding and length without allocating anything. Line breaks (as added by
+ * {@link android.util.Base64#DEFAULT}) are skipped.
+ */
+class Base64Validator {
+
+    /**
+     * Returned by the decodedLength methods when the input is not valid base64
+     */
+    static final long INVALID = -1;
+
+    private static final byte CHAR_INVALID = 0;
+    private static final byte CHAR_DATA = 1;
+    private static final byte CHAR_PADDING = 2;
+    private static final byte CHAR_LINE_BREAK = 3;
+
+    private static final byte[] CHAR_TYPES = new byte[128];
+
+    static {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CHAR_TYPES[c] = CHAR_DATA;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            CHAR_TYPES[c] = CHAR_DATA;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CHAR_TYPES[c] = CHAR_DATA;
+        }
+        CHAR_TYPES['+'] = CHAR_DATA;
+        CHAR_TYPES['/'] = CHAR_DATA;
+        CHAR_TYPES['='] = CHAR_PADDING;
+        CHAR_TYPES['\n'] = CHAR_LINE_BREAK;
+        CHAR_TYPES['\r'] = CHAR_LINE_BREAK;
+    }
+
+    static boolean isValid(@NonNull CharSequence base64) {
+        return decodedLength(base64, 0, base64.length()) != INVALID;
+    }
+
+    /**
+     * Validate base64 characters
+     * @param base64 Characters to check
+     * @param start Index of the first character (inclusive)
+     * @param end Index of the last character (exclusive)
+     * @return Number of bytes the input decodes to, or {@link #INVALID}
+     */
+    static long decodedLength(@NonNull CharSequence base64, int start, int end) {
+        long dataChars = 0;
+        int paddingChars = 0;
+        for (int i = start; i < end; i++) {
+            char c = base64.charAt(i);
+            byte charType = (c < CHAR_TYPES.length) ? CHAR_TYPES[c] : CHAR_INVALID;
+            if (charType == CHAR_DATA) {
+                if (paddingChars > 0) {
+                    //Nothing but padding can follow padding
+                    return INVALID;
+                }
+                dataChars++;
+            } else if (charType == CHAR_PADDING) {
+                paddingChars++;
+            } else if (charType != CHAR_LINE_BREAK) {
+                return INVALID;
+            }
+        }
+        return toDecodedLength(dataChars, paddingChars);
+    }
+
+    /**
+     * Validate base64 bytes (IE, ASCII / UTF-8 encoded base64 characters)
+     * @param base64 Bytes to check
+     * @param offset Index of the first byte
+     * @param length Number of bytes to check
+     * @return Number of bytes the input decodes to, or {@link #INVALID}
+     */
+    static long decodedLength(@NonNull byte[] base64, int offset, int length) {
+        long dataChars = 0;
+        int paddingChars = 0;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            byte b = base64[i];
+            byte charType = (b >= 0) ? CHAR_TYPES[b] : CHAR_INVALID;
+            if (charType == CHAR_DATA) {
+                if (paddingChars > 0) {
+                    return INVALID;
+                }
+                dataChars++;
+            } else if (charType == CHAR_PADDING) {
+                paddingChars++;
+            } else if (charType != CHAR_LINE_BREAK) {
+                return INVALID;
+            }
+        }
+        return toDecodedLength(dataChars, paddingChars);
+    }
+
+    private static long toDecodedLength(long dataChars, int paddingChars) {
+        long totalChars = dataChars + paddingChars;
+        if (totalChars == 0 || paddingChars > 2 || totalChars % 4 != 0) {
+            return INVALID;
+        }
+        return (totalChars / 4) * 3 - paddingChars;
+    }
+}
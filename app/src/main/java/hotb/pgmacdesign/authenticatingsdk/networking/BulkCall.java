@@ -0,0 +1,16 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an {@link APIService} endpoint that is large or not time sensitive (image uploads and
+ * the polls of their results). Asynchronous calls to these run in the bulk lane of
+ * {@link CallLanes} so that they never hold up the interactive calls.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface BulkCall {
+}
@@ -0,0 +1,60 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.support.annotation.NonNull;
+
+import okhttp3.Call;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+/**
+ * Routes calls to one of two clients that share a connection pool, interceptors and TLS setup
+ * but have their own {@link Dispatcher}: one for interactive calls and one for
+ * {@link BulkCall} endpoints. Each lane limits its own concurrency, so slow uploads never use
+ * up the slots the interactive calls need.
+ * Note that the limits only apply to asynchronous (enqueued) calls, synchronous calls run
+ * on the calling thread.
+ */
+class CallLanes implements Call.Factory {
+
+    private static volatile int interactiveMaxRequests = AuthenticatingConstants.INTERACTIVE_LANE_MAX_REQUESTS;
+    private static volatile int bulkMaxRequests = AuthenticatingConstants.BULK_LANE_MAX_REQUESTS;
+    private static volatile CallLanes instance;
+
+    private final OkHttpClient interactiveClient;
+    private final OkHttpClient bulkClient;
+
+    CallLanes(@NonNull OkHttpClient client) {
+        this.interactiveClient = client.newBuilder().dispatcher(new Dispatcher()).build();
+        this.bulkClient = client.newBuilder().dispatcher(new Dispatcher()).build();
+        applyLimits(interactiveClient.dispatcher(), interactiveMaxRequests);
+        applyLimits(bulkClient.dispatcher(), bulkMaxRequests);
+        instance = this;
+    }
+
+    @Override
+    public Call newCall(@NonNull Request request) {
+        return EndpointRegistry.getPolicy(request.url()).bulk ? bulkClient.newCall(request)
+                : interactiveClient.newCall(request);
+    }
+
+    /**
+     * Set the number of asynchronous calls each lane may run at once. Takes effect straight
+     * away, calls over the limit wait in their lane.
+     */
+    static void setLimits(int interactive, int bulk) {
+        interactiveMaxRequests = Math.max(1, interactive);
+        bulkMaxRequests = Math.max(1, bulk);
+        CallLanes lanes = instance;
+        if (lanes != null) {
+            applyLimits(lanes.interactiveClient.dispatcher(), interactiveMaxRequests);
+            applyLimits(lanes.bulkClient.dispatcher(), bulkMaxRequests);
+        }
+    }
+
+    private static void applyLimits(@NonNull Dispatcher dispatcher, int maxRequests) {
+        //Every call goes to the same host, so the per host limit is the lane limit
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequests);
+    }
+}
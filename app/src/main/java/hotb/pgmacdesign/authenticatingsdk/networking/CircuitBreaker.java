@@ -0,0 +1,159 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import hotb.pgmacdesign.authenticatingsdk.interfaces.OnCircuitStateChangeListener;
+
+/**
+ * Circuit breaker for a single endpoint. After {@link #failureThreshold} failures within the
+ * sliding window of {@link #windowMillis} the circuit opens and calls fail straight away for
+ * {@link #openMillis}. It then lets a single probe call through (half open), which either closes
+ * the circuit again or re-opens it.
+ */
+class CircuitBreaker {
+
+    private static final ConcurrentMap<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    private static volatile int failureThreshold = AuthenticatingConstants.CIRCUIT_FAILURE_THRESHOLD;
+    private static volatile long windowMillis = AuthenticatingConstants.CIRCUIT_WINDOW_MILLIS;
+    private static volatile long openMillis = AuthenticatingConstants.CIRCUIT_OPEN_MILLIS;
+    private static volatile OnCircuitStateChangeListener listener;
+    private static Handler mainHandler;
+
+    private final String endpoint;
+    private final ArrayDeque<Long> failureTimes = new ArrayDeque<>();
+    private CircuitState state = CircuitState.CLOSED;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    private CircuitBreaker(@NonNull String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    @NonNull
+    static CircuitBreaker forEndpoint(@NonNull String endpoint) {
+        CircuitBreaker breaker = BREAKERS.get(endpoint);
+        if (breaker == null) {
+            CircuitBreaker newBreaker = new CircuitBreaker(endpoint);
+            breaker = BREAKERS.putIfAbsent(endpoint, newBreaker);
+            if (breaker == null) {
+                breaker = newBreaker;
+            }
+        }
+        return breaker;
+    }
+
+    @NonNull
+    static CircuitState getState(@NonNull String endpoint) {
+        CircuitBreaker breaker = BREAKERS.get(endpoint);
+        return (breaker == null) ? CircuitState.CLOSED : breaker.getState();
+    }
+
+    static void configure(int threshold, long window, long open) {
+        failureThreshold = Math.max(1, threshold);
+        windowMillis = window;
+        openMillis = open;
+    }
+
+    static void setListener(OnCircuitStateChangeListener stateListener) {
+        listener = stateListener;
+    }
+
+    /**
+     * Check whether a call may be made
+     * @return 0 if it may, otherwise the number of milliseconds until the next probe
+     */
+    synchronized long acquire() {
+        if (state == CircuitState.CLOSED) {
+            return 0;
+        }
+        long now = SystemClock.elapsedRealtime();
+        if (state == CircuitState.OPEN) {
+            long remaining = openedAt + openMillis - now;
+            if (remaining > 0) {
+                return remaining;
+            }
+            setState(CircuitState.HALF_OPEN);
+        }
+        if (probeInFlight) {
+            //Wait on the probe, retry after another open period at the latest
+            return openMillis;
+        }
+        probeInFlight = true;
+        return 0;
+    }
+
+    synchronized void onSuccess() {
+        probeInFlight = false;
+        failureTimes.clear();
+        if (state != CircuitState.CLOSED) {
+            setState(CircuitState.CLOSED);
+        }
+    }
+
+    synchronized void onFailure() {
+        long now = SystemClock.elapsedRealtime();
+        if (state == CircuitState.HALF_OPEN) {
+            probeInFlight = false;
+            open(now);
+            return;
+        }
+        failureTimes.addLast(now);
+        while (!failureTimes.isEmpty() && failureTimes.peekFirst() < now - windowMillis) {
+            failureTimes.removeFirst();
+        }
+        if (state == CircuitState.CLOSED && failureTimes.size() >= failureThreshold) {
+            open(now);
+        }
+    }
+
+    /**
+     * The call was cancelled, so tells nothing about the endpoint
+     */
+    synchronized void onIgnored() {
+        probeInFlight = false;
+    }
+
+    private synchronized CircuitState getState() {
+        if (state == CircuitState.OPEN
+                && SystemClock.elapsedRealtime() >= openedAt + openMillis) {
+            return CircuitState.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private void open(long now) {
+        openedAt = now;
+        failureTimes.clear();
+        AuthenticatingMetrics.increment(AuthenticatingMetrics.CIRCUIT_OPENED);
+        setState(CircuitState.OPEN);
+    }
+
+    private void setState(@NonNull final CircuitState newState) {
+        state = newState;
+        final OnCircuitStateChangeListener stateListener = listener;
+        if (stateListener == null) {
+            return;
+        }
+        getMainHandler().post(new Runnable() {
+            @Override
+            public void run() {
+                stateListener.onCircuitStateChanged(endpoint, newState);
+            }
+        });
+    }
+
+    private static synchronized Handler getMainHandler() {
+        if (mainHandler == null) {
+            mainHandler = new Handler(Looper.getMainLooper());
+        }
+        return mainHandler;
+    }
+}
@@ -0,0 +1,51 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import java.io.IOException;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Fails calls straight away (with a {@link CircuitOpenException}) while the
+ * {@link CircuitBreaker} of their endpoint is open. Runs outside of {@link RetryInterceptor} so
+ * that a call and all of its retries count as a single success or failure.
+ * Failures are IOExceptions and 5xx responses, 4xx responses count as successes.
+ */
+class CircuitBreakerInterceptor implements Interceptor {
+
+    private static final int HTTP_SERVER_ERROR = 500;
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        String endpoint = EndpointRegistry.getEndpointName(chain.request().url());
+        if (endpoint == null) {
+            return chain.proceed(chain.request());
+        }
+        CircuitBreaker breaker = CircuitBreaker.forEndpoint(endpoint);
+        long retryAfter = breaker.acquire();
+        if (retryAfter > 0) {
+            AuthenticatingMetrics.increment(AuthenticatingMetrics.CIRCUIT_REJECTED);
+            throw new CircuitOpenException(endpoint, retryAfter);
+        }
+        Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException ioe) {
+            if (chain.call().isCanceled()) {
+                breaker.onIgnored();
+            } else {
+                breaker.onFailure();
+            }
+            throw ioe;
+        } catch (RuntimeException re) {
+            breaker.onIgnored();
+            throw re;
+        }
+        if (response.code() >= HTTP_SERVER_ERROR) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+        return response;
+    }
+}
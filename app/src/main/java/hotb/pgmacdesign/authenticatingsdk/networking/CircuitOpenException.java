@@ -0,0 +1,34 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.support.annotation.NonNull;
+
+import java.io.IOException;
+
+import hotb.pgmacdesign.authenticatingsdk.datamodels.ServiceUnavailableException;
+
+/**
+ * Thrown by {@link CircuitBreakerInterceptor} when a call is not made because the circuit of
+ * its endpoint is open. Converted to a {@link ServiceUnavailableException} before reaching
+ * the caller.
+ */
+class CircuitOpenException extends IOException {
+
+    private final String endpoint;
+    private final long retryAfterMillis;
+
+    CircuitOpenException(@NonNull String endpoint, long retryAfterMillis) {
+        super("The " + endpoint + " endpoint is temporarily unavailable, try again in "
+                + ((retryAfterMillis + 999) / 1000) + " seconds");
+        this.endpoint = endpoint;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    @NonNull
+    ServiceUnavailableException toAuthenticatingException() {
+        ServiceUnavailableException e = new ServiceUnavailableException();
+        e.setAuthErrorString(getMessage());
+        e.setEndpoint(endpoint);
+        e.setRetryAfterMillis(retryAfterMillis);
+        return e;
+    }
+}
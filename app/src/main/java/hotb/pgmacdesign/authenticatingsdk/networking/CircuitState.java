@@ -0,0 +1,21 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+/**
+ * State of the circuit breaker of an endpoint
+ */
+public enum CircuitState {
+    /**
+     * Calls are made as normal
+     */
+    CLOSED,
+    /**
+     * The endpoint has been failing, calls fail straight away with a
+     * {@link hotb.pgmacdesign.authenticatingsdk.datamodels.ServiceUnavailableException}
+     */
+    OPEN,
+    /**
+     * The open period is over. One probe call is let through, the others fail straight away
+     * until it completes. Success closes the circuit, failure opens it again.
+     */
+    HALF_OPEN
+}
@@ -30,8 +30,12 @@ public class CustomConverterFactory extends Converter.Factory  {
     //private static final Type TYPE_LIST_OF_TESTINGPOJO = new TypeToken<ArrayList<TESTINGPOJO>>(){}.getType();
 
 
+    //Backed by the shared Gson so its adapters are not rebuilt for every converter
+    private final GsonConverterFactory gsonConverterFactory;
+
     public CustomConverterFactory() {
         super();
+        this.gsonConverterFactory = GsonConverterFactory.create(GsonProvider.get());
     }
 
     @Override
@@ -94,8 +98,8 @@ public class CustomConverterFactory extends Converter.Factory  {
 
         } else {
             try {
-                Converter<ResponseBody, ?> gsonConverter = GsonConverterFactory
-                        .create().responseBodyConverter(type, annotations, retrofit);
+                Converter<ResponseBody, ?> gsonConverter = gsonConverterFactory
+                        .responseBodyConverter(type, annotations, retrofit);
                 return gsonConverter;
             } catch (Exception e){
                 Log.d("CustomConverterFactory",
@@ -113,8 +117,8 @@ public class CustomConverterFactory extends Converter.Factory  {
                                                           Annotation[] parameterAnnotations,
                                                           Annotation[] methodAnnotations,
                                                           Retrofit retrofit) {
-        Converter<?, RequestBody> gsonConverter = GsonConverterFactory
-                .create().requestBodyConverter(type, parameterAnnotations,
+        Converter<?, RequestBody> gsonConverter = gsonConverterFactory
+                .requestBodyConverter(type, parameterAnnotations,
                         methodAnnotations, retrofit);
         return gsonConverter;
     }
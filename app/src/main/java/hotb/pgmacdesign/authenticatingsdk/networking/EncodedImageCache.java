@@ -0,0 +1,338 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.graphics.Bitmap;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.Okio;
+
+/**
+ * LRU cache of encoded (JPEG) upload images so that resubmitting the same photo, IE a retry
+ * after a failed check, skips decoding and encoding. Entries are keyed by a hash of the source
+ * image content plus the encoding parameters, and are kept in a small memory tier. If enabled
+ * with {@link ImageUploadOptions#setDiskImageCache}, a size bounded disk tier in the app's
+ * cache directory backs it.
+ * The disk tier holds encoded ID / passport / selfie images. Files not used for
+ * {@link #MAX_AGE_MILLIS} are deleted, and {@link ImageUploadOptions#clearImageCache()}
+ * deletes all of them.
+ * Hits and misses are counted in {@link AuthenticatingMetrics}.
+ */
+class EncodedImageCache {
+
+    /**
+     * Bump when the encoding changes so that old entries are not reused
+     */
+    private static final int ENCODING_VERSION = 1;
+    private static final String FOLDER_NAME = "authenticating_image_cache";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final long MAX_MEMORY_BYTES = Math.min(4L * 1024 * 1024,
+            Runtime.getRuntime().maxMemory() / 32);
+    private static final long MAX_DISK_BYTES = 25L * 1024 * 1024;
+    /**
+     * Disk entries not used for this long are deleted, same as abandoned spooled uploads
+     */
+    private static final long MAX_AGE_MILLIS = UploadSpool.MAX_AGE_MILLIS;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int READ_BUFFER_SIZE = 8192;
+    /**
+     * Bytes hashed from each end of a File or Uri image
+     */
+    private static final int HASHED_END_BYTES = 64 * 1024;
+
+    private static final LinkedHashMap<String, byte[]> MEMORY =
+            new LinkedHashMap<>(16, 0.75F, true);
+    private static long memoryBytes;
+    private static boolean expiredDeleted;
+
+    /**
+     * Build the cache key for a bitmap. Every pixel is hashed (FNV-1a) a row at a time.
+     */
+    @NonNull
+    static String buildKey(@NonNull Bitmap bitmap, @NonNull ImageUploadPolicy policy,
+                           @NonNull ImagePixelFormat pixelFormat) {
+        int width = bitmap.getWidth(), height = bitmap.getHeight();
+        int[] row = new int[width];
+        long hash = FNV_OFFSET_BASIS;
+        for (int y = 0; y < height; y++) {
+            bitmap.getPixels(row, 0, width, 0, y, width, 1);
+            for (int pixel : row) {
+                hash = (hash ^ pixel) * FNV_PRIME;
+            }
+        }
+        return buildKey("b", hash, width + "x" + height, policy, pixelFormat);
+    }
+
+    /**
+     * Build the cache key for an encoded image (File or Uri). The first and last
+     * {@link #HASHED_END_BYTES} of the image are hashed (FNV-1a) together with its length and,
+     * for files, when it was modified. The middle is skipped, so a cache miss does not read
+     * the whole image an extra time. If the length is not known (some content providers), the
+     * whole image is hashed instead.
+     */
+    @NonNull
+    static String buildKey(@NonNull ImageSource imageSource, @NonNull ImageUploadPolicy policy,
+                           @NonNull ImagePixelFormat pixelFormat) throws IOException {
+        long expectedLength = imageSource.length();
+        long hash = FNV_OFFSET_BASIS;
+        long length = 0;
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        InputStream inputStream = imageSource.openStream();
+        try {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    hash = (hash ^ (buffer[i] & 0xff)) * FNV_PRIME;
+                }
+                length += read;
+                if (expectedLength != ImageSource.UNKNOWN_LENGTH && length >= HASHED_END_BYTES) {
+                    length += skip(inputStream, expectedLength - HASHED_END_BYTES - length);
+                }
+            }
+        } finally {
+            inputStream.close();
+        }
+        return buildKey("f", hash, length + "_" + imageSource.lastModified(), policy,
+                pixelFormat);
+    }
+
+    /**
+     * Skip up to count bytes (stopping early at the end of the stream)
+     * @return Bytes skipped
+     */
+    private static long skip(@NonNull InputStream inputStream, long count) throws IOException {
+        long skipped = 0;
+        while (skipped < count) {
+            long result = inputStream.skip(count - skipped);
+            if (result <= 0) {
+                //Either the end of the stream or a stream that cannot skip, check which
+                if (inputStream.read() == -1) {
+                    break;
+                }
+                result = 1;
+            }
+            skipped += result;
+        }
+        return skipped;
+    }
+
+    private static String buildKey(String source, long hash, String size,
+                                   @NonNull ImageUploadPolicy policy,
+                                   @NonNull ImagePixelFormat pixelFormat) {
+        return source + Long.toHexString(hash) + "_" + size + "_" + pixelFormat.name()
+                + "_" + policy.maxEncodedBytes
+                + "_" + policy.minLongEdge + "_" + policy.maxLongEdge
+                + "_q" + AdaptiveJpegEncoder.MIN_QUALITY + "-" + AdaptiveJpegEncoder.MAX_QUALITY
+                + "_v" + ENCODING_VERSION;
+    }
+
+    /**
+     * Get an encoded image, checking memory first and then disk
+     * @param key Key from one of the buildKey methods
+     * @return JPEG bytes, or null if not cached
+     */
+    @Nullable
+    static byte[] get(@NonNull String key) {
+        synchronized (MEMORY) {
+            byte[] jpeg = MEMORY.get(key);
+            if (jpeg != null) {
+                AuthenticatingMetrics.increment(AuthenticatingMetrics.IMAGE_CACHE_MEMORY_HITS);
+                return jpeg;
+            }
+        }
+        File file = getDiskFile(key);
+        if (file != null && file.isFile() && isExpired(file, System.currentTimeMillis())) {
+            file.delete();
+        } else if (file != null && file.isFile()) {
+            try {
+                BufferedSource source = Okio.buffer(Okio.source(file));
+                byte[] jpeg;
+                try {
+                    jpeg = source.readByteArray();
+                } finally {
+                    source.close();
+                }
+                //Mark as recently used for disk trimming
+                file.setLastModified(System.currentTimeMillis());
+                putInMemory(key, jpeg);
+                AuthenticatingMetrics.increment(AuthenticatingMetrics.IMAGE_CACHE_DISK_HITS);
+                return jpeg;
+            } catch (IOException ioe) {
+                ioe.printStackTrace();
+                file.delete();
+            }
+        }
+        AuthenticatingMetrics.increment(AuthenticatingMetrics.IMAGE_CACHE_MISSES);
+        return null;
+    }
+
+    /**
+     * Add an encoded image to both tiers
+     * @param key Key from one of the buildKey methods
+     * @param jpeg JPEG bytes. Must not be modified afterwards.
+     */
+    static void put(@NonNull String key, @NonNull byte[] jpeg) {
+        putInMemory(key, jpeg);
+        File file = getDiskFile(key);
+        if (file == null) {
+            return;
+        }
+        File temp = new File(file.getParentFile(), file.getName() + TEMP_FILE_EXTENSION);
+        try {
+            BufferedSink sink = Okio.buffer(Okio.sink(temp));
+            try {
+                sink.write(jpeg);
+            } finally {
+                sink.close();
+            }
+            if (!temp.renameTo(file)) {
+                temp.delete();
+                return;
+            }
+            trimDisk(file.getParentFile());
+        } catch (IOException ioe) {
+            ioe.printStackTrace();
+            temp.delete();
+        }
+    }
+
+    /**
+     * Delete every cached image, from memory and disk
+     */
+    static void clear() {
+        synchronized (MEMORY) {
+            MEMORY.clear();
+            memoryBytes = 0;
+        }
+        clearDisk();
+    }
+
+    /**
+     * Delete every cached image from disk, whether or not the disk tier is enabled
+     */
+    static void clearDisk() {
+        File dir = getDirectory();
+        if (dir == null) {
+            return;
+        }
+        synchronized (EncodedImageCache.class) {
+            File[] files = dir.listFiles();
+            if (files == null) {
+                return;
+            }
+            for (File file : files) {
+                file.delete();
+            }
+        }
+    }
+
+    private static void putInMemory(@NonNull String key, @NonNull byte[] jpeg) {
+        if (jpeg.length > MAX_MEMORY_BYTES) {
+            return;
+        }
+        synchronized (MEMORY) {
+            byte[] previous = MEMORY.put(key, jpeg);
+            if (previous != null) {
+                memoryBytes -= previous.length;
+            }
+            memoryBytes += jpeg.length;
+            //Eldest (least recently used) entries come first
+            Iterator<Map.Entry<String, byte[]>> iterator = MEMORY.entrySet().iterator();
+            while (memoryBytes > MAX_MEMORY_BYTES && iterator.hasNext()) {
+                memoryBytes -= iterator.next().getValue().length;
+                iterator.remove();
+            }
+        }
+    }
+
+    @Nullable
+    private static File getDiskFile(@NonNull String key) {
+        if (!ImageUploadOptions.isDiskImageCache()) {
+            return null;
+        }
+        File dir = getDirectory();
+        if (dir == null) {
+            return null;
+        }
+        //Entries left by an earlier run may have expired since
+        boolean deleteExpired;
+        synchronized (EncodedImageCache.class) {
+            deleteExpired = !expiredDeleted;
+            expiredDeleted = true;
+        }
+        if (deleteExpired) {
+            trimDisk(dir);
+        }
+        return new File(dir, key);
+    }
+
+    @Nullable
+    private static File getDirectory() {
+        File cacheDir = ImageUploadOptions.getImageCacheDirectory();
+        if (cacheDir == null) {
+            return null;
+        }
+        File dir = new File(cacheDir, FOLDER_NAME);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            return null;
+        }
+        return dir;
+    }
+
+    private static boolean isExpired(@NonNull File file, long now) {
+        return file.lastModified() < now - MAX_AGE_MILLIS;
+    }
+
+    /**
+     * Delete expired files, then the least recently used files until the folder fits within
+     * {@link #MAX_DISK_BYTES}
+     */
+    private static void trimDisk(@NonNull File dir) {
+        synchronized (EncodedImageCache.class) {
+            File[] files = dir.listFiles();
+            if (files == null) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            long total = 0;
+            for (int i = 0; i < files.length; i++) {
+                if (isExpired(files[i], now) && files[i].delete()) {
+                    files[i] = null;
+                } else {
+                    total += files[i].length();
+                }
+            }
+            if (total <= MAX_DISK_BYTES) {
+                return;
+            }
+            Arrays.sort(files, new Comparator<File>() {
+                @Override
+                public int compare(File file1, File file2) {
+                    //Deleted (null) files first, they are skipped
+                    if (file1 == null || file2 == null) {
+                        return (file1 == file2) ? 0 : ((file1 == null) ? -1 : 1);
+                    }
+                    long modified1 = file1.lastModified(), modified2 = file2.lastModified();
+                    return (modified1 < modified2) ? -1 : ((modified1 == modified2) ? 0 : 1);
+                }
+            });
+            for (int i = 0; i < files.length && total > MAX_DISK_BYTES; i++) {
+                if (files[i] != null) {
+                    total -= files[i].length();
+                    files[i].delete();
+                }
+            }
+        }
+    }
+}
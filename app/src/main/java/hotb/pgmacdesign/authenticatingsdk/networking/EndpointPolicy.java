@@ -0,0 +1,57 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * Per endpoint settings applied to each call by {@link EndpointPolicyInterceptor},
+ * {@link RetryInterceptor} and {@link CallLanes}. Timeouts are in milliseconds,
+ * {@link EndpointTimeouts#CLIENT_DEFAULT} uses the client setting.
+ */
+class EndpointPolicy {
+
+    static final EndpointPolicy CLIENT_DEFAULTS = new EndpointPolicy(
+            EndpointTimeouts.CLIENT_DEFAULT, EndpointTimeouts.CLIENT_DEFAULT,
+            EndpointTimeouts.CLIENT_DEFAULT, EndpointTimeouts.CLIENT_DEFAULT, true, false);
+
+    final int connectTimeout;
+    final int readTimeout;
+    final int writeTimeout;
+    final int callTimeout;
+    final boolean idempotent;
+    final boolean bulk;
+
+    EndpointPolicy(int connectTimeout, int readTimeout, int writeTimeout, int callTimeout,
+                   boolean idempotent, boolean bulk) {
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.writeTimeout = writeTimeout;
+        this.callTimeout = callTimeout;
+        this.idempotent = idempotent;
+        this.bulk = bulk;
+    }
+
+    /**
+     * Copy this policy with different timeouts
+     */
+    @NonNull
+    EndpointPolicy withTimeouts(int connectTimeout, int readTimeout, int writeTimeout,
+                                int callTimeout) {
+        return new EndpointPolicy(connectTimeout, readTimeout, writeTimeout, callTimeout,
+                idempotent, bulk);
+    }
+
+    @NonNull
+    static EndpointPolicy fromAnnotations(@Nullable EndpointTimeouts timeouts,
+                                          @Nullable NonIdempotent nonIdempotent,
+                                          @Nullable BulkCall bulkCall) {
+        EndpointPolicy policy = new EndpointPolicy(EndpointTimeouts.CLIENT_DEFAULT,
+                EndpointTimeouts.CLIENT_DEFAULT, EndpointTimeouts.CLIENT_DEFAULT,
+                EndpointTimeouts.CLIENT_DEFAULT, nonIdempotent == null, bulkCall != null);
+        if (timeouts == null) {
+            return policy;
+        }
+        return policy.withTimeouts(timeouts.connect(), timeouts.read(), timeouts.write(),
+                timeouts.call());
+    }
+}
@@ -0,0 +1,150 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.os.Build;
+import android.support.annotation.NonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+/**
+ * Applies the {@link EndpointPolicy} of the endpoint being called. Connect, read and write
+ * timeouts are set on the chain. OkHttp (3.9) has no whole call deadline, so a watchdog cancels
+ * the call if it is still running (including reading the response body) when the deadline passes.
+ */
+class EndpointPolicyInterceptor implements Interceptor {
+
+    private static final String WATCHDOG_THREAD_NAME = "Authenticating-Deadline";
+
+    private static final ScheduledThreadPoolExecutor WATCHDOG = buildWatchdog();
+
+    /**
+     * A cancelled deadline stays queued until it would have run (minutes, for uploads) and
+     * holds on to its call, request body included. Cancelling removes it from the queue instead.
+     */
+    private static ScheduledThreadPoolExecutor buildWatchdog() {
+        ScheduledThreadPoolExecutor watchdog = new ScheduledThreadPoolExecutor(1,
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(@NonNull Runnable runnable) {
+                        Thread thread = new Thread(runnable, WATCHDOG_THREAD_NAME);
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            watchdog.setRemoveOnCancelPolicy(true);
+        }
+        return watchdog;
+    }
+
+    /**
+     * Cancel a deadline and drop it from the watchdog's queue
+     */
+    private static void cancelDeadline(@NonNull ScheduledFuture<?> deadline) {
+        if (deadline.cancel(false) && Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+            //No remove on cancel policy before 21
+            WATCHDOG.purge();
+        }
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        EndpointPolicy policy = EndpointRegistry.getPolicy(chain.request().url());
+        if (policy.connectTimeout >= 0) {
+            chain = chain.withConnectTimeout(policy.connectTimeout, TimeUnit.MILLISECONDS);
+        }
+        if (policy.readTimeout >= 0) {
+            chain = chain.withReadTimeout(policy.readTimeout, TimeUnit.MILLISECONDS);
+        }
+        if (policy.writeTimeout >= 0) {
+            chain = chain.withWriteTimeout(policy.writeTimeout, TimeUnit.MILLISECONDS);
+        }
+        if (policy.callTimeout <= 0) {
+            return chain.proceed(chain.request());
+        }
+
+        final Call call = chain.call();
+        ScheduledFuture<?> deadline = WATCHDOG.schedule(new Runnable() {
+            @Override
+            public void run() {
+                AuthenticatingMetrics.increment(AuthenticatingMetrics.CALL_DEADLINE_EXCEEDED);
+                call.cancel();
+            }
+        }, policy.callTimeout, TimeUnit.MILLISECONDS);
+        Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException ioe) {
+            cancelDeadline(deadline);
+            throw ioe;
+        } catch (RuntimeException re) {
+            cancelDeadline(deadline);
+            throw re;
+        }
+        ResponseBody body = response.body();
+        if (body == null) {
+            cancelDeadline(deadline);
+            return response;
+        }
+        //Keep the watchdog running until the body has been read
+        return response.newBuilder().body(new DeadlineResponseBody(body, deadline)).build();
+    }
+
+    /**
+     * Cancels the deadline once the body has been read to the end or closed
+     */
+    private static class DeadlineResponseBody extends ResponseBody {
+
+        private final ResponseBody delegate;
+        private final BufferedSource source;
+
+        DeadlineResponseBody(@NonNull ResponseBody delegate,
+                             @NonNull final ScheduledFuture<?> deadline) {
+            this.delegate = delegate;
+            this.source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                @Override
+                public long read(Buffer sink, long byteCount) throws IOException {
+                    long read = super.read(sink, byteCount);
+                    if (read == -1) {
+                        cancelDeadline(deadline);
+                    }
+                    return read;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    cancelDeadline(deadline);
+                    super.close();
+                }
+            });
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import okhttp3.HttpUrl;
+import retrofit2.http.POST;
+
+/**
+ * Table of {@link EndpointPolicy} keyed by endpoint name (the last path segment, IE
+ * "verifyPhone"). Filled from the {@link EndpointTimeouts}, {@link NonIdempotent} and
+ * {@link BulkCall} annotations on {@link APIService} the first time it is used, entries can then
+ * be replaced at runtime.
+ */
+class EndpointRegistry {
+
+    private static final ConcurrentMap<String, EndpointPolicy> POLICIES = new ConcurrentHashMap<>();
+
+    static {
+        for (Method method : APIService.class.getMethods()) {
+            POST post = method.getAnnotation(POST.class);
+            if (post == null) {
+                continue;
+            }
+            String endpoint = getEndpointName(post.value());
+            if (endpoint != null) {
+                POLICIES.put(endpoint, EndpointPolicy.fromAnnotations(
+                        method.getAnnotation(EndpointTimeouts.class),
+                        method.getAnnotation(NonIdempotent.class),
+                        method.getAnnotation(BulkCall.class)));
+            }
+        }
+    }
+
+    /**
+     * Get the policy for the endpoint a request is sent to
+     * @return {@link EndpointPolicy}, {@link EndpointPolicy#CLIENT_DEFAULTS} if none is set
+     */
+    @NonNull
+    static EndpointPolicy getPolicy(@NonNull HttpUrl url) {
+        String endpoint = getEndpointName(url);
+        return (endpoint == null) ? EndpointPolicy.CLIENT_DEFAULTS : getPolicy(endpoint);
+    }
+
+    /**
+     * Get the policy for an endpoint by name
+     * @return {@link EndpointPolicy}, {@link EndpointPolicy#CLIENT_DEFAULTS} if none is set
+     */
+    @NonNull
+    static EndpointPolicy getPolicy(@NonNull String endpoint) {
+        EndpointPolicy policy = POLICIES.get(endpoint.trim());
+        return (policy == null) ? EndpointPolicy.CLIENT_DEFAULTS : policy;
+    }
+
+    static void setPolicy(@NonNull String endpoint, @NonNull EndpointPolicy policy) {
+        POLICIES.put(endpoint.trim(), policy);
+    }
+
+    /**
+     * Get the endpoint name of a request. Some of the {@link APIService} paths end with a space,
+     * which is trimmed.
+     */
+    @Nullable
+    static String getEndpointName(@NonNull HttpUrl url) {
+        List<String> segments = url.pathSegments();
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            String segment = segments.get(i).trim();
+            if (!segment.isEmpty()) {
+                return segment;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static String getEndpointName(@NonNull String path) {
+        String trimmed = path.trim();
+        int index = trimmed.lastIndexOf('/');
+        String endpoint = trimmed.substring(index + 1);
+        return endpoint.isEmpty() ? null : endpoint;
+    }
+}
@@ -0,0 +1,41 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Timeouts for a single {@link APIService} endpoint, in milliseconds. Applied to each call by
+ * {@link EndpointPolicyInterceptor}. Any value left at {@link #CLIENT_DEFAULT} uses the client
+ * wide setting (See {@link AuthenticatingClient#setTimeouts(int, int)}).
+ * The values can be replaced at runtime via
+ * {@link AuthenticatingClient#setEndpointTimeouts(String, int, int, int, int)}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface EndpointTimeouts {
+
+    int CLIENT_DEFAULT = -1;
+
+    /**
+     * Time allowed to open the connection (DNS, TCP and TLS)
+     */
+    int connect() default CLIENT_DEFAULT;
+
+    /**
+     * Maximum time between bytes read from the server
+     */
+    int read() default CLIENT_DEFAULT;
+
+    /**
+     * Maximum time between bytes written to the server
+     */
+    int write() default CLIENT_DEFAULT;
+
+    /**
+     * Deadline for the whole call, from the start of the request until the response body has
+     * been read, including any retries. 0 for no deadline
+     */
+    int call() default CLIENT_DEFAULT;
+}
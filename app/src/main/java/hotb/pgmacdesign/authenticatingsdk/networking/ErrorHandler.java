@@ -1,8 +1,8 @@
 package hotb.pgmacdesign.authenticatingsdk.networking;
 
-import com.google.gson.Gson;
-
 import hotb.pgmacdesign.authenticatingsdk.datamodels.AuthenticatingException;
+import hotb.pgmacdesign.authenticatingsdk.datamodels.TopLevelObj;
+import okhttp3.ResponseBody;
 
 /**
  * Created by pmacdowell on 2017-07-25.
@@ -11,46 +11,70 @@ import hotb.pgmacdesign.authenticatingsdk.datamodels.AuthenticatingException;
 class ErrorHandler {
 
     static void checkForAuthenticatingError(String responseBodyString) throws AuthenticatingException {
-        ErrorParsingObj errorParsingObj = parseMessageToError(responseBodyString);
-        if(errorParsingObj != null){
-            if(!errorParsingObj.getSuccessful()){
-                AuthenticatingException authE = new AuthenticatingException();
-                authE.setAuthErrorString(errorParsingObj.getErrorMessage());
-                authE.setAuthErrorStringDetails(errorParsingObj.getErrorMessage());
-                throw authE;
+        TopLevelObj errorResponse = parseMessageToError(responseBodyString);
+        if(errorResponse != null){
+            if(!errorResponse.getSuccessful()){
+                throw buildAuthenticatingError(errorResponse);
+            }
+        }
+        //If nothing else, means it is not an error
+    }
+
+    /**
+     * Check an error body, parsing it straight from its source. The body is closed once read.
+     * @param errorBody Error body, can be null
+     */
+    static void checkForAuthenticatingError(ResponseBody errorBody) throws AuthenticatingException {
+        TopLevelObj errorResponse = (TopLevelObj) RetrofitParser.convert(
+                errorBody, TopLevelObj.class);
+        if(errorResponse != null){
+            if(!errorResponse.getSuccessful()){
+                throw buildAuthenticatingError(errorResponse);
             }
         }
         //If nothing else, means it is not an error
     }
 
+    /**
+     * Check an already decoded response for an error reported by the server, using the
+     * "successful" and "errorMessage" fields it was decoded with
+     * (See {@link TopLevelObj#isErrorResponse()}). Objects that are not a
+     * {@link TopLevelObj} cannot hold an error and pass.
+     * @param responseBody Decoded response, can be null
+     */
     static void checkForAuthenticatingErrorObject(Object responseBody) throws AuthenticatingException {
-        String str = null;
-        try {
-            str = new Gson().toJson(responseBody);
-        } catch (Exception e){}
-        ErrorParsingObj errorParsingObj = parseMessageToError(str);
-        if(errorParsingObj != null){
-            if(!errorParsingObj.getSuccessful()){
-                AuthenticatingException authE = new AuthenticatingException();
-                authE.setAuthErrorString(errorParsingObj.getErrorMessage());
-                authE.setAuthErrorStringDetails(errorParsingObj.getErrorMessage());
-                throw authE;
+        if(responseBody instanceof TopLevelObj){
+            TopLevelObj topLevelObj = (TopLevelObj) responseBody;
+            if(topLevelObj.isErrorResponse()){
+                throw buildAuthenticatingError(topLevelObj);
             }
         }
         //If nothing else, means it is not an error
     }
 
     /**
-     * Parse the error message and convert to an ErrorParsingObj
+     * Build the exception for an error reported by the server
+     * @param errorResponse Response holding the error message
+     * @return {@link AuthenticatingException}
+     */
+    static AuthenticatingException buildAuthenticatingError(TopLevelObj errorResponse){
+        AuthenticatingException authE = new AuthenticatingException();
+        authE.setAuthErrorString(errorResponse.getErrorMessage());
+        authE.setAuthErrorStringDetails(errorResponse.getErrorMessage());
+        return authE;
+    }
+
+    /**
+     * Parse the error message and convert to a {@link TopLevelObj}
      * @param responseString
      * @return
      */
-    private static ErrorParsingObj parseMessageToError(String responseString){
+    private static TopLevelObj parseMessageToError(String responseString){
         if(StringUtilities.isNullOrEmpty(responseString)){
             return null;
         }
         try {
-            return (new Gson().fromJson(responseString, ErrorParsingObj.class));
+            return (GsonProvider.get().fromJson(responseString, TopLevelObj.class));
         } catch (Exception e1){}
         return null;
     }
@@ -0,0 +1,68 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import hotb.pgmacdesign.authenticatingsdk.datamodels.AuthenticatingException;
+import hotb.pgmacdesign.authenticatingsdk.datamodels.AvailableNetworks;
+import hotb.pgmacdesign.authenticatingsdk.datamodels.CheckPhotoResults;
+import hotb.pgmacdesign.authenticatingsdk.datamodels.DataModelAdapterFactory;
+import hotb.pgmacdesign.authenticatingsdk.datamodels.QuizObject;
+import hotb.pgmacdesign.authenticatingsdk.datamodels.SimpleResponse;
+import hotb.pgmacdesign.authenticatingsdk.datamodels.TopLevelObj;
+import hotb.pgmacdesign.authenticatingsdk.datamodels.User;
+
+/**
+ * The one {@link Gson} instance used by the SDK. Gson is thread safe and caches the adapter it
+ * finds for each type, so a new instance per parse throws that work away every time.
+ * The models use the streaming adapters in {@link DataModelAdapterFactory} (no reflection),
+ * these are looked up up front, when the instance is built.
+ */
+class GsonProvider {
+
+    /**
+     * Types parsed from (or written to) the web calls, their adapters are built with the instance
+     */
+    private static final Class<?>[] MODEL_CLASSES = {
+            User.class,
+            QuizObject.class,
+            CheckPhotoResults.class,
+            AvailableNetworks.class,
+            SimpleResponse.class,
+            AuthenticatingException.class,
+            TopLevelObj.class
+    };
+
+    /**
+     * Lazy holder, built on first access to {@link #get()}
+     */
+    private static class Holder {
+        static final Gson GSON;
+
+        static {
+            long startTime = SystemClock.elapsedRealtime();
+            Gson gson = new GsonBuilder()
+                    .registerTypeAdapterFactory(new DataModelAdapterFactory())
+                    .create();
+            for (Class<?> modelClass : MODEL_CLASSES) {
+                try {
+                    gson.getAdapter(modelClass);
+                } catch (Exception e) {
+                    //Built again (and the error thrown) on first use instead
+                    e.printStackTrace();
+                }
+            }
+            AuthenticatingMetrics.add(AuthenticatingMetrics.GSON_INIT_MILLIS,
+                    SystemClock.elapsedRealtime() - startTime);
+            GSON = gson;
+        }
+    }
+
+    @NonNull
+    static Gson get() {
+        return Holder.GSON;
+    }
+}
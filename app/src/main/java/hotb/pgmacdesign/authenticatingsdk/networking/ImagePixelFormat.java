@@ -0,0 +1,41 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.graphics.Bitmap;
+
+/**
+ * Pixel format images are decoded and encoded in before being uploaded.
+ * Set per upload type via {@link ImageUploadOptions}.
+ */
+public enum ImagePixelFormat {
+
+    /**
+     * Full color, 4 bytes per pixel
+     */
+    ARGB_8888(Bitmap.Config.ARGB_8888, AuthenticatingMetrics.IMAGE_FORMAT_ARGB_8888),
+    /**
+     * Reduced color depth, no alpha, 2 bytes per pixel
+     */
+    RGB_565(Bitmap.Config.RGB_565, AuthenticatingMetrics.IMAGE_FORMAT_RGB_565),
+    /**
+     * Grayscale. Android cannot JPEG encode single channel bitmaps, so these are held as
+     * RGB_565 (2 bytes per pixel) with the color removed before encoding. The JPEG chroma
+     * channels are then flat and compress to almost nothing.
+     */
+    LUMINANCE(Bitmap.Config.RGB_565, AuthenticatingMetrics.IMAGE_FORMAT_LUMINANCE);
+
+    private final Bitmap.Config config;
+    private final String metricName;
+
+    ImagePixelFormat(Bitmap.Config config, String metricName) {
+        this.config = config;
+        this.metricName = metricName;
+    }
+
+    Bitmap.Config getConfig() {
+        return config;
+    }
+
+    String getMetricName() {
+        return metricName;
+    }
+}
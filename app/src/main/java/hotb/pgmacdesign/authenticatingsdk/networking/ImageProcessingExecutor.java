@@ -0,0 +1,148 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.os.AsyncTask;
+import android.os.Process;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor used by the SDK to decode, scale and prepare images before they are uploaded.
+ * Work run here does not queue behind (or block) the AsyncTasks of the host app, and the front
+ * and back of an ID are processed at the same time when there are threads available.
+ * By default the pool is sized to the number of cores, capped by how many full size upload
+ * images fit within a quarter of the heap. Use {@link #setMaxThreads(int)} to change the size
+ * or {@link #setExecutor(ExecutorService)} to supply an executor of your own.
+ */
+public class ImageProcessingExecutor {
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+    /**
+     * Fraction of the max heap that concurrently processed images are allowed to use
+     */
+    private static final int HEAP_FRACTION_DIVISOR = 4;
+
+    private static final Object LOCK = new Object();
+    private static ExecutorService customExecutor;
+    private static ThreadPoolExecutor defaultExecutor;
+    private static int maxThreads = -1;
+
+    /**
+     * Runs tasks on {@link #getExecutor()}. If that rejects them (IE a custom executor that was
+     * shut down or is full) they run on {@link AsyncTask#THREAD_POOL_EXECUTOR} instead.
+     * An AsyncTask cannot be executed again once its executor has rejected it, so the
+     * fallback has to happen within the executor it is given.
+     */
+    private static final Executor TASK_EXECUTOR = new Executor() {
+        @Override
+        public void execute(@NonNull Runnable task) {
+            try {
+                getExecutor().execute(task);
+            } catch (RejectedExecutionException ree) {
+                ree.printStackTrace();
+                AsyncTask.THREAD_POOL_EXECUTOR.execute(task);
+            }
+        }
+    };
+
+    /**
+     * Supply your own executor to process images on. Note that the SDK will not shut it down.
+     * @param executor Executor to use, or null to go back to the SDK default
+     */
+    public static void setExecutor(@Nullable ExecutorService executor) {
+        synchronized (LOCK) {
+            customExecutor = executor;
+        }
+    }
+
+    /**
+     * Set the max number of threads used by the default executor. Has no effect on an
+     * executor passed into {@link #setExecutor(ExecutorService)}.
+     * @param threads Thread count, 1 or higher. Pass 0 or less to go back to the default sizing.
+     */
+    public static void setMaxThreads(int threads) {
+        synchronized (LOCK) {
+            maxThreads = threads;
+            if (defaultExecutor != null) {
+                int size = getDefaultThreadCount();
+                //Order matters here as the core size may not exceed the max size
+                if (size > defaultExecutor.getMaximumPoolSize()) {
+                    defaultExecutor.setMaximumPoolSize(size);
+                    defaultExecutor.setCorePoolSize(size);
+                } else {
+                    defaultExecutor.setCorePoolSize(size);
+                    defaultExecutor.setMaximumPoolSize(size);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the executor images should be processed on
+     * @return The one passed into {@link #setExecutor(ExecutorService)} or the SDK default
+     */
+    @NonNull
+    static ExecutorService getExecutor() {
+        synchronized (LOCK) {
+            if (customExecutor != null) {
+                return customExecutor;
+            }
+            if (defaultExecutor == null) {
+                int size = getDefaultThreadCount();
+                defaultExecutor = new ThreadPoolExecutor(size, size, KEEP_ALIVE_SECONDS,
+                        TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                        new ImageThreadFactory());
+                //Threads are only kept around while images are being processed
+                defaultExecutor.allowCoreThreadTimeOut(true);
+            }
+            return defaultExecutor;
+        }
+    }
+
+    /**
+     * Get the executor the SDK's image processing AsyncTasks are run with
+     */
+    @NonNull
+    static Executor getTaskExecutor() {
+        return TASK_EXECUTOR;
+    }
+
+    private static int getDefaultThreadCount() {
+        if (maxThreads > 0) {
+            return maxThreads;
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        //Worst case size (ARGB_8888) of a decoded image at the max document upload resolution
+        long bytesPerImage = (long) AuthenticatingConstants.DOCUMENT_IMAGE_MAX_LONG_EDGE
+                * AuthenticatingConstants.DOCUMENT_IMAGE_MAX_LONG_EDGE * 4;
+        long memoryBudget = Runtime.getRuntime().maxMemory() / HEAP_FRACTION_DIVISOR;
+        int memoryLimit = (int) Math.max(1, memoryBudget / bytesPerImage);
+        return Math.max(1, Math.min(cores, memoryLimit));
+    }
+
+    private static class ImageThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(@NonNull final Runnable r) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                    r.run();
+                }
+            }, "AuthenticatingImage #" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
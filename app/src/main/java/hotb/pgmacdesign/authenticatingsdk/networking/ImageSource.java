@@ -0,0 +1,144 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.content.ContentResolver;
+import android.content.res.AssetFileDescriptor;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.net.Uri;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An encoded image (File or Uri) that can be opened as many times as needed. Images are read
+ * in place, content:// Uris included, so nothing has to be copied to a temp file first.
+ */
+abstract class ImageSource {
+
+    static final long UNKNOWN_LENGTH = -1;
+
+    /**
+     * Open a new stream over the encoded image. The caller must close it.
+     */
+    @NonNull
+    abstract InputStream openStream() throws IOException;
+
+    /**
+     * Decode the image with the given options
+     * @return Bitmap, or null if it could not be decoded (or only bounds were requested)
+     */
+    @Nullable
+    Bitmap decode(@NonNull BitmapFactory.Options options) throws IOException {
+        InputStream inputStream = openStream();
+        try {
+            return BitmapFactory.decodeStream(inputStream, null, options);
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * @return Length of the encoded image in bytes, or {@link #UNKNOWN_LENGTH}
+     */
+    long length() {
+        return UNKNOWN_LENGTH;
+    }
+
+    /**
+     * @return When the image was last modified, or 0 if not known
+     */
+    long lastModified() {
+        return 0;
+    }
+
+    static ImageSource fromFile(@NonNull File file) {
+        return new FileSource(file);
+    }
+
+    static ImageSource fromUri(@NonNull ContentResolver contentResolver, @NonNull Uri uri) {
+        return new UriSource(contentResolver, uri);
+    }
+
+    private static class FileSource extends ImageSource {
+
+        private final File file;
+
+        private FileSource(@NonNull File file) {
+            this.file = file;
+        }
+
+        @NonNull
+        @Override
+        InputStream openStream() throws IOException {
+            return new FileInputStream(file);
+        }
+
+        @Nullable
+        @Override
+        Bitmap decode(@NonNull BitmapFactory.Options options) {
+            return BitmapFactory.decodeFile(file.getAbsolutePath(), options);
+        }
+
+        @Override
+        long length() {
+            return file.isFile() ? file.length() : UNKNOWN_LENGTH;
+        }
+
+        @Override
+        long lastModified() {
+            return file.lastModified();
+        }
+    }
+
+    /**
+     * Reads through the ContentResolver, which handles content://, file:// and
+     * android.resource:// Uris
+     */
+    private static class UriSource extends ImageSource {
+
+        private final ContentResolver contentResolver;
+        private final Uri uri;
+
+        private UriSource(@NonNull ContentResolver contentResolver, @NonNull Uri uri) {
+            this.contentResolver = contentResolver;
+            this.uri = uri;
+        }
+
+        @NonNull
+        @Override
+        InputStream openStream() throws IOException {
+            InputStream inputStream = contentResolver.openInputStream(uri);
+            if (inputStream == null) {
+                throw new FileNotFoundException("Could not open " + uri);
+            }
+            return inputStream;
+        }
+
+        /**
+         * The length the provider declares, which not every provider does
+         */
+        @Override
+        long length() {
+            AssetFileDescriptor descriptor = null;
+            try {
+                descriptor = contentResolver.openAssetFileDescriptor(uri, "r");
+                return (descriptor == null) ? UNKNOWN_LENGTH : descriptor.getLength();
+            } catch (IOException | SecurityException e) {
+                return UNKNOWN_LENGTH;
+            } finally {
+                if (descriptor != null) {
+                    try {
+                        descriptor.close();
+                    } catch (IOException ioe) {
+                        ioe.printStackTrace();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.content.Context;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+
+/**
+ * Options for how images are prepared before they are uploaded
+ */
+public class ImageUploadOptions {
+
+    private static volatile boolean jpegPassthrough = true;
+    private static volatile boolean stripJpegMetadata = true;
+    private static volatile ImagePixelFormat documentPixelFormat = ImagePixelFormat.RGB_565;
+    private static volatile ImagePixelFormat photoPixelFormat = ImagePixelFormat.ARGB_8888;
+    private static volatile boolean diskImageCache = false;
+    private static volatile File imageCacheDirectory;
+
+    /**
+     * If enabled, JPEG images that are already within the size and resolution limits of the
+     * endpoint are sent as they are, without being decoded and compressed again.
+     * Defaults to true.
+     */
+    public static void setJpegPassthrough(boolean enabled) {
+        jpegPassthrough = enabled;
+    }
+
+    public static boolean isJpegPassthrough() {
+        return jpegPassthrough;
+    }
+
+    /**
+     * If enabled, EXIF / XMP (including the embedded thumbnail), Photoshop and comment segments
+     * are removed from JPEG images sent as they are. Images that are compressed again by the
+     * SDK never include them. Defaults to true.
+     */
+    public static void setStripJpegMetadata(boolean enabled) {
+        stripJpegMetadata = enabled;
+    }
+
+    public static boolean isStripJpegMetadata() {
+        return stripJpegMetadata;
+    }
+
+    /**
+     * Set the pixel format used for ID and passport images (uploadId, uploadIdEnhanced,
+     * uploadPassport). Defaults to {@link ImagePixelFormat#RGB_565}.
+     */
+    public static void setDocumentPixelFormat(@NonNull ImagePixelFormat pixelFormat) {
+        documentPixelFormat = pixelFormat;
+    }
+
+    /**
+     * Set the pixel format used for the photos sent to comparePhotos.
+     * Defaults to {@link ImagePixelFormat#ARGB_8888}.
+     */
+    public static void setPhotoPixelFormat(@NonNull ImagePixelFormat pixelFormat) {
+        photoPixelFormat = pixelFormat;
+    }
+
+    /**
+     * If enabled, the encoded images the SDK keeps so that a photo sent again is not encoded
+     * again are also written to the app's cache directory, so they are reused after the app
+     * restarts. NOTE! These are the encoded ID / passport / selfie images. They stay on disk
+     * until not used for 24 hours, or until {@link #clearImageCache()} is called.
+     * Defaults to false, images are then only kept in memory. Disabling deletes the images
+     * already on disk.
+     * @param context Context, its {@link Context#getCacheDir()} is used
+     */
+    public static void setDiskImageCache(@NonNull Context context, boolean enabled) {
+        imageCacheDirectory = context.getCacheDir();
+        diskImageCache = enabled;
+        if (!enabled) {
+            EncodedImageCache.clearDisk();
+        }
+    }
+
+    public static boolean isDiskImageCache() {
+        return diskImageCache;
+    }
+
+    /**
+     * Delete the encoded images the SDK keeps so that a photo sent again is not encoded
+     * again (in memory, and on disk if {@link #setDiskImageCache} was enabled). IE, when the
+     * user logs out or the verification is finished. Images not used for 24 hours are
+     * deleted regardless.
+     */
+    public static void clearImageCache() {
+        EncodedImageCache.clear();
+    }
+
+    /**
+     * Get the directory the disk image cache is kept in
+     * @return The app's cache directory, null until {@link #setDiskImageCache} is called
+     */
+    @Nullable
+    static File getImageCacheDirectory() {
+        return imageCacheDirectory;
+    }
+
+    /**
+     * Get the pixel format for images uploaded under a policy
+     */
+    @NonNull
+    static ImagePixelFormat getPixelFormat(@NonNull ImageUploadPolicy policy) {
+        return (policy == ImageUploadPolicy.PHOTO) ? photoPixelFormat : documentPixelFormat;
+    }
+}
@@ -0,0 +1,44 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+/**
+ * Encoding limits for the images sent to a particular upload endpoint.
+ * {@link AdaptiveJpegEncoder}
+ */
+class ImageUploadPolicy {
+
+    /**
+     * Used for ID and passport images (uploadId, uploadIdEnhanced, uploadPassport). These need
+     * enough resolution for the text on the document to be read.
+     */
+    static final ImageUploadPolicy DOCUMENT = new ImageUploadPolicy(
+            AuthenticatingConstants.DOCUMENT_IMAGE_BYTE_BUDGET,
+            AuthenticatingConstants.DOCUMENT_IMAGE_MIN_LONG_EDGE,
+            AuthenticatingConstants.DOCUMENT_IMAGE_MAX_LONG_EDGE);
+
+    /**
+     * Used for the photos sent to comparePhotos
+     */
+    static final ImageUploadPolicy PHOTO = new ImageUploadPolicy(
+            AuthenticatingConstants.PHOTO_IMAGE_BYTE_BUDGET,
+            AuthenticatingConstants.PHOTO_IMAGE_MIN_LONG_EDGE,
+            AuthenticatingConstants.PHOTO_IMAGE_MAX_LONG_EDGE);
+
+    /**
+     * Target size of the encoded JPEG, in bytes
+     */
+    final int maxEncodedBytes;
+    /**
+     * The longest side of the image will not be scaled below this many pixels
+     */
+    final int minLongEdge;
+    /**
+     * Images whose longest side is larger than this will be scaled down before encoding
+     */
+    final int maxLongEdge;
+
+    ImageUploadPolicy(int maxEncodedBytes, int minLongEdge, int maxLongEdge) {
+        this.maxEncodedBytes = maxEncodedBytes;
+        this.minLongEdge = minLongEdge;
+        this.maxLongEdge = maxLongEdge;
+    }
+}
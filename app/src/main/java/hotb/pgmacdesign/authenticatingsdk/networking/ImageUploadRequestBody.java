@@ -0,0 +1,311 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.graphics.Bitmap;
+import android.support.annotation.NonNull;
+import android.util.Base64;
+import android.util.Base64OutputStream;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.Utf8;
+
+/**
+ * Request body used by the image upload endpoints (uploadId, uploadIdEnhanced, uploadPassport
+ * and comparePhotos). Instead of building the base64 Strings on the heap and having Gson
+ * serialize them a second time, this writes the JSON envelope itself and streams each image
+ * through a Base64 encoder straight into the okio {@link BufferedSink}.
+ * Note! If JSON logging is enabled ({@link WebCallsLogging#setJsonLogging(boolean)}), the
+ * logging interceptor will buffer the entire body in memory in order to print it.
+ */
+class ImageUploadRequestBody extends RequestBody {
+
+    static final String ID_FRONT = "idFront";
+    static final String ID_BACK = "idBack";
+    static final String IMG_1 = "img1";
+    static final String IMG_2 = "img2";
+    private static final String ACCESS_CODE = "accessCode";
+    private static final MediaType MEDIA_TYPE_JSON = MediaType.parse("application/json; charset=UTF-8");
+
+    private String accessCode;
+    private final Map<String, ImagePart> images;
+
+    ImageUploadRequestBody() {
+        this.images = new LinkedHashMap<>();
+    }
+
+    void setAccessCode(String accessCode) {
+        this.accessCode = accessCode;
+    }
+
+    /**
+     * Add an image to the body
+     * @param fieldName JSON field name, IE {@link #ID_FRONT} or {@link #IMG_1}
+     * @param part The image to be written out as a base64 String
+     */
+    void addImage(@NonNull String fieldName, @NonNull ImagePart part) {
+        this.images.put(fieldName, part);
+    }
+
+    /**
+     * Release anything being held by the images (IE recycle bitmaps). This should only be called
+     * once the call has completed as the body cannot be written again afterwards.
+     */
+    void release() {
+        for (ImagePart part : images.values()) {
+            try {
+                part.release();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Override
+    public MediaType contentType() {
+        return MEDIA_TYPE_JSON;
+    }
+
+    /**
+     * Length is only known if every image knows its encoded length ahead of time. If any of
+     * them do not (IE bitmaps, which are compressed while writing), -1 is returned and the
+     * body is sent chunked.
+     */
+    @Override
+    public long contentLength() throws IOException {
+        long length = 0;
+        for (ImagePart part : images.values()) {
+            long partLength = part.base64Length();
+            if (partLength < 0) {
+                return -1;
+            }
+            length += partLength;
+        }
+        Buffer envelope = new Buffer();
+        writeEnvelopeStart(envelope);
+        length += envelope.size();
+        for (String fieldName : images.keySet()) {
+            //Each field is written as ,"fieldName":"<base64>"
+            length += Utf8.size(fieldName) + 6;
+        }
+        //Closing bracket
+        return length + 1;
+    }
+
+    @Override
+    public void writeTo(@NonNull BufferedSink sink) throws IOException {
+        writeEnvelopeStart(sink);
+        for (Map.Entry<String, ImagePart> entry : images.entrySet()) {
+            sink.writeUtf8(",\"");
+            sink.writeUtf8(entry.getKey());
+            sink.writeUtf8("\":\"");
+            entry.getValue().writeBase64(sink);
+            sink.writeUtf8("\"");
+        }
+        sink.writeUtf8("}");
+    }
+
+    private void writeEnvelopeStart(BufferedSink sink) throws IOException {
+        sink.writeUtf8("{\"" + ACCESS_CODE + "\":");
+        writeJsonString(sink, accessCode);
+    }
+
+    /**
+     * Write a quoted and escaped JSON String (or null)
+     */
+    private static void writeJsonString(BufferedSink sink, String str) throws IOException {
+        if (str == null) {
+            sink.writeUtf8("null");
+            return;
+        }
+        sink.writeByte('"');
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            switch (c) {
+                case '"':
+                case '\\':
+                    sink.writeByte('\\');
+                    sink.writeByte(c);
+                    break;
+                case '\n':
+                    sink.writeUtf8("\\n");
+                    break;
+                case '\r':
+                    sink.writeUtf8("\\r");
+                    break;
+                case '\t':
+                    sink.writeUtf8("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sink.writeUtf8(String.format("\\u%04x", (int) c));
+                    } else {
+                        sink.writeUtf8CodePoint(c);
+                    }
+                    break;
+            }
+        }
+        sink.writeByte('"');
+    }
+
+    ////////////////
+    //Image Parts //
+    ////////////////
+
+    /**
+     * A single image within the upload body. Implementations must be able to write themselves
+     * more than once as okhttp may replay the body on a retried connection.
+     */
+    abstract static class ImagePart {
+
+        /**
+         * Write the image as base64 characters (without surrounding quotes) into the sink
+         */
+        abstract void writeBase64(@NonNull BufferedSink sink) throws IOException;
+
+        /**
+         * @return Number of bytes {@link #writeBase64(BufferedSink)} will write, or -1 if unknown
+         */
+        long base64Length() {
+            return -1;
+        }
+
+        void release() {
+        }
+    }
+
+    /**
+     * Bitmap that is JPEG compressed while the body is being written. Nothing but the bitmap
+     * itself is held on the heap; compressed bytes go through the Base64 encoder into the sink.
+     */
+    static class BitmapPart extends ImagePart {
+
+        private final Bitmap bitmap;
+        private final int quality;
+        private final boolean recycleOnRelease;
+
+        BitmapPart(@NonNull Bitmap bitmap, int quality, boolean recycleOnRelease) {
+            this.bitmap = bitmap;
+            this.quality = quality;
+            this.recycleOnRelease = recycleOnRelease;
+        }
+
+        @Override
+        void writeBase64(@NonNull BufferedSink sink) throws IOException {
+            if (bitmap.isRecycled()) {
+                throw new IOException("Bitmap was recycled before it could be uploaded");
+            }
+            OutputStream base64Out = new Base64OutputStream(
+                    new NonClosingOutputStream(sink.outputStream()), Base64.NO_WRAP);
+            bitmap.compress(Bitmap.CompressFormat.JPEG, quality, base64Out);
+            //Flushes the remaining characters and padding, the sink itself stays open
+            base64Out.close();
+        }
+
+        @Override
+        void release() {
+            if (recycleOnRelease && !bitmap.isRecycled()) {
+                bitmap.recycle();
+            }
+        }
+    }
+
+    /**
+     * Image that has already been JPEG encoded. Only the base64 encoding happens as the body is
+     * written, so the length is known ahead of time.
+     */
+    static class JpegBytesPart extends ImagePart {
+
+        private final byte[] jpeg;
+
+        JpegBytesPart(@NonNull byte[] jpeg) {
+            this.jpeg = jpeg;
+        }
+
+        @Override
+        void writeBase64(@NonNull BufferedSink sink) throws IOException {
+            OutputStream base64Out = new Base64OutputStream(
+                    new NonClosingOutputStream(sink.outputStream()), Base64.NO_WRAP);
+            base64Out.write(jpeg);
+            base64Out.close();
+        }
+
+        @Override
+        long base64Length() {
+            //Padded, no line breaks
+            return ((jpeg.length + 2L) / 3) * 4;
+        }
+    }
+
+    /**
+     * Image that the caller has already converted to a base64 String. Line breaks (as added by
+     * {@link Base64#DEFAULT}) are escaped so the JSON stays valid.
+     */
+    static class Base64StringPart extends ImagePart {
+
+        private final String base64EncodedImage;
+
+        Base64StringPart(@NonNull String base64EncodedImage) {
+            this.base64EncodedImage = base64EncodedImage;
+        }
+
+        @Override
+        void writeBase64(@NonNull BufferedSink sink) throws IOException {
+            int start = 0;
+            int length = base64EncodedImage.length();
+            for (int i = 0; i < length; i++) {
+                char c = base64EncodedImage.charAt(i);
+                if (c == '\n' || c == '\r') {
+                    if (i > start) {
+                        sink.writeUtf8(base64EncodedImage, start, i);
+                    }
+                    sink.writeUtf8(c == '\n' ? "\\n" : "\\r");
+                    start = i + 1;
+                }
+            }
+            if (start < length) {
+                sink.writeUtf8(base64EncodedImage, start, length);
+            }
+        }
+
+        @Override
+        long base64Length() {
+            long escapes = 0;
+            for (int i = 0; i < base64EncodedImage.length(); i++) {
+                char c = base64EncodedImage.charAt(i);
+                if (c == '\n' || c == '\r') {
+                    escapes++;
+                }
+            }
+            return Utf8.size(base64EncodedImage) + escapes;
+        }
+    }
+
+    /**
+     * Passes writes through to the sink's stream, but only flushes on close so that closing the
+     * Base64 encoder does not close the underlying sink.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(@NonNull byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.graphics.BitmapFactory;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Fast path for images that are already JPEGs within the limits of an
+ * {@link ImageUploadPolicy}. Their original bytes are uploaded instead of being decoded and
+ * compressed again, which would cost CPU and often make the file larger.
+ */
+class JpegPassthrough {
+
+    private static final String MIME_TYPE_JPEG = "image/jpeg";
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    //JPEG markers
+    private static final int MARKER_SOI = 0xD8;
+    private static final int MARKER_SOS = 0xDA;
+    private static final int MARKER_EOI = 0xD9;
+    private static final int MARKER_TEM = 0x01;
+    private static final int MARKER_RST0 = 0xD0;
+    private static final int MARKER_RST7 = 0xD7;
+    private static final int MARKER_APP1 = 0xE1;
+    private static final int MARKER_APP13 = 0xED;
+    private static final int MARKER_COM = 0xFE;
+
+    /**
+     * Read the image if it can be uploaded as is
+     * @param source Image to check
+     * @param policy {@link ImageUploadPolicy} for the endpoint being uploaded to
+     * @param stripMetadata If true, EXIF / XMP, Photoshop and comment segments are removed
+     * @return JPEG bytes, or null if the image needs to be decoded and compressed
+     */
+    @Nullable
+    static byte[] read(@NonNull ImageSource source, @NonNull ImageUploadPolicy policy,
+                       boolean stripMetadata) throws IOException {
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        source.decode(bounds);
+        if (!MIME_TYPE_JPEG.equals(bounds.outMimeType)
+                || Math.max(bounds.outWidth, bounds.outHeight) > policy.maxLongEdge) {
+            return null;
+        }
+        //Metadata can push the raw file over the budget, so allow up to the hard cap before stripping
+        long readLimit = stripMetadata ? (long) AuthenticatingConstants.MAX_SIZE_IMAGE_UPLOAD
+                : policy.maxEncodedBytes;
+        byte[] jpeg = readAtMost(source, readLimit);
+        if (jpeg == null) {
+            return null;
+        }
+        //A malformed or truncated file is decoded (as far as it can be) and compressed instead
+        jpeg = checkSegments(jpeg, stripMetadata);
+        return (jpeg != null && jpeg.length <= policy.maxEncodedBytes) ? jpeg : null;
+    }
+
+    /**
+     * @return The bytes of the image, or null if there are more than maxBytes
+     */
+    @Nullable
+    private static byte[] readAtMost(@NonNull ImageSource source, long maxBytes) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(READ_BUFFER_SIZE);
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        InputStream inputStream = source.openStream();
+        try {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                if (outputStream.size() + read > maxBytes) {
+                    return null;
+                }
+                outputStream.write(buffer, 0, read);
+            }
+        } finally {
+            inputStream.close();
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Walk the segment headers up to the start of scan and check that the image data after it
+     * runs to an end of image marker. If asked to, APP1 (EXIF / XMP, which holds the thumbnail),
+     * APP13 (Photoshop) and COM segments are removed on the way. Everything from the start of
+     * scan onwards is copied as is.
+     * @param jpeg JPEG bytes
+     * @param stripMetadata If true, the metadata segments are removed
+     * @return The bytes to upload, or null if the file is malformed or truncated
+     */
+    @Nullable
+    static byte[] checkSegments(@NonNull byte[] jpeg, boolean stripMetadata) {
+        if (jpeg.length < 4 || (jpeg[0] & 0xff) != 0xFF || (jpeg[1] & 0xff) != MARKER_SOI) {
+            return null;
+        }
+        ByteArrayOutputStream outputStream = stripMetadata
+                ? new ByteArrayOutputStream(jpeg.length) : null;
+        if (outputStream != null) {
+            outputStream.write(jpeg, 0, 2);
+        }
+        int position = 2;
+        while (position < jpeg.length) {
+            if ((jpeg[position] & 0xff) != 0xFF) {
+                return null;
+            }
+            //Markers may be preceded by any number of 0xFF fill bytes
+            int markerStart = position;
+            while (position < jpeg.length && (jpeg[position] & 0xff) == 0xFF) {
+                position++;
+            }
+            if (position >= jpeg.length) {
+                return null;
+            }
+            int marker = jpeg[position] & 0xff;
+            position++;
+            if (marker == MARKER_TEM || (marker >= MARKER_RST0 && marker <= MARKER_RST7)) {
+                //No length field
+                if (outputStream != null) {
+                    outputStream.write(jpeg, markerStart, position - markerStart);
+                }
+                continue;
+            }
+            if (position + 2 > jpeg.length) {
+                return null;
+            }
+            int length = ((jpeg[position] & 0xff) << 8) | (jpeg[position + 1] & 0xff);
+            int segmentEnd = position + length;
+            if (length < 2 || segmentEnd > jpeg.length) {
+                return null;
+            }
+            if (marker == MARKER_SOS) {
+                if (!hasEndOfImage(jpeg, segmentEnd)) {
+                    return null;
+                }
+                if (outputStream == null) {
+                    return jpeg;
+                }
+                outputStream.write(jpeg, markerStart, jpeg.length - markerStart);
+                return outputStream.toByteArray();
+            }
+            if (outputStream != null && marker != MARKER_APP1 && marker != MARKER_APP13
+                    && marker != MARKER_COM) {
+                outputStream.write(jpeg, markerStart, segmentEnd - markerStart);
+            }
+            position = segmentEnd;
+        }
+        //Never reached the image data
+        return null;
+    }
+
+    /**
+     * 0xFF within the image data is always followed by 0x00 or a restart marker, so an
+     * end of image marker after the start of scan means the data is complete. Anything after
+     * it (IE padding some cameras add) is allowed.
+     */
+    private static boolean hasEndOfImage(@NonNull byte[] jpeg, int scanStart) {
+        for (int i = jpeg.length - 2; i >= scanStart; i--) {
+            if ((jpeg[i] & 0xff) == 0xFF && (jpeg[i + 1] & 0xff) == MARKER_EOI) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
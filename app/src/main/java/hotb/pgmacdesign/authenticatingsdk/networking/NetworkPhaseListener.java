@@ -0,0 +1,188 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Records how long each phase of a call takes, and how many body bytes are sent and received,
+ * in {@link AuthenticatingMetrics}. Timings are kept per endpoint under names made of
+ * {@link AuthenticatingMetrics#NETWORK_PREFIX}, the endpoint and the phase, IE
+ * "net_uploadId_tls" (See {@link AuthenticatingMetrics#recordTiming(String, long)}).
+ * Phases are dns, connect (TCP and TLS), tls, request (headers and body written),
+ * server (request written until response headers read), response (body read) and call (all
+ * of it, including retries). Connections reused from the pool skip dns, connect and tls.
+ * Also tells the {@link RetryInterceptor} when an attempt failed while connecting.
+ */
+class NetworkPhaseListener extends EventListener {
+
+    static final String PHASE_DNS = "dns";
+    static final String PHASE_CONNECT = "connect";
+    static final String PHASE_TLS = "tls";
+    static final String PHASE_REQUEST = "request";
+    static final String PHASE_SERVER = "server";
+    static final String PHASE_RESPONSE = "response";
+    static final String PHASE_CALL = "call";
+    static final String REQUEST_BYTES = "request_bytes";
+    static final String RESPONSE_BYTES = "response_bytes";
+    static final String FAILED = "failed";
+
+    private static final String OTHER_ENDPOINT = "other";
+
+    /**
+     * Calls whose connection attempt (TCP or TLS) failed with no connection acquired since,
+     * so the request was never sent. See {@link #takeConnectFailure(Call)}.
+     */
+    private static final Map<Call, Boolean> CONNECT_FAILURES =
+            Collections.synchronizedMap(new WeakHashMap<Call, Boolean>());
+
+    static final EventListener.Factory FACTORY = new EventListener.Factory() {
+        @Override
+        public EventListener create(@NonNull Call call) {
+            return new NetworkPhaseListener(call.request());
+        }
+    };
+
+    private final String prefix;
+    private long callStart, dnsStart, connectStart, tlsStart, requestStart, requestEnd,
+            responseStart;
+
+    private NetworkPhaseListener(@NonNull Request request) {
+        String endpoint = EndpointRegistry.getEndpointName(request.url());
+        this.prefix = AuthenticatingMetrics.NETWORK_PREFIX
+                + ((endpoint == null) ? OTHER_ENDPOINT : endpoint) + "_";
+    }
+
+    /**
+     * Check, and clear, whether the call failed while connecting. A connect timeout has the
+     * same exception type as a read timeout, this is what tells them apart.
+     * @return True if a connection attempt failed and no connection has been acquired since
+     */
+    static boolean takeConnectFailure(@NonNull Call call) {
+        return CONNECT_FAILURES.remove(call) != null;
+    }
+
+    private static long now() {
+        return SystemClock.elapsedRealtime();
+    }
+
+    private void record(@NonNull String phase, long start) {
+        if (start > 0) {
+            AuthenticatingMetrics.recordTiming(prefix + phase, now() - start);
+        }
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStart = now();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dnsStart = now();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        record(PHASE_DNS, dnsStart);
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectStart = now();
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        tlsStart = now();
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        record(PHASE_TLS, tlsStart);
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy,
+                           Protocol protocol) {
+        record(PHASE_CONNECT, connectStart);
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy,
+                              Protocol protocol, IOException ioe) {
+        CONNECT_FAILURES.put(call, Boolean.TRUE);
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        //Another route connected after all
+        CONNECT_FAILURES.remove(call);
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        requestStart = now();
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        requestEnd = now();
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        requestEnd = now();
+        AuthenticatingMetrics.add(prefix + REQUEST_BYTES, byteCount);
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        record(PHASE_REQUEST, requestStart);
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        record(PHASE_SERVER, requestEnd);
+    }
+
+    @Override
+    public void responseBodyStart(Call call) {
+        responseStart = now();
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        record(PHASE_RESPONSE, responseStart);
+        AuthenticatingMetrics.add(prefix + RESPONSE_BYTES, byteCount);
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        CONNECT_FAILURES.remove(call);
+        record(PHASE_CALL, callStart);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        CONNECT_FAILURES.remove(call);
+        record(PHASE_CALL, callStart);
+        AuthenticatingMetrics.increment(prefix + FAILED);
+    }
+}
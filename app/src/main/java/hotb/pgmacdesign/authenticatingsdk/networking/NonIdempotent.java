@@ -0,0 +1,16 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an {@link APIService} endpoint that must not be repeated once the server may have
+ * received it (IE it sends an SMS, submits quiz answers or uploads images). These calls are
+ * retried under {@link RetryPolicy} only when the request cannot have reached the server.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface NonIdempotent {
+}
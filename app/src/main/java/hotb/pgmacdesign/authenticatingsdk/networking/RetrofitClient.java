@@ -4,22 +4,18 @@ import android.support.annotation.NonNull;
 import android.util.Log;
 
 import java.io.IOException;
-import java.security.KeyManagementException;
-import java.security.KeyStore;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
-import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocketFactory;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509TrustManager;
 
-import okhttp3.Headers;
+import okhttp3.ConnectionPool;
+import okhttp3.EventListener;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -43,20 +39,26 @@ public class RetrofitClient {
     public static final String DEFAULT_DATE_FORMAT_WITHOUT_MILLISECONDS = "yyyy-MM-dd'T'HH:mm:ss'Z'";
 
     private String urlBase;
-    private Map<String, String> headers;
+    private volatile Map<String, String> headers;
     private HttpLoggingInterceptor.Level logLevel;
-    private int readTimeout, writeTimeout;
+    private volatile int readTimeout, writeTimeout;
     private String dateFormat;
     private Class serviceInterface;
     private Converter.Factory customConverterFactory;
     private CallAdapter.Factory customCallAdapterFactory;
+    private ConnectionPool connectionPool;
+    private List<Interceptor> interceptors;
+    private CallFactoryProvider callFactoryProvider;
+    private EventListener.Factory eventListenerFactory;
+    private HttpLoggingInterceptor logging;
+    private OkHttpClient client;
 
     /**
      * Constructor
      */
     private RetrofitClient(RetrofitClient.Builder builder) {
         this.urlBase = builder.builder_urlBase;
-        this.headers = builder.builder_headers;
+        setHeaders(builder.builder_headers);
         this.logLevel = builder.builder_logLevel;
         this.dateFormat = builder.builder_dateFormat;
         this.readTimeout = builder.builder_readTimeout;
@@ -64,6 +66,18 @@ public class RetrofitClient {
         this.serviceInterface = builder.builder_serviceInterface;
         this.customConverterFactory = builder.customConverterFactory;
         this.customCallAdapterFactory = builder.customCallAdapterFactory;
+        this.connectionPool = builder.connectionPool;
+        this.interceptors = builder.interceptors;
+        this.callFactoryProvider = builder.callFactoryProvider;
+        this.eventListenerFactory = builder.eventListenerFactory;
+    }
+
+    /**
+     * Creates the {@link okhttp3.Call.Factory} Retrofit makes its calls with, IE to route
+     * calls between several clients derived from the one built here
+     */
+    interface CallFactoryProvider {
+        okhttp3.Call.Factory create(OkHttpClient client);
     }
 
     /**
@@ -81,76 +95,73 @@ public class RetrofitClient {
     }
 
     /**
-     * Build headers from the headers map.
-     * {@link Headers}
-     * @return
+     * Change the log level of the client. Takes effect on the next call without rebuilding
+     * the client, so pooled connections are kept.
+     * @param logLevel {@link HttpLoggingInterceptor.Level}, null for NONE
      */
-    private Headers buildHeaders(){
-        Headers.Builder builder = new Headers.Builder();
-        if(isMapNullOrEmpty(headers)){
-            return builder.build();
-        } else {
-            for (Map.Entry<String, String> myMap : headers.entrySet()) {
-                String key = myMap.getKey();
-                String value = myMap.getValue();
-                if (!StringUtilities.isNullOrEmpty(key) &&
-                        !StringUtilities.isNullOrEmpty(value)) {
-                    builder.add(key, value);
-                }
-            }
-            return builder.build();
+    void setLogLevel(HttpLoggingInterceptor.Level logLevel){
+        if(logLevel == null){
+            logLevel = HttpLoggingInterceptor.Level.NONE;
+        }
+        this.logLevel = logLevel;
+        if(logging != null){
+            logging.setLevel(logLevel);
         }
     }
+
     /**
-     * This builds a client that will be used for network calls
+     * Replace the extra headers sent with every call. Takes effect on the next call without
+     * rebuilding the client. The map is copied, later changes to it are not seen.
+     * @param headers Headers map, null or empty to send none
      */
-    private  <T> T buildRetrofitClient(){
-        //First create the interceptor, which will be used in the Retrofit call
-        Interceptor interceptor = new Interceptor() {
-            @Override
-            public Response intercept(Interceptor.Chain chain) throws IOException {
-                Request.Builder builder = chain.request().newBuilder();
-                if(headers != null){
-                    if(headers.size() > 0){
-                        Headers headers = buildHeaders();
-                        builder.headers(headers);
-                    }
-                }
-                Request newRequest = builder.build();
-                return chain.proceed(newRequest);
-            }
-        };
-
-        HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
-        if(logLevel == null){
-            logLevel = HttpLoggingInterceptor.Level.NONE;
-        }
-        logging.setLevel(logLevel);
+    void setHeaders(Map<String, String> headers){
+        this.headers = isMapNullOrEmpty(headers) ? null
+                : Collections.unmodifiableMap(new HashMap<>(headers));
+    }
 
-        //Next, create the OkHttpClient
-        OkHttpClient.Builder builder = new OkHttpClient.Builder();
-        if(readTimeout < 0){
-            readTimeout = Builder.SIXTY_SECONDS;
-        }
-        if(writeTimeout < 0){
-            writeTimeout = Builder.SIXTY_SECONDS;
-        }
-        if(readTimeout > 0){
-            builder.readTimeout(readTimeout, TimeUnit.MILLISECONDS);
-        }
-        if(writeTimeout > 0){
-            builder.writeTimeout(writeTimeout, TimeUnit.MILLISECONDS);
-        }
+    /**
+     * Set the read and write timeout IN MILLISECONDS. Takes effect on the next call without
+     * rebuilding the client.
+     * @param readTimeoutInMilliseconds Read timeout. Pass 0 for no timeout
+     * @param writeTimeoutInMilliseconds Write timeout. Pass 0 for no timeout
+     */
+    void setTimeouts(int readTimeoutInMilliseconds, int writeTimeoutInMilliseconds){
+        this.readTimeout = (readTimeoutInMilliseconds < 0) ? Builder.SIXTY_SECONDS
+                : readTimeoutInMilliseconds;
+        this.writeTimeout = (writeTimeoutInMilliseconds < 0) ? Builder.SIXTY_SECONDS
+                : writeTimeoutInMilliseconds;
+    }
 
-        //Add logging and interceptor
-        builder.addInterceptor(interceptor);
-        builder.addInterceptor(logging);
+    /**
+     * Get the OkHttpClient used by the service clients built from this object
+     * @return {@link OkHttpClient}, null until {@link #buildServiceClient()} has been called
+     */
+    OkHttpClient getOkHttpClient(){
+        return client;
+    }
 
-        //Configure SSL
-        builder = configureClient(builder);
+    /**
+     * Add the headers from the headers map to a request. Each one replaces a header of the
+     * same name, other headers of the request (IE those set by Retrofit) are kept.
+     */
+    private static void addHeaders(Request.Builder builder, Map<String, String> headers){
+        for (Map.Entry<String, String> myMap : headers.entrySet()) {
+            String key = myMap.getKey();
+            String value = myMap.getValue();
+            if (!StringUtilities.isNullOrEmpty(key) &&
+                    !StringUtilities.isNullOrEmpty(value)) {
+                builder.header(key, value);
+            }
+        }
+    }
 
-        //Build the client
-        OkHttpClient client = builder.build();
+    /**
+     * This builds a client that will be used for network calls
+     */
+    private  <T> T buildRetrofitClient(){
+        if(client == null){
+            client = buildOkHttpClient();
+        }
 
         //Create the retrofit object, which will use the variables/ objects we have created above
         Retrofit.Builder myBuilder = new Retrofit.Builder();
@@ -167,7 +178,11 @@ public class RetrofitClient {
             //IE: RxJava2CallAdapterFactory.create()
         }
 
-        myBuilder.client(client);
+        if(callFactoryProvider != null){
+            myBuilder.callFactory(callFactoryProvider.create(client));
+        } else {
+            myBuilder.client(client);
+        }
         Retrofit retrofit = myBuilder.build();
 
         //Now that it is built, create the service client, which references the interface we made
@@ -184,6 +199,60 @@ public class RetrofitClient {
         return serviceClient;
     }
 
+    /**
+     * Build the OkHttpClient. Headers, timeouts and the log level are read from this object
+     * on every call so that they can be changed later without building a new client (and
+     * losing its connection pool).
+     */
+    private OkHttpClient buildOkHttpClient(){
+        //First create the interceptor, which will be used in the Retrofit call
+        Interceptor interceptor = new Interceptor() {
+            @Override
+            public Response intercept(Interceptor.Chain chain) throws IOException {
+                Request.Builder builder = chain.request().newBuilder();
+                Map<String, String> headers = RetrofitClient.this.headers;
+                if(headers != null){
+                    addHeaders(builder, headers);
+                }
+                Request newRequest = builder.build();
+                return chain
+                        .withReadTimeout(readTimeout, TimeUnit.MILLISECONDS)
+                        .withWriteTimeout(writeTimeout, TimeUnit.MILLISECONDS)
+                        .proceed(newRequest);
+            }
+        };
+
+        logging = new HttpLoggingInterceptor();
+        setLogLevel(logLevel);
+
+        //Next, create the OkHttpClient
+        setTimeouts(readTimeout, writeTimeout);
+        OkHttpClient.Builder builder = new OkHttpClient.Builder();
+        builder.readTimeout(readTimeout, TimeUnit.MILLISECONDS);
+        builder.writeTimeout(writeTimeout, TimeUnit.MILLISECONDS);
+        if(connectionPool != null){
+            builder.connectionPool(connectionPool);
+        }
+        if(eventListenerFactory != null){
+            builder.eventListenerFactory(eventListenerFactory);
+        }
+
+        //Add logging and interceptors
+        builder.addInterceptor(interceptor);
+        if(interceptors != null){
+            for(Interceptor extraInterceptor : interceptors){
+                builder.addInterceptor(extraInterceptor);
+            }
+        }
+        builder.addInterceptor(logging);
+
+        //Configure SSL
+        builder = configureClient(builder);
+
+        //Build the client
+        return builder.build();
+    }
+
     /**
      * This class will configure the OkHttpClient to add things like SSL, certs, etc.
      * @param builder The builder that will be altered and returned
@@ -192,34 +261,12 @@ public class RetrofitClient {
      * {@link okhttp3.OkHttpClient.Builder} <-- sslSocketFactory
      */
     private OkHttpClient.Builder configureClient(final OkHttpClient.Builder builder) {
-
-        try {
-            TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(
-                    TrustManagerFactory.getDefaultAlgorithm());
-            trustManagerFactory.init((KeyStore) null);
-            TrustManager[] trustManagers = trustManagerFactory.getTrustManagers();
-            if (trustManagers.length != 1 || !(trustManagers[0] instanceof X509TrustManager)) {
-                throw new IllegalStateException("Unexpected default trust managers:"
-                        + Arrays.toString(trustManagers));
-            }
-            X509TrustManager trustManager = (X509TrustManager) trustManagers[0];
-
-            SSLContext sslContext = SSLContext.getInstance("TLS");
-            sslContext.init(null, new TrustManager[]{trustManager}, null);
-            SSLSocketFactory sslSocketFactory = sslContext.getSocketFactory();
-
+        //Trust material and the TLS session cache are shared by every client, see SharedTls
+        X509TrustManager trustManager = SharedTls.getTrustManager();
+        SSLSocketFactory sslSocketFactory = SharedTls.getSocketFactory();
+        if(trustManager != null && sslSocketFactory != null){
             builder.sslSocketFactory(sslSocketFactory, trustManager);
-
-        } catch (KeyManagementException kme){
-            kme.printStackTrace();
-        } catch (NoSuchAlgorithmException nsa){
-            nsa.printStackTrace();
-        } catch (KeyStoreException kse){
-            kse.printStackTrace();
-        } catch (IllegalStateException ise){
-            ise.printStackTrace();
         }
-
         return builder;
     }
 
@@ -240,6 +287,10 @@ public class RetrofitClient {
         String builder_dateFormat;
         Converter.Factory customConverterFactory;
         CallAdapter.Factory customCallAdapterFactory;
+        ConnectionPool connectionPool;
+        List<Interceptor> interceptors;
+        CallFactoryProvider callFactoryProvider;
+        EventListener.Factory eventListenerFactory;
 
         /**
          * Constructor visible to the outside
@@ -283,6 +334,53 @@ public class RetrofitClient {
             return this;
         }
 
+        /**
+         * Set the connection pool. If this is ignored or not set, OkHttp's default pool
+         * (5 idle connections kept alive for 5 minutes) is used
+         * @param connectionPool {@link ConnectionPool}
+         * @return this
+         */
+        public Builder setConnectionPool(ConnectionPool connectionPool){
+            this.connectionPool = connectionPool;
+            return this;
+        }
+
+        /**
+         * Add an interceptor. Interceptors run in the order they are added, after the headers
+         * and timeouts have been applied and before logging
+         * @param interceptor {@link Interceptor}
+         * @return this
+         */
+        public Builder addInterceptor(Interceptor interceptor){
+            if(interceptors == null){
+                interceptors = new ArrayList<>();
+            }
+            interceptors.add(interceptor);
+            return this;
+        }
+
+        /**
+         * Set a provider for the call factory. If this is ignored or not set, calls are made
+         * directly with the OkHttpClient
+         * @param provider {@link CallFactoryProvider}
+         * @return this
+         */
+        Builder setCallFactoryProvider(CallFactoryProvider provider){
+            this.callFactoryProvider = provider;
+            return this;
+        }
+
+        /**
+         * Set a factory for the listeners told of every network event of a call (DNS, connect,
+         * TLS, request / response bytes etc). If this is ignored or not set, none are used
+         * @param factory {@link EventListener.Factory}
+         * @return this
+         */
+        public Builder setEventListenerFactory(EventListener.Factory factory){
+            this.eventListenerFactory = factory;
+            return this;
+        }
+
         /**
          * Set the headers. This would be where you would send in a map with header Strings.
          * Samples would be a map containing types like these:
@@ -5,15 +5,23 @@ package hotb.pgmacdesign.authenticatingsdk.networking;
  */
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.lang.reflect.Type;
 
+import hotb.pgmacdesign.authenticatingsdk.datamodels.AuthenticatingException;
+import hotb.pgmacdesign.authenticatingsdk.datamodels.TopLevelObj;
 import hotb.pgmacdesign.authenticatingsdk.interfaces.OnTaskCompleteListener;
 import okhttp3.ResponseBody;
 import retrofit2.Call;
@@ -68,6 +76,8 @@ class RetrofitParser {
      */
     static final int TAG_RETROFIT_CALL_ERROR = 3312;
     static final String EMPTY_JSON_RESPONSE = "{}";
+    private static final String FIELD_SUCCESSFUL = "successful";
+    private static final String FIELD_ERROR_MESSAGE = "errorMessage";
 
     ////////////////////////
     //Asynchronous Parsers//
@@ -99,105 +109,23 @@ class RetrofitParser {
                         return;
                     }
 
-                    ResponseBody responseBody = response.body();
                     ResponseBody errorBody = response.errorBody();
-                    String responseJson = null, errorResponseJson = null;
-                    if (responseBody != null) {
-                        try {
-                            responseJson = responseBody.string();
-                        } catch (Exception e) {
-                        }
-                    }
+                    Object o;
+                    Integer tag;
                     if (errorBody != null) {
-                        try {
-                            errorResponseJson = errorBody.string();
-                        } catch (Exception e) {
-                        }
-                    }
-                    if (serverCanReturn200Error) {
-                        Object o = checkForError(responseJson, errorResponseJson,
-                                errorClassDataModel);
-                        if (o != null) {
-                            //This means error response parsed successfully with error model OR success model
-                            listener.onTaskComplete(o, failCallbackTag);
-                            return;
-                        } else {
-                            o = convert(responseJson, successClassDataModel);
-                            if (o != null) {
-                                listener.onTaskComplete(o, successCallbackTag);
-                                return;
-                            } else {
-                                //Check if either success or fail model is a raw type
-                                if(RetrofitParser.isRawType(successClassDataModel)){
-                                    Object o1 = RetrofitParser.convertRawType(
-                                            responseJson, successClassDataModel);
-                                    if(o1 != null){
-                                        listener.onTaskComplete(o1, successCallbackTag);
-                                        return;
-                                    }
-                                }
-                                if(RetrofitParser.isRawType(errorClassDataModel)){
-                                    Object o1 = RetrofitParser.convertRawType(
-                                            errorResponseJson, errorClassDataModel);
-                                    Object o2 = RetrofitParser.convertRawType(
-                                            responseJson, errorClassDataModel);
-                                    if(o1 != null){
-                                        listener.onTaskComplete(o1, failCallbackTag);
-                                        return;
-                                    }
-                                    if(o2 != null){
-                                        listener.onTaskComplete(o2, failCallbackTag);
-                                        return;
-                                    }
-                                }
-
-                                // TODO: 2018-02-13 add in html checks here
-                                //At this point, no passed types match parsing, likely either unknown JSON response or an error
-                                RetrofitParser.failedParsingDetermineType(responseJson, successClassDataModel);
-                                RetrofitParser.failedParsingDetermineType(errorResponseJson, errorClassDataModel);
-                                listener.onTaskComplete(null, TAG_RETROFIT_PARSE_ERROR);
-                                return;
-                            }
-                        }
+                        o = decode(errorBody, errorClassDataModel);
+                        tag = failCallbackTag;
+                    } else if (serverCanReturn200Error) {
+                        //The error fields decide which of the models the body is read into
+                        JsonElement tree = readTree(response.body());
+                        boolean isError = isErrorResponse(tree);
+                        o = convert(tree, isError ? errorClassDataModel : successClassDataModel);
+                        tag = isError ? failCallbackTag : successCallbackTag;
                     } else {
-                        Object o = checkForError(errorResponseJson, errorClassDataModel);
-                        if (o != null) {
-                            //This means error response parsed successfully with error model
-                            listener.onTaskComplete(o, failCallbackTag);
-                            return;
-                        } else {
-                            o = convert(responseJson, successClassDataModel);
-                            if (o != null) {
-                                listener.onTaskComplete(o, successCallbackTag);
-                                return;
-                            } else {
-                                //Check if either success or fail model is a raw type
-                                if(RetrofitParser.isRawType(successClassDataModel)){
-                                    Object o1 = RetrofitParser.convertRawType(
-                                            responseJson, successClassDataModel);
-                                    if(o1 != null){
-                                        listener.onTaskComplete(o1, successCallbackTag);
-                                        return;
-                                    }
-                                }
-                                if(RetrofitParser.isRawType(errorClassDataModel)){
-                                    Object o1 = RetrofitParser.convertRawType(
-                                            errorResponseJson, errorClassDataModel);
-                                    if(o1 != null){
-                                        listener.onTaskComplete(o1, failCallbackTag);
-                                        return;
-                                    }
-                                }
-
-                                // TODO: 2018-02-13 add in html checks here
-                                //At this point, no passed types match parsing, likely either unknown JSON response or an error
-                                RetrofitParser.failedParsingDetermineType(responseJson, successClassDataModel);
-                                RetrofitParser.failedParsingDetermineType(errorResponseJson, errorClassDataModel);
-                                listener.onTaskComplete(null, TAG_RETROFIT_PARSE_ERROR);
-                                return;
-                            }
-                        }
+                        o = decode(response.body(), successClassDataModel);
+                        tag = successCallbackTag;
                     }
+                    listener.onTaskComplete(o, (o != null) ? tag : TAG_RETROFIT_PARSE_ERROR);
                 }
 
                 @Override
@@ -247,6 +175,167 @@ class RetrofitParser {
     }
 
 
+    /////////////////////
+    //Streaming Parsers//
+    /////////////////////
+
+    /**
+     * Single pass parse of a response to one of the calls in {@link AuthenticatingAPICalls}.
+     * The body is read once, straight into the success model, and the outcome is decided from
+     * the "successful" and "errorMessage" fields it holds (See {@link TopLevelObj#isErrorResponse()}).
+     *
+     * @param response              Response to parse
+     * @param successClassDataModel The data model to convert the response body into
+     * @return The success data model, null if the body was empty or did not parse
+     * @throws AuthenticatingException If the server reported an error, either in the error body
+     *                                 or in the response body
+     */
+    static <T extends TopLevelObj> T parseResponse(@NonNull Response<ResponseBody> response,
+                                                   @NonNull Class<T> successClassDataModel)
+            throws AuthenticatingException {
+        ResponseBody errorBody = response.errorBody();
+        if (errorBody != null) {
+            ErrorHandler.checkForAuthenticatingError(errorBody);
+            //Error body that does not hold an error, there is no success model to return
+            return null;
+        }
+        T toReturn = successClassDataModel.cast(convert(response.body(), successClassDataModel));
+        ErrorHandler.checkForAuthenticatingErrorObject(toReturn);
+        return toReturn;
+    }
+
+    /**
+     * Decode a body into a data model with a single read. Raw types and the empty response
+     * check (null data model) need the body as a String, everything else is read straight from
+     * the source (See {@link #convert(ResponseBody, Type)}).
+     *
+     * @param body           Response or error body, can be null
+     * @param classDataModel Data model to convert into, null if expecting an empty response ({})
+     * @return Object, null if the body was null or did not parse into the data model
+     */
+    private static Object decode(@Nullable ResponseBody body, @Nullable Type classDataModel) {
+        if (body == null) {
+            return null;
+        }
+        if (classDataModel != null && !isRawType(classDataModel)) {
+            return convert(body, classDataModel);
+        }
+        String responseBodyString;
+        try {
+            responseBodyString = body.string();
+        } catch (Exception e) {
+            return null;
+        }
+        Object o = (classDataModel == null) ? convert(responseBodyString, classDataModel)
+                : convertRawType(responseBodyString, classDataModel);
+        if (o == null) {
+            RetrofitParser.failedParsingDetermineType(responseBodyString, classDataModel);
+        }
+        return o;
+    }
+
+    /**
+     * Check a response read into a tree for the error fields (See
+     * {@link TopLevelObj#isErrorResponse()}) without converting it into a data model
+     */
+    private static boolean isErrorResponse(@Nullable JsonElement tree) {
+        if (tree == null || !tree.isJsonObject()) {
+            return false;
+        }
+        JsonObject jsonObject = tree.getAsJsonObject();
+        JsonElement successful = jsonObject.get(FIELD_SUCCESSFUL);
+        if (successful != null && successful.isJsonPrimitive()) {
+            return !successful.getAsBoolean();
+        }
+        JsonElement errorMessage = jsonObject.get(FIELD_ERROR_MESSAGE);
+        return errorMessage != null && !errorMessage.isJsonNull();
+    }
+
+    /**
+     * Convert a response body into a data model, reading it straight from its source with a
+     * {@link JsonReader}. The body is closed once read.
+     * If JSON logging is on, the body is read into a String first so that it can be printed out
+     * if it does not parse.
+     *
+     * @param body                 Response or error body, can be null
+     * @param successClassDataType The {@link Type} to convert into
+     * @return Object. It will need to be cast into the data model once completed. If null is
+     * returned, the body was null, empty or did not parse into the data model
+     */
+    static Object convert(@Nullable ResponseBody body, @NonNull Type successClassDataType) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            if (WebCallsLogging.isJsonLogging()) {
+                String responseBodyString = body.string();
+                Object o = convert(responseBodyString, successClassDataType);
+                if (o == null) {
+                    RetrofitParser.failedParsingDetermineType(responseBodyString, successClassDataType);
+                }
+                return o;
+            }
+            Gson gson = GsonProvider.get();
+            JsonReader reader = gson.newJsonReader(body.charStream());
+            Object o = gson.fromJson(reader, successClassDataType);
+            if (o != null && reader.peek() != JsonToken.END_DOCUMENT) {
+                //Same as the String parse, trailing data means it did not parse
+                return null;
+            }
+            return o;
+        } catch (IllegalArgumentException ile) {
+            RetrofitParser.illegalArgumentHit(successClassDataType.toString());
+        } catch (Exception e) {
+        } finally {
+            body.close();
+        }
+        return null;
+    }
+
+    /**
+     * Read a response body into a {@link JsonElement} tree, from its source. The body is
+     * closed once read.
+     * @return The tree, null if the body was null, empty or not valid JSON
+     */
+    @Nullable
+    static JsonElement readTree(@Nullable ResponseBody body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            JsonElement tree = new JsonParser().parse(
+                    GsonProvider.get().newJsonReader(body.charStream()));
+            return tree.isJsonNull() ? null : tree;
+        } catch (Exception e) {
+        } finally {
+            body.close();
+        }
+        return null;
+    }
+
+    /**
+     * Convert an already read tree (See {@link #readTree(ResponseBody)}) into a data model.
+     * Send a null data model if expecting an empty response ({})
+     * @return Object, null if the tree was null or did not parse into the data model
+     */
+    static Object convert(@Nullable JsonElement tree, @Nullable Type successClassDataType) {
+        if (tree == null) {
+            return null;
+        }
+        if (successClassDataType == null) {
+            //Expected empty response
+            return (tree.isJsonObject() && tree.getAsJsonObject().size() == 0)
+                    ? new Object() : null;
+        }
+        try {
+            return GsonProvider.get().fromJson(tree, successClassDataType);
+        } catch (IllegalArgumentException ile) {
+            RetrofitParser.illegalArgumentHit(successClassDataType.toString());
+        } catch (Exception e) {
+        }
+        return null;
+    }
+
     /////////////////////////////
     //Private Utility Functions//
     /////////////////////////////
@@ -279,7 +368,7 @@ class RetrofitParser {
             }
         } else {
             try {
-                return new Gson().fromJson(responseBodyString, successClassDataModel);
+                return GsonProvider.get().fromJson(responseBodyString, successClassDataModel);
             } catch (IllegalArgumentException ile){
                 RetrofitParser.illegalArgumentHit(successClassDataModel.getName());
             } catch (Exception e) {
@@ -311,7 +400,7 @@ class RetrofitParser {
             //Raw Checks
             if(classDataModel == TYPE_BOOLEAN){
                 try {
-                    Boolean bool = new Gson().fromJson(responseBodyString, TYPE_BOOLEAN);
+                    Boolean bool = GsonProvider.get().fromJson(responseBodyString, TYPE_BOOLEAN);
                     if (bool != null) {
                         return bool;
                     }
@@ -330,7 +419,7 @@ class RetrofitParser {
 
             } else if (classDataModel == TYPE_DOUBLE){
                 try {
-                    Double dbl = new Gson().fromJson(responseBodyString, TYPE_DOUBLE);
+                    Double dbl = GsonProvider.get().fromJson(responseBodyString, TYPE_DOUBLE);
                     if (dbl != null) {
                         return dbl;
                     }
@@ -346,7 +435,7 @@ class RetrofitParser {
 
             } else if (classDataModel == TYPE_INTEGER){
                 try {
-                    Integer intx = new Gson().fromJson(responseBodyString, TYPE_INTEGER);
+                    Integer intx = GsonProvider.get().fromJson(responseBodyString, TYPE_INTEGER);
                     if (intx != null) {
                         return intx;
                     }
@@ -362,7 +451,7 @@ class RetrofitParser {
 
             } else if (classDataModel == TYPE_STRING) {
                 try {
-                    String str = new Gson().fromJson(responseBodyString, TYPE_STRING);
+                    String str = GsonProvider.get().fromJson(responseBodyString, TYPE_STRING);
                     if (!StringUtilities.isNullOrEmpty(str)) {
                         return str;
                     }
@@ -416,7 +505,7 @@ class RetrofitParser {
             }
         } else {
             try {
-                return new Gson().fromJson(responseBodyString, successClassDataType);
+                return GsonProvider.get().fromJson(responseBodyString, successClassDataType);
             } catch (IllegalArgumentException ile){
                 RetrofitParser.illegalArgumentHit(successClassDataType.getClass().getName());
             } catch (Exception e) {
@@ -444,7 +533,7 @@ class RetrofitParser {
             //Raw Checks
             if(classDataModel == TYPE_BOOLEAN){
                 try {
-                    Boolean bool = new Gson().fromJson(responseBodyString, TYPE_BOOLEAN);
+                    Boolean bool = GsonProvider.get().fromJson(responseBodyString, TYPE_BOOLEAN);
                     if (bool != null) {
                         return bool;
                     }
@@ -463,7 +552,7 @@ class RetrofitParser {
 
             } else if (classDataModel == TYPE_DOUBLE){
                 try {
-                    Double dbl = new Gson().fromJson(responseBodyString, TYPE_DOUBLE);
+                    Double dbl = GsonProvider.get().fromJson(responseBodyString, TYPE_DOUBLE);
                     if (dbl != null) {
                         return dbl;
                     }
@@ -479,7 +568,7 @@ class RetrofitParser {
 
             } else if (classDataModel == TYPE_INTEGER){
                 try {
-                    Integer intx = new Gson().fromJson(responseBodyString, TYPE_INTEGER);
+                    Integer intx = GsonProvider.get().fromJson(responseBodyString, TYPE_INTEGER);
                     if (intx != null) {
                         return intx;
                     }
@@ -495,7 +584,7 @@ class RetrofitParser {
 
             } else if (classDataModel == TYPE_STRING){
                 try {
-                    String str = new Gson().fromJson(responseBodyString, TYPE_STRING);
+                    String str = GsonProvider.get().fromJson(responseBodyString, TYPE_STRING);
                     if (!StringUtilities.isNullOrEmpty(str)) {
                         return str;
                     }
@@ -524,157 +613,6 @@ class RetrofitParser {
         return null;
     }
 
-    /**
-     * Check for an error response.
-     *
-     * @param responseBodyString  Success body string. Some servers send back a 2xx for all
-     *                            responses and expect you to parse the error out of the response
-     *                            body instead of the error body; this is to account for that.
-     * @param errorBodyString     Error body string
-     * @param errorClassDataModel Error class model to attempt to cast to. NOTE! If you want
-     *                            to intentionally check for an empty JSON response, send null
-     *                            here and if an empty JSON response "{}" is received, it will
-     *                            return a new object.
-     * @return If null, it means parsing failed, if an object that is not null, it means
-     * that the response matches the error data model sent in
-     */
-    static Object checkForError(final String responseBodyString,
-                                        final String errorBodyString,
-                                        final Class errorClassDataModel) {
-        if (StringUtilities.isNullOrEmpty(responseBodyString)
-                && StringUtilities.isNullOrEmpty(errorBodyString)) {
-            return null;
-        }
-        if (errorClassDataModel == null) {
-            if (!StringUtilities.isNullOrEmpty(errorBodyString)) {
-                if (errorBodyString.equalsIgnoreCase(EMPTY_JSON_RESPONSE)) {
-                    //Expected empty response as per error class data model
-                    return new Object();
-                }
-            }
-            if (!StringUtilities.isNullOrEmpty(responseBodyString)) {
-                if (responseBodyString.equalsIgnoreCase(EMPTY_JSON_RESPONSE)) {
-                    //Expected empty response as per error class data model
-                    return new Object();
-                }
-            }
-        } else {
-            try {
-                return new Gson().fromJson(errorBodyString, errorClassDataModel);
-            } catch (IllegalArgumentException ile){
-                RetrofitParser.illegalArgumentHit(errorClassDataModel.getClass().getName());
-            } catch (Exception e) {
-            }
-            try {
-                return new Gson().fromJson(responseBodyString, errorClassDataModel);
-            } catch (IllegalArgumentException ile){
-                RetrofitParser.illegalArgumentHit(errorClassDataModel.getClass().getName());
-            } catch (Exception e) {
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Check for an error response.
-     *
-     * @param errorBodyString     Error body string
-     * @param errorClassDataModel Error class model to attempt to cast to. NOTE! If you want
-     *                            to intentionally check for an empty JSON response, send null
-     *                            here and if an empty JSON response "{}" is received, it will
-     *                            return a new object.
-     * @return If null, it means parsing failed, if an object that is not null, it means
-     * that the response matches the error data model sent in
-     */
-    static Object checkForError(final String errorBodyString,
-                                        final Class errorClassDataModel) {
-        if (StringUtilities.isNullOrEmpty(errorBodyString)) {
-            return null;
-        }
-        if (errorClassDataModel == null) {
-            if (!StringUtilities.isNullOrEmpty(errorBodyString)) {
-                if (errorBodyString.equalsIgnoreCase(EMPTY_JSON_RESPONSE)) {
-                    //Expected empty response as per error class data model
-                    return new Object();
-                }
-            }
-        } else {
-            try {
-                return new Gson().fromJson(errorBodyString, errorClassDataModel);
-            } catch (IllegalArgumentException ile){
-                RetrofitParser.illegalArgumentHit(errorClassDataModel.getClass().getName());
-            } catch (Exception e) {
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Overloaded, allows {@link Type} to be passed instead
-     */
-    static Object checkForError(final String responseBodyString,
-                                        final String errorBodyString,
-                                        final Type errorClassDataModel) {
-        if (StringUtilities.isNullOrEmpty(responseBodyString)
-                && StringUtilities.isNullOrEmpty(errorBodyString)) {
-            return null;
-        }
-        if (errorClassDataModel == null) {
-            if (!StringUtilities.isNullOrEmpty(errorBodyString)) {
-                if (errorBodyString.equalsIgnoreCase(EMPTY_JSON_RESPONSE)) {
-                    //Expected empty response as per error class data model
-                    return new Object();
-                }
-            }
-            if (!StringUtilities.isNullOrEmpty(responseBodyString)) {
-                if (responseBodyString.equalsIgnoreCase(EMPTY_JSON_RESPONSE)) {
-                    //Expected empty response as per error class data model
-                    return new Object();
-                }
-            }
-        } else {
-            try {
-                return new Gson().fromJson(errorBodyString, errorClassDataModel);
-            } catch (IllegalArgumentException ile){
-                RetrofitParser.illegalArgumentHit(errorClassDataModel.getClass().getName());
-            } catch (Exception e) {
-            }
-            try {
-                return new Gson().fromJson(responseBodyString, errorClassDataModel);
-            } catch (IllegalArgumentException ile){
-                RetrofitParser.illegalArgumentHit(errorClassDataModel.getClass().getName());
-            } catch (Exception e) {
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Overloaded, allows for {@link Type} to be passed instead
-     */
-    static Object checkForError(final String errorBodyString,
-                                        final Type errorClassDataModel) {
-        if (StringUtilities.isNullOrEmpty(errorBodyString)) {
-            return null;
-        }
-        if (errorClassDataModel == null) {
-            if (!StringUtilities.isNullOrEmpty(errorBodyString)) {
-                if (errorBodyString.equalsIgnoreCase(EMPTY_JSON_RESPONSE)) {
-                    //Expected empty response as per error class data model
-                    return new Object();
-                }
-            }
-        } else {
-            try {
-                return new Gson().fromJson(errorBodyString, errorClassDataModel);
-            } catch (IllegalArgumentException ile){
-                RetrofitParser.illegalArgumentHit(errorClassDataModel.getClass().getName());
-            } catch (Exception e) {
-            }
-        }
-        return null;
-    }
-
     /**
      * Simple checker for if the return type is a raw type
      * @param typeToCast input to check if raw
@@ -732,7 +670,7 @@ class RetrofitParser {
             return;
         }
         try {
-            Boolean bool = new Gson().fromJson(responseBodyString, TYPE_BOOLEAN);
+            Boolean bool = GsonProvider.get().fromJson(responseBodyString, TYPE_BOOLEAN);
             if (bool != null) {
                 Logging.m((typeToCast != null) ? PARSE_FAILED_STR_1
                         + "(Passed = " + typeToCast.toString() + "). "
@@ -760,7 +698,7 @@ class RetrofitParser {
         } catch (Exception e) {
         }
         try {
-            Double dbl = new Gson().fromJson(responseBodyString, TYPE_DOUBLE);
+            Double dbl = GsonProvider.get().fromJson(responseBodyString, TYPE_DOUBLE);
             if (dbl != null) {
                 Logging.m((typeToCast != null) ? PARSE_FAILED_STR_1
                         + "(Passed = " + typeToCast.toString() + "). "
@@ -786,7 +724,7 @@ class RetrofitParser {
         } catch (Exception e) {
         }
         try {
-            Integer intx = new Gson().fromJson(responseBodyString, TYPE_INTEGER);
+            Integer intx = GsonProvider.get().fromJson(responseBodyString, TYPE_INTEGER);
             if (intx != null) {
                 Logging.m((typeToCast != null) ? PARSE_FAILED_STR_1
                         + "(Passed = " + typeToCast.toString() + "). "
@@ -812,7 +750,7 @@ class RetrofitParser {
         } catch (Exception e) {
         }
         try {
-            String str = new Gson().fromJson(responseBodyString, TYPE_STRING);
+            String str = GsonProvider.get().fromJson(responseBodyString, TYPE_STRING);
             if (!StringUtilities.isNullOrEmpty(str)) {
                 Logging.m((typeToCast != null) ? PARSE_FAILED_STR_1
                         + "(Passed = " + typeToCast.toString() + "). "
@@ -884,7 +822,7 @@ class RetrofitParser {
             return;
         }
         try {
-            Boolean bool = new Gson().fromJson(responseBodyString, TYPE_BOOLEAN);
+            Boolean bool = GsonProvider.get().fromJson(responseBodyString, TYPE_BOOLEAN);
             if (bool != null) {
                 Logging.m((typeToCast != null) ? PARSE_FAILED_STR_1
                         + "(Passed = " + typeToCast.toString() + "). "
@@ -912,7 +850,7 @@ class RetrofitParser {
         } catch (Exception e) {
         }
         try {
-            Double dbl = new Gson().fromJson(responseBodyString, TYPE_DOUBLE);
+            Double dbl = GsonProvider.get().fromJson(responseBodyString, TYPE_DOUBLE);
             if (dbl != null) {
                 Logging.m((typeToCast != null) ? PARSE_FAILED_STR_1
                         + "(Passed = " + typeToCast.toString() + "). "
@@ -938,7 +876,7 @@ class RetrofitParser {
         } catch (Exception e) {
         }
         try {
-            Integer intx = new Gson().fromJson(responseBodyString, TYPE_INTEGER);
+            Integer intx = GsonProvider.get().fromJson(responseBodyString, TYPE_INTEGER);
             if (intx != null) {
                 Logging.m((typeToCast != null) ? PARSE_FAILED_STR_1
                         + "(Passed = " + typeToCast.toString() + "). "
@@ -964,7 +902,7 @@ class RetrofitParser {
         } catch (Exception e) {
         }
         try {
-            String str = new Gson().fromJson(responseBodyString, TYPE_STRING);
+            String str = GsonProvider.get().fromJson(responseBodyString, TYPE_STRING);
             if (!StringUtilities.isNullOrEmpty(str)) {
                 Logging.m((typeToCast != null) ? PARSE_FAILED_STR_1
                         + "(Passed = " + typeToCast.toString() + "). "
@@ -0,0 +1,121 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.support.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Retries calls that failed for a transient reason, waiting between attempts as set by the
+ * {@link RetryPolicy}. Endpoints marked {@link NonIdempotent} use their own (stricter) policy and
+ * are only retried when the server cannot have acted on the request.
+ */
+class RetryInterceptor implements Interceptor {
+
+    private static final int HTTP_BAD_GATEWAY = 502;
+    private static final int HTTP_SERVICE_UNAVAILABLE = 503;
+    private static final int HTTP_GATEWAY_TIMEOUT = 504;
+
+    private static volatile RetryPolicy retryPolicy = RetryPolicy.DEFAULT;
+    private static volatile RetryPolicy nonIdempotentRetryPolicy = RetryPolicy.NON_IDEMPOTENT_DEFAULT;
+
+    static void setRetryPolicy(@NonNull RetryPolicy policy) {
+        retryPolicy = policy;
+    }
+
+    static void setNonIdempotentRetryPolicy(@NonNull RetryPolicy policy) {
+        nonIdempotentRetryPolicy = policy;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String endpoint = EndpointRegistry.getEndpointName(request.url());
+        boolean idempotent = EndpointRegistry.getPolicy(request.url()).idempotent;
+        RetryPolicy policy = idempotent ? retryPolicy : nonIdempotentRetryPolicy;
+
+        int attempt = 1;
+        while (true) {
+            Response response;
+            try {
+                response = chain.proceed(request);
+            } catch (IOException ioe) {
+                boolean connectFailed = NetworkPhaseListener.takeConnectFailure(chain.call());
+                if (chain.call().isCanceled() || !isConnectFailure(ioe, connectFailed)) {
+                    throw ioe;
+                }
+                if (attempt >= policy.maxAttempts) {
+                    AuthenticatingMetrics.increment(AuthenticatingMetrics.RETRY_EXHAUSTED);
+                    throw ioe;
+                }
+                attempt = retry(policy, attempt, endpoint);
+                continue;
+            }
+            if (chain.call().isCanceled() || !isRetryableStatus(response.code(), idempotent)) {
+                return response;
+            }
+            if (attempt >= policy.maxAttempts) {
+                AuthenticatingMetrics.increment(AuthenticatingMetrics.RETRY_EXHAUSTED);
+                return response;
+            }
+            response.close();
+            attempt = retry(policy, attempt, endpoint);
+        }
+    }
+
+    /**
+     * Wait out the backoff delay
+     * @return The next attempt number
+     */
+    private static int retry(@NonNull RetryPolicy policy, int attempt, String endpoint)
+            throws InterruptedIOException {
+        long delay = policy.getDelayMillis(attempt);
+        AuthenticatingMetrics.increment(AuthenticatingMetrics.RETRY_ATTEMPTS);
+        AuthenticatingMetrics.add(AuthenticatingMetrics.RETRY_DELAY_MILLIS, delay);
+        if (endpoint != null) {
+            AuthenticatingMetrics.increment(AuthenticatingMetrics.RETRY_ATTEMPTS + "_" + endpoint);
+        }
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to retry");
+            }
+        }
+        return attempt + 1;
+    }
+
+    /**
+     * Failures where no connection was made, so the request was never sent
+     * @param connectFailed True if the call failed while connecting
+     *                      (See {@link NetworkPhaseListener#takeConnectFailure})
+     */
+    static boolean isConnectFailure(@NonNull IOException ioe, boolean connectFailed) {
+        if (ioe instanceof ConnectException || ioe instanceof NoRouteToHostException
+                || ioe instanceof UnknownHostException) {
+            return true;
+        }
+        //Connect timeouts share their type with read timeouts
+        return connectFailed && ioe instanceof SocketTimeoutException;
+    }
+
+    /**
+     * 502 and 504 responses can come back after the server has acted on the request,
+     * so only 503 is retried for non idempotent calls
+     */
+    static boolean isRetryableStatus(int code, boolean idempotent) {
+        if (code == HTTP_SERVICE_UNAVAILABLE) {
+            return true;
+        }
+        return idempotent && (code == HTTP_BAD_GATEWAY || code == HTTP_GATEWAY_TIMEOUT);
+    }
+}
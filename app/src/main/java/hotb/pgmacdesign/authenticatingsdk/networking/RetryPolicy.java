@@ -0,0 +1,62 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import java.util.Random;
+
+/**
+ * How many times a failed call is attempted and how long to wait between attempts.
+ * Delays use exponential backoff with full jitter: before retry n the call waits a random
+ * time between 0 and min(maxDelay, baseDelay * 2^(n - 1)) milliseconds.
+ * Set via {@link AuthenticatingClient#setRetryPolicy(RetryPolicy)} and
+ * {@link AuthenticatingClient#setNonIdempotentRetryPolicy(RetryPolicy)}.
+ */
+public class RetryPolicy {
+
+    /**
+     * Policy for calls that are safe to repeat. Connect failures and 502 / 503 / 504
+     * responses are retried
+     */
+    public static final RetryPolicy DEFAULT = new RetryPolicy(3, 250, 4000);
+    /**
+     * Policy for {@link NonIdempotent} calls. Only connect failures and 503 responses are
+     * retried, as the server has not acted on the request in either case
+     */
+    public static final RetryPolicy NON_IDEMPOTENT_DEFAULT = new RetryPolicy(2, 500, 2000);
+    /**
+     * Never retry
+     */
+    public static final RetryPolicy NONE = new RetryPolicy(1, 0, 0);
+
+    private static final Random RANDOM = new Random();
+
+    final int maxAttempts;
+    final long baseDelayMillis;
+    final long maxDelayMillis;
+
+    /**
+     * @param maxAttempts Total number of attempts including the first, 1 or more
+     * @param baseDelayMillis Upper bound of the delay before the first retry
+     * @param maxDelayMillis Upper bound of any delay
+     */
+    public RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMillis = Math.max(0, baseDelayMillis);
+        this.maxDelayMillis = Math.max(0, maxDelayMillis);
+    }
+
+    /**
+     * Get the delay before a retry
+     * @param retry Retry number, starting at 1
+     * @return Delay in milliseconds
+     */
+    long getDelayMillis(int retry) {
+        long ceiling = baseDelayMillis;
+        for (int i = 1; i < retry && ceiling < maxDelayMillis; i++) {
+            ceiling *= 2;
+        }
+        ceiling = Math.min(ceiling, maxDelayMillis);
+        if (ceiling <= 0) {
+            return 0;
+        }
+        return (long) (RANDOM.nextDouble() * (ceiling + 1));
+    }
+}
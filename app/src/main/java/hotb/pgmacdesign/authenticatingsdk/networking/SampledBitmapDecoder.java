@@ -0,0 +1,85 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Decodes images close to the size they will be uploaded at rather than at full resolution.
+ * The image header is read first (inJustDecodeBounds) so that the sample size can be chosen
+ * from the {@link ImageUploadPolicy} of the endpoint before any pixels are allocated.
+ */
+class SampledBitmapDecoder {
+
+    /**
+     * Decode an image at (or just above) the maximum upload resolution of the policy
+     * @param source {@link ImageSource} to decode
+     * @param policy {@link ImageUploadPolicy} for the endpoint being uploaded to
+     * @param pixelFormat {@link ImagePixelFormat} to decode to. Grayscale images are decoded
+     *                    mutable, the encoder removes their color in place.
+     * @return Bitmap, or null if the image could not be decoded
+     */
+    @Nullable
+    static Bitmap decode(@NonNull ImageSource source, @NonNull ImageUploadPolicy policy,
+                         @NonNull ImagePixelFormat pixelFormat) throws IOException {
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        source.decode(bounds);
+        if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+            return null;
+        }
+        int longEdge = Math.max(bounds.outWidth, bounds.outHeight);
+        int sampleSize = calculateInSampleSize(longEdge, policy.maxLongEdge);
+        while (true) {
+            try {
+                return source.decode(buildOptions(longEdge, sampleSize, policy, pixelFormat));
+            } catch (OutOfMemoryError oom) {
+                //Still too large for the available heap, drop another power of 2
+                if (longEdge / (sampleSize * 2) < policy.minLongEdge) {
+                    throw oom;
+                }
+                sampleSize *= 2;
+            }
+        }
+    }
+
+    /**
+     * Get the largest power of 2 sample size that keeps the decoded long edge at or above the
+     * target. Decoders only honor powers of 2, anything between is handled by density scaling.
+     * @param longEdge Longest side of the full size image, in pixels
+     * @param targetLongEdge Desired longest side, in pixels
+     * @return inSampleSize, 1 or greater
+     */
+    static int calculateInSampleSize(int longEdge, int targetLongEdge) {
+        int sampleSize = 1;
+        while (longEdge / (sampleSize * 2) >= targetLongEdge) {
+            sampleSize *= 2;
+        }
+        return sampleSize;
+    }
+
+    /**
+     * Build the decode options. If the sampled image would still be larger than the policy
+     * allows, inDensity / inTargetDensity are used to scale it down the rest of the way
+     * while decoding.
+     */
+    static BitmapFactory.Options buildOptions(int longEdge, int sampleSize,
+                                              @NonNull ImageUploadPolicy policy,
+                                              @NonNull ImagePixelFormat pixelFormat) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inSampleSize = sampleSize;
+        options.inPreferredConfig = pixelFormat.getConfig();
+        //So that the color can be removed without a copy
+        options.inMutable = (pixelFormat == ImagePixelFormat.LUMINANCE);
+        int sampledLongEdge = longEdge / sampleSize;
+        if (sampledLongEdge > policy.maxLongEdge) {
+            options.inScaled = true;
+            options.inDensity = sampledLongEdge;
+            options.inTargetDensity = policy.maxLongEdge;
+        }
+        return options;
+    }
+}
@@ -0,0 +1,165 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.support.annotation.Nullable;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.security.KeyManagementException;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import javax.net.ssl.HandshakeCompletedEvent;
+import javax.net.ssl.HandshakeCompletedListener;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509TrustManager;
+
+/**
+ * Trust manager and TLS socket factory shared by every {@link RetrofitClient} in the process.
+ * Reading the system KeyStore and initializing an SSLContext is slow and a new SSLContext
+ * starts with an empty session cache (so every connection needs a full handshake), therefore
+ * both are built once, the first time they are needed.
+ */
+class SharedTls {
+
+    /**
+     * Lazy holder, built on first access to {@link #getTrustManager()} or
+     * {@link #getSocketFactory()}. Both are null if the platform TLS setup failed, in which
+     * case OkHttp's own defaults are used.
+     */
+    private static class Holder {
+        static final X509TrustManager TRUST_MANAGER;
+        static final SSLSocketFactory SOCKET_FACTORY;
+
+        static {
+            X509TrustManager trustManager = null;
+            SSLSocketFactory socketFactory = null;
+            try {
+                trustManager = buildTrustManager();
+                SSLContext sslContext = SSLContext.getInstance("TLS");
+                sslContext.init(null, new TrustManager[]{trustManager}, null);
+                SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+                if (sessionContext != null) {
+                    sessionContext.setSessionCacheSize(AuthenticatingConstants.TLS_SESSION_CACHE_SIZE);
+                }
+                socketFactory = new HandshakeCountingSocketFactory(sslContext.getSocketFactory());
+            } catch (KeyManagementException kme) {
+                kme.printStackTrace();
+            } catch (NoSuchAlgorithmException nsa) {
+                nsa.printStackTrace();
+            } catch (KeyStoreException kse) {
+                kse.printStackTrace();
+            } catch (IllegalStateException ise) {
+                ise.printStackTrace();
+            }
+            if (socketFactory == null) {
+                trustManager = null;
+            }
+            TRUST_MANAGER = trustManager;
+            SOCKET_FACTORY = socketFactory;
+        }
+    }
+
+    @Nullable
+    static X509TrustManager getTrustManager() {
+        return Holder.TRUST_MANAGER;
+    }
+
+    @Nullable
+    static SSLSocketFactory getSocketFactory() {
+        return Holder.SOCKET_FACTORY;
+    }
+
+    private static X509TrustManager buildTrustManager() throws NoSuchAlgorithmException,
+            KeyStoreException {
+        TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(
+                TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init((KeyStore) null);
+        TrustManager[] trustManagers = trustManagerFactory.getTrustManagers();
+        if (trustManagers.length != 1 || !(trustManagers[0] instanceof X509TrustManager)) {
+            throw new IllegalStateException("Unexpected default trust managers:"
+                    + Arrays.toString(trustManagers));
+        }
+        return (X509TrustManager) trustManagers[0];
+    }
+
+    /**
+     * Delegating factory that counts full vs resumed handshakes in {@link AuthenticatingMetrics}.
+     * A handshake is counted as resumed when its session was created before the socket was.
+     */
+    private static class HandshakeCountingSocketFactory extends SSLSocketFactory {
+
+        private final SSLSocketFactory delegate;
+
+        HandshakeCountingSocketFactory(SSLSocketFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String[] getDefaultCipherSuites() {
+            return delegate.getDefaultCipherSuites();
+        }
+
+        @Override
+        public String[] getSupportedCipherSuites() {
+            return delegate.getSupportedCipherSuites();
+        }
+
+        @Override
+        public Socket createSocket() throws IOException {
+            return listen(delegate.createSocket());
+        }
+
+        @Override
+        public Socket createSocket(Socket socket, String host, int port,
+                                   boolean autoClose) throws IOException {
+            return listen(delegate.createSocket(socket, host, port, autoClose));
+        }
+
+        @Override
+        public Socket createSocket(String host, int port) throws IOException {
+            return listen(delegate.createSocket(host, port));
+        }
+
+        @Override
+        public Socket createSocket(String host, int port, InetAddress localHost,
+                                   int localPort) throws IOException {
+            return listen(delegate.createSocket(host, port, localHost, localPort));
+        }
+
+        @Override
+        public Socket createSocket(InetAddress host, int port) throws IOException {
+            return listen(delegate.createSocket(host, port));
+        }
+
+        @Override
+        public Socket createSocket(InetAddress address, int port, InetAddress localAddress,
+                                   int localPort) throws IOException {
+            return listen(delegate.createSocket(address, port, localAddress, localPort));
+        }
+
+        private static Socket listen(Socket socket) {
+            if (socket instanceof SSLSocket) {
+                final long createdAt = System.currentTimeMillis();
+                ((SSLSocket) socket).addHandshakeCompletedListener(new HandshakeCompletedListener() {
+                    @Override
+                    public void handshakeCompleted(HandshakeCompletedEvent event) {
+                        if (event.getSession().getCreationTime() < createdAt) {
+                            AuthenticatingMetrics.increment(AuthenticatingMetrics.TLS_HANDSHAKES_RESUMED);
+                        } else {
+                            AuthenticatingMetrics.increment(AuthenticatingMetrics.TLS_HANDSHAKES_FULL);
+                        }
+                    }
+                });
+            }
+            return socket;
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.ByteString;
+import okio.Okio;
+
+/**
+ * When enabled, image uploads are written (spooled) to a cache file once they have been
+ * prepared. Every send attempt, including okhttp's own retries, then streams the body from that
+ * file instead of decoding and compressing the images again, and the encoded images are not
+ * held on the heap between attempts. The file is deleted once the server has responded. If a
+ * call fails (or the process dies) before that, the upload can be sent again without the images
+ * via {@link AuthenticatingAPICalls#resumePendingUploads}.
+ * Spooling is off by default. NOTE! A spool file holds the encoded ID / passport / selfie
+ * images and the accessCode in plain text. Files of uploads that never completed stay on disk
+ * for up to 24 hours (See {@link #MAX_AGE_MILLIS}), or until {@link #clear()} is called.
+ * By default files are written to a folder within java.io.tmpdir (the app's cache directory).
+ */
+public class UploadSpool {
+
+    private static final String FOLDER_NAME = "authenticating_uploads";
+    private static final String FILE_EXTENSION = ".json";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    /**
+     * Spooled uploads older than this are considered abandoned and are deleted
+     */
+    static final long MAX_AGE_MILLIS = 24L * 60 * 60 * 1000;
+    private static final int COPY_BUFFER_SIZE = 8192;
+    private static final MediaType MEDIA_TYPE_JSON = MediaType.parse("application/json; charset=UTF-8");
+
+    private static final Object LOCK = new Object();
+    private static File directory;
+    private static boolean enabled = false;
+    /**
+     * Spool files with a call in progress, these are not handed out by {@link #getPending}
+     */
+    private static final Set<File> IN_FLIGHT = new HashSet<>();
+
+    /**
+     * Set the directory uploads are spooled to. IE, context.getCacheDir()
+     * @param dir Directory, or null to use the default within java.io.tmpdir
+     */
+    public static void setDirectory(@Nullable File dir) {
+        synchronized (LOCK) {
+            directory = dir;
+        }
+    }
+
+    /**
+     * Enable or disable spooling. When disabled, images are compressed while being written
+     * to the network and cannot be resumed. Defaults to false.
+     * See the class documentation for what is written to disk and for how long.
+     */
+    public static void setEnabled(boolean shouldSpool) {
+        synchronized (LOCK) {
+            enabled = shouldSpool;
+        }
+    }
+
+    public static boolean isEnabled() {
+        synchronized (LOCK) {
+            return enabled;
+        }
+    }
+
+    /**
+     * Delete every spooled upload that does not have a call in progress. IE, when the user
+     * logs out or the verification is abandoned.
+     */
+    public static void clear() {
+        File dir = getDirectory();
+        if (dir == null) {
+            return;
+        }
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        synchronized (LOCK) {
+            for (File file : files) {
+                //Temp files are still being written, they are removed by the expiry
+                if (!IN_FLIGHT.contains(file) && !file.getName().endsWith(TEMP_FILE_EXTENSION)) {
+                    file.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Write a prepared body to its spool file. The body can be released once this returns.
+     * @param body Body to write. The accessCode must already be set on it.
+     * @param endpoint Name of the upload endpoint, used with the accessCode to name the file.
+     *                 It cannot contain an underscore.
+     * @param accessCode The identifier String given to a user
+     * @return {@link SpooledRequestBody}, or null if spooling is disabled or the file could
+     *         not be written (the original body should then be sent as is)
+     */
+    @Nullable
+    static SpooledRequestBody spool(@NonNull RequestBody body, @NonNull String endpoint,
+                                    @NonNull String accessCode) {
+        if (!isEnabled()) {
+            return null;
+        }
+        File dir = getDirectory();
+        if (dir == null) {
+            return null;
+        }
+        deleteExpired(dir);
+        String fileName = buildFileName(endpoint, accessCode);
+        File temp = new File(dir, fileName + TEMP_FILE_EXTENSION);
+        File file = new File(dir, fileName);
+        BufferedSink sink = null;
+        try {
+            sink = Okio.buffer(Okio.sink(temp));
+            body.writeTo(sink);
+            sink.close();
+            sink = null;
+            //Only complete files are ever visible for resuming
+            synchronized (LOCK) {
+                if (!temp.renameTo(file)) {
+                    throw new IOException("Could not rename " + temp.getName());
+                }
+                IN_FLIGHT.add(file);
+            }
+            return new SpooledRequestBody(file, endpoint);
+        } catch (IOException ioe) {
+            ioe.printStackTrace();
+            temp.delete();
+            return null;
+        } finally {
+            if (sink != null) {
+                try {
+                    sink.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Delete the uploads spooled for an accessCode to an endpoint that never completed and do
+     * not have a call in progress. Called when a new upload to that endpoint starts, as it
+     * replaces them, so that they are not sent again by
+     * {@link AuthenticatingAPICalls#resumePendingUploads} as well. Runs whether or not
+     * spooling is enabled, files may be left from when it was.
+     * @param endpoint Name of the upload endpoint
+     * @param accessCode The identifier String given to a user
+     */
+    static void discardPending(@NonNull String endpoint, @NonNull String accessCode) {
+        File dir = getDirectoryFile();
+        if (dir == null || !dir.isDirectory()) {
+            return;
+        }
+        String prefix = endpoint + "_";
+        String suffix = "_" + hashAccessCode(accessCode) + FILE_EXTENSION;
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        synchronized (LOCK) {
+            for (File file : files) {
+                String name = file.getName();
+                if (name.startsWith(prefix) && name.endsWith(suffix)
+                        && !IN_FLIGHT.contains(file)) {
+                    file.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Get all of the uploads that were spooled for an accessCode but never completed. Uploads
+     * with a call in progress (including ones already returned here) are left out.
+     * Call {@link SpooledRequestBody#release(boolean)} on each once its call has finished.
+     * @param accessCode The identifier String given to a user
+     * @return List of bodies, empty if there are none
+     */
+    @NonNull
+    static List<SpooledRequestBody> getPending(@NonNull String accessCode) {
+        List<SpooledRequestBody> pending = new ArrayList<>();
+        File dir = getDirectory();
+        if (dir == null) {
+            return pending;
+        }
+        deleteExpired(dir);
+        String suffix = "_" + hashAccessCode(accessCode) + FILE_EXTENSION;
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return pending;
+        }
+        synchronized (LOCK) {
+            for (File file : files) {
+                String name = file.getName();
+                int endpointEnd = name.indexOf('_');
+                if (!name.endsWith(suffix) || endpointEnd <= 0 || IN_FLIGHT.contains(file)) {
+                    continue;
+                }
+                IN_FLIGHT.add(file);
+                pending.add(new SpooledRequestBody(file, name.substring(0, endpointEnd)));
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Get the spool directory, creating it if needed
+     */
+    @Nullable
+    private static File getDirectory() {
+        File dir = getDirectoryFile();
+        if (dir == null || (!dir.isDirectory() && !dir.mkdirs())) {
+            return null;
+        }
+        return dir;
+    }
+
+    /**
+     * Get the spool directory, which may not exist yet
+     */
+    @Nullable
+    private static File getDirectoryFile() {
+        File dir;
+        synchronized (LOCK) {
+            dir = directory;
+        }
+        if (dir == null) {
+            String tmpDir = System.getProperty("java.io.tmpdir");
+            if (StringUtilities.isNullOrEmpty(tmpDir)) {
+                return null;
+            }
+            dir = new File(tmpDir, FOLDER_NAME);
+        }
+        return dir;
+    }
+
+    private static void deleteExpired(@NonNull File dir) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - MAX_AGE_MILLIS;
+        synchronized (LOCK) {
+            for (File file : files) {
+                if (file.lastModified() < cutoff && !IN_FLIGHT.contains(file)) {
+                    file.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * endpoint_attemptId_hash.json, unique per upload so that concurrent uploads to the same
+     * endpoint (IE a double tap) never share a file
+     */
+    private static String buildFileName(@NonNull String endpoint, @NonNull String accessCode) {
+        return endpoint + "_" + UUID.randomUUID().toString() + "_"
+                + hashAccessCode(accessCode) + FILE_EXTENSION;
+    }
+
+    /**
+     * The accessCode is hashed so that it is not written out in the file name
+     */
+    private static String hashAccessCode(@NonNull String accessCode) {
+        return ByteString.encodeUtf8(accessCode).md5().hex();
+    }
+
+    /**
+     * Request body backed by a spooled upload file. Each write maps the file and streams it
+     * into the sink, so it can be written any number of times.
+     */
+    static class SpooledRequestBody extends RequestBody {
+
+        private final File file;
+        private final String endpoint;
+
+        private SpooledRequestBody(@NonNull File file, @NonNull String endpoint) {
+            this.file = file;
+            this.endpoint = endpoint;
+        }
+
+        /**
+         * @return Name of the upload endpoint this body is for
+         */
+        String getEndpoint() {
+            return endpoint;
+        }
+
+        /**
+         * Release the spool file once the call sending it has finished
+         * @param responded True if the server responded, the file is then deleted. Otherwise
+         *                  it is kept and handed out by {@link #getPending} again.
+         */
+        void release(boolean responded) {
+            synchronized (LOCK) {
+                if (responded) {
+                    file.delete();
+                }
+                IN_FLIGHT.remove(file);
+            }
+        }
+
+        @Override
+        public MediaType contentType() {
+            return MEDIA_TYPE_JSON;
+        }
+
+        @Override
+        public long contentLength() {
+            return file.length();
+        }
+
+        @Override
+        public void writeTo(@NonNull BufferedSink sink) throws IOException {
+            RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+            try {
+                FileChannel channel = randomAccessFile.getChannel();
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                byte[] buffer = new byte[COPY_BUFFER_SIZE];
+                while (mapped.hasRemaining()) {
+                    int count = Math.min(buffer.length, mapped.remaining());
+                    mapped.get(buffer, 0, count);
+                    sink.write(buffer, 0, count);
+                }
+            } finally {
+                randomAccessFile.close();
+            }
+        }
+    }
+}
@@ -7,8 +7,7 @@ package hotb.pgmacdesign.authenticatingsdk.networking;
 
 public class WebCallsLogging {
 
-    protected static boolean LOG_JSON_DATA;
-    protected static boolean USER_CHANGED_LOGGING;
+    protected static volatile boolean LOG_JSON_DATA;
 
     private static WebCallsLogging instance = null;
 
@@ -31,15 +30,11 @@ public class WebCallsLogging {
     public static boolean setJsonLogging(boolean setLogging) {
         instance = getInstance();
         LOG_JSON_DATA = setLogging;
-        USER_CHANGED_LOGGING = true;
+        AuthenticatingClient.updateLogLevel();
         return setLogging;
     }
 
     public static boolean isJsonLogging(){
         return LOG_JSON_DATA;
     }
-
-    static boolean didUserChangeLogging(){
-        return USER_CHANGED_LOGGING;
-    }
 }
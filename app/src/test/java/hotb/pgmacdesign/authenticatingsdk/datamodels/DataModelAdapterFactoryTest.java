@@ -0,0 +1,234 @@
+package hotb.pgmacdesign.authenticatingsdk.datamodels;
+
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+import org.junit.Test;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the hand written adapters in {@link DataModelAdapterFactory} against Gson's own
+ * reflection based ones. Models are filled in by reflection, so a field added to a model
+ * without being added to its adapter fails here.
+ */
+public class DataModelAdapterFactoryTest {
+
+    /**
+     * Every model the factory has an adapter for. Add new models here.
+     */
+    private static final Class<?>[] MODELS = {
+            TopLevelObj.class,
+            SimpleResponse.class,
+            AvailableNetworks.class,
+            CheckPhotoResults.class,
+            Company.class,
+            PhoneVerification.class,
+            User.class,
+            QuizObject.class,
+            QuizObject.QuizQuestion.class,
+            QuizObject.Choice.class,
+            VerifyQuizObj.class,
+            VerifyQuizObj.Answer.class,
+            SocialNetworkObj.class,
+            UploadPhotosObj.class,
+            AuthenticatingException.class,
+            ServiceUnavailableException.class
+    };
+
+    /**
+     * Gson's reflective adapters. The fields of Throwable (stack trace etc) are not part of
+     * the exception models.
+     */
+    private final Gson reflectiveGson = new GsonBuilder()
+            .setExclusionStrategies(new ExclusionStrategy() {
+                @Override
+                public boolean shouldSkipField(FieldAttributes f) {
+                    return f.getDeclaringClass() == Throwable.class;
+                }
+
+                @Override
+                public boolean shouldSkipClass(Class<?> clazz) {
+                    return false;
+                }
+            })
+            .create();
+
+    private final Gson factoryGson = new GsonBuilder()
+            .registerTypeAdapterFactory(new DataModelAdapterFactory())
+            .create();
+
+    private int sampleCounter;
+
+    @Test
+    public void hasAdapterForEveryModel() {
+        DataModelAdapterFactory factory = new DataModelAdapterFactory();
+        for (Class<?> model : MODELS) {
+            assertNotNull(model.getName(), factory.create(factoryGson,
+                    TypeToken.get(model)));
+        }
+    }
+
+    @Test
+    public void doesNotHandleOtherTypes() {
+        DataModelAdapterFactory factory = new DataModelAdapterFactory();
+        assertNull(factory.create(factoryGson, TypeToken.get(String.class)));
+        assertNull(factory.create(factoryGson, TypeToken.get(Object.class)));
+    }
+
+    @Test
+    public void writesFilledModelsLikeReflectiveGson() throws Exception {
+        for (Class<?> model : MODELS) {
+            Object value = newFilledInstance(model);
+            assertEquals(model.getName(), reflectiveGson.toJson(value), factoryGson.toJson(value));
+        }
+    }
+
+    @Test
+    public void writesEmptyModelsLikeReflectiveGson() throws Exception {
+        for (Class<?> model : MODELS) {
+            Object value = newInstance(model);
+            assertEquals(model.getName(), reflectiveGson.toJson(value), factoryGson.toJson(value));
+        }
+    }
+
+    @Test
+    public void readsFilledModelsLikeReflectiveGson() throws Exception {
+        for (Class<?> model : MODELS) {
+            String json = reflectiveGson.toJson(newFilledInstance(model));
+            //Compared through the reflective adapter so that reading is checked on its own
+            assertEquals(model.getName(),
+                    reflectiveGson.toJson(reflectiveGson.fromJson(json, model)),
+                    reflectiveGson.toJson(factoryGson.fromJson(json, model)));
+        }
+    }
+
+    @Test
+    public void readsEmptyModelsLikeReflectiveGson() throws Exception {
+        for (Class<?> model : MODELS) {
+            assertEquals(model.getName(),
+                    reflectiveGson.toJson(reflectiveGson.fromJson("{}", model)),
+                    reflectiveGson.toJson(factoryGson.fromJson("{}", model)));
+        }
+    }
+
+    @Test
+    public void writesMissingAvailableNetworksAsAbsent() {
+        AvailableNetworks availableNetworks = new AvailableNetworks();
+        availableNetworks.setSuccessful(true);
+        assertEquals("{\"successful\":true}", factoryGson.toJson(availableNetworks));
+    }
+
+    @Test
+    public void skipsUnknownFields() {
+        String json = "{\"unknown\":{\"nested\":[1,{\"a\":null}]},\"resultMessage\":\"done\","
+                + "\"other\":[true],\"successful\":true}";
+        SimpleResponse simpleResponse = factoryGson.fromJson(json, SimpleResponse.class);
+        assertEquals("done", simpleResponse.getResultMessage());
+        assertTrue(simpleResponse.getSuccessful());
+    }
+
+    @Test
+    public void readsValuesAsLenientlyAsReflectiveGson() {
+        String json = "{\"day\":\"3\",\"zipcode\":12345,\"firstName\":true,"
+                + "\"successful\":\"false\",\"errorMessage\":null}";
+        assertEquals(reflectiveGson.toJson(reflectiveGson.fromJson(json, User.class)),
+                reflectiveGson.toJson(factoryGson.fromJson(json, User.class)));
+    }
+
+    @Test
+    public void keepsMissingSuccessfulFlagMissing() {
+        TopLevelObj topLevelObj = factoryGson.fromJson("{\"errorMessage\":\"bad\"}", TopLevelObj.class);
+        assertNull(topLevelObj.getSuccessfulValue());
+        assertTrue(topLevelObj.isErrorResponse());
+        assertFalse(factoryGson.toJson(topLevelObj).contains("successful"));
+    }
+
+    @Test
+    public void readsNullModel() {
+        assertNull(factoryGson.fromJson("null", User.class));
+        assertEquals("null", factoryGson.toJson(null, User.class));
+    }
+
+    ////////////////////////
+    //Filling in of models//
+    ////////////////////////
+
+    private static Object newInstance(Class<?> model) throws Exception {
+        return model.getDeclaredConstructor().newInstance();
+    }
+
+    /**
+     * Create a model with every field (including inherited ones) set to a distinct value
+     */
+    private Object newFilledInstance(Class<?> model) throws Exception {
+        Object value = newInstance(model);
+        for (Class<?> type = model; type != Object.class && type != Throwable.class;
+             type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                field.setAccessible(true);
+                field.set(value, sampleValue(field.getGenericType()));
+            }
+        }
+        return value;
+    }
+
+    private Object sampleValue(Type type) throws Exception {
+        int sample = ++sampleCounter;
+        if (type == String.class) {
+            return "value" + sample;
+        }
+        if (type == Integer.class || type == int.class) {
+            return sample;
+        }
+        if (type == Long.class || type == long.class) {
+            return 1000000000000L + sample;
+        }
+        if (type == Float.class || type == float.class) {
+            return sample + 0.5F;
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            //Not the default of either getSuccessful() or a primitive
+            return (sample % 2 == 0);
+        }
+        if (type instanceof ParameterizedType
+                && ((ParameterizedType) type).getRawType() == List.class) {
+            Type elementType = ((ParameterizedType) type).getActualTypeArguments()[0];
+            List<Object> list = new ArrayList<>();
+            list.add(sampleValue(elementType));
+            list.add(sampleValue(elementType));
+            return list;
+        }
+        if (type instanceof Class && ((Class<?>) type).isArray()) {
+            Class<?> componentType = ((Class<?>) type).getComponentType();
+            Object array = Array.newInstance(componentType, 2);
+            Array.set(array, 0, sampleValue(componentType));
+            Array.set(array, 1, sampleValue(componentType));
+            return array;
+        }
+        if (type instanceof Class && ((Class<?>) type).getPackage()
+                == DataModelAdapterFactory.class.getPackage()) {
+            return newFilledInstance((Class<?>) type);
+        }
+        throw new IllegalArgumentException("No sample value for " + type
+                + ", add one to the test");
+    }
+}
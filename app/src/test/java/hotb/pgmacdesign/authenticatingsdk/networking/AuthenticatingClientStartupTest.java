@@ -0,0 +1,48 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Startup cost of the SDK: loading it must not build the network client, and
+ * {@link AuthenticatingClient#warmUp()} must build it without blocking the calling thread.
+ * Both are checked in one test as the client, once built, is kept for the rest of the run.
+ */
+public class AuthenticatingClientStartupTest {
+
+    private static final long BUILD_TIMEOUT_MILLIS = 30000;
+
+    @Test
+    public void loadingBuildsNoClientAndWarmUpBuildsItInTheBackground() throws Exception {
+        assertFalse("Client built before the test", AuthenticatingClient.isBuilt());
+
+        //What an app does on startup when it touches the SDK
+        Class.forName(AuthenticatingAPICalls.class.getName(), true,
+                AuthenticatingClientStartupTest.class.getClassLoader());
+        assertFalse("Loading the SDK built the client", AuthenticatingClient.isBuilt());
+
+        long buildNanos;
+        synchronized (AuthenticatingClient.LOCK) {
+            //While this is held the client can only be built on this thread (the lock is
+            //reentrant), so warmUp() must return without it
+            long startTime = System.nanoTime();
+            AuthenticatingClient.warmUp();
+            long warmUpNanos = System.nanoTime() - startTime;
+            assertFalse("warmUp() built the client on the calling thread",
+                    AuthenticatingClient.isBuilt());
+            System.out.println(String.format("warmUp() returned after %.2f ms",
+                    warmUpNanos / 1000000.0));
+            buildNanos = System.nanoTime();
+        }
+
+        long deadline = System.currentTimeMillis() + BUILD_TIMEOUT_MILLIS;
+        while (!AuthenticatingClient.isBuilt() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue("Client not built in the background", AuthenticatingClient.isBuilt());
+        System.out.println(String.format("Client built in the background after %.2f ms",
+                (System.nanoTime() - buildNanos) / 1000000.0));
+    }
+}
@@ -0,0 +1,129 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Base64Validator}. Vectors are from RFC 4648.
+ */
+public class Base64ValidatorTest {
+
+    private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+    /**
+     * "foo" 30 times, 120 characters
+     */
+    private static final String LONG_BASE64 = repeat("Zm9v", 30);
+
+    @Test
+    public void acceptsValidInput() {
+        assertTrue(Base64Validator.isValid("Zg=="));
+        assertTrue(Base64Validator.isValid("Zm8="));
+        assertTrue(Base64Validator.isValid("Zm9v"));
+        assertTrue(Base64Validator.isValid("Zm9vYmFy"));
+        assertTrue(Base64Validator.isValid("+/+/"));
+        assertTrue(Base64Validator.isValid(LONG_BASE64));
+    }
+
+    @Test
+    public void reportsDecodedLength() {
+        assertEquals(1, decodedLength("Zg=="));
+        assertEquals(2, decodedLength("Zm8="));
+        assertEquals(3, decodedLength("Zm9v"));
+        assertEquals(4, decodedLength("Zm9vYg=="));
+        assertEquals(5, decodedLength("Zm9vYmE="));
+        assertEquals(6, decodedLength("Zm9vYmFy"));
+        assertEquals(90, decodedLength(LONG_BASE64));
+    }
+
+    @Test
+    public void rejectsBadPadding() {
+        //Too much padding
+        assertFalse(Base64Validator.isValid("Z==="));
+        assertFalse(Base64Validator.isValid("===="));
+        //Data after padding
+        assertFalse(Base64Validator.isValid("Zg=a"));
+        assertFalse(Base64Validator.isValid("Zg==Zm9v"));
+        //Padding in the middle
+        assertFalse(Base64Validator.isValid("Z=g="));
+    }
+
+    @Test
+    public void rejectsBadLength() {
+        assertFalse(Base64Validator.isValid(""));
+        assertFalse(Base64Validator.isValid("Z"));
+        assertFalse(Base64Validator.isValid("Zg"));
+        assertFalse(Base64Validator.isValid("Zg="));
+        assertFalse(Base64Validator.isValid("Zm9vY"));
+        assertFalse(Base64Validator.isValid("\n"));
+    }
+
+    @Test
+    public void rejectsCharactersOutsideTheAlphabet() {
+        assertFalse(Base64Validator.isValid("Zm9v Zm9v"));
+        assertFalse(Base64Validator.isValid("Zm9v\tZm9v"));
+        //URL safe alphabet
+        assertFalse(Base64Validator.isValid("-_-_"));
+        assertFalse(Base64Validator.isValid("Zm9\u00e9"));
+        assertFalse(Base64Validator.isValid("data:image/jpeg;base64,Zm9v"));
+    }
+
+    @Test
+    public void skipsLineBreaksFromDefaultFlags() {
+        //Base64.DEFAULT breaks lines every 76 characters and ends with a line break
+        String wrapped = LONG_BASE64.substring(0, 76) + "\n" + LONG_BASE64.substring(76) + "\n";
+        assertTrue(Base64Validator.isValid(wrapped));
+        assertEquals(90, decodedLength(wrapped));
+
+        //Base64.CRLF
+        String crlf = LONG_BASE64.substring(0, 76) + "\r\n" + LONG_BASE64.substring(76) + "\r\n";
+        assertTrue(Base64Validator.isValid(crlf));
+        assertEquals(90, decodedLength(crlf));
+
+        //A line break can fall between the data and the padding
+        assertEquals(1, decodedLength("Zg\n=="));
+        assertEquals(1, decodedLength("Zg=\r\n="));
+    }
+
+    @Test
+    public void checksOnlyTheGivenRange() {
+        String text = "<Zm9vYmFy>";
+        assertEquals(6, Base64Validator.decodedLength(text, 1, text.length() - 1));
+        assertEquals(Base64Validator.INVALID,
+                Base64Validator.decodedLength(text, 0, text.length()));
+    }
+
+    @Test
+    public void validatesBytesLikeCharacters() {
+        String[] inputs = {"Zg==", "Zm8=", "Zm9vYmFy", "Zg=a", "Z===", "Zm9vY", "Zm9v\nZm9v\n",
+                "Zm9v Zm9v", ""};
+        for (String input : inputs) {
+            byte[] bytes = input.getBytes(US_ASCII);
+            assertEquals(input, decodedLength(input),
+                    Base64Validator.decodedLength(bytes, 0, bytes.length));
+        }
+        //Negative (non ASCII) bytes
+        assertEquals(Base64Validator.INVALID,
+                Base64Validator.decodedLength(new byte[]{'Z', 'm', '9', (byte) 0xC3}, 0, 4));
+        //Offset and length
+        byte[] bytes = "<Zm9v>".getBytes(US_ASCII);
+        assertEquals(3, Base64Validator.decodedLength(bytes, 1, 4));
+    }
+
+    private static long decodedLength(String base64) {
+        return Base64Validator.decodedLength(base64, 0, base64.length());
+    }
+
+    private static String repeat(String value, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,81 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import com.google.gson.Gson;
+
+import org.junit.Test;
+
+import hotb.pgmacdesign.authenticatingsdk.datamodels.User;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Microbenchmark of the per response parse cost: a new {@link Gson} per parse (as the SDK did
+ * before {@link GsonProvider}) against the shared instance. Prints the cost of each.
+ */
+public class GsonProviderBenchmarkTest {
+
+    private static final int ROUNDS = 5;
+    private static final int PARSES_PER_ROUND = 2000;
+
+    /**
+     * A getUser response
+     */
+    private static final String USER_JSON = "{\"email\":\"someone@example.com\","
+            + "\"phone\":\"5555555555\",\"companyId\":\"123\",\"userId\":\"456\","
+            + "\"accessCode\":\"abcdef\",\"accessKeyExpirationDate\":\"2018-01-01T00:00:00Z\","
+            + "\"firstName\":\"First\",\"lastName\":\"Last\",\"country\":\"US\","
+            + "\"year\":1980,\"month\":1,\"day\":2,\"address\":\"1 Street\",\"city\":\"City\","
+            + "\"state\":\"CA\",\"zipcode\":\"90000\",\"buildingNumber\":\"1\","
+            + "\"province\":\"P\",\"street\":\"Street\",\"successful\":true}";
+
+    @Test
+    public void sharedInstanceParsesFasterThanNewInstancePerParse() {
+        //Build the shared instance (a one-off cost) and let the JIT settle before timing
+        assertEquals("First", GsonProvider.get().fromJson(USER_JSON, User.class).getFirstName());
+        parseWithNewGson(PARSES_PER_ROUND);
+        parseWithSharedGson(PARSES_PER_ROUND);
+
+        long bestNewNanos = Long.MAX_VALUE;
+        long bestSharedNanos = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            bestNewNanos = Math.min(bestNewNanos, parseWithNewGson(PARSES_PER_ROUND));
+            bestSharedNanos = Math.min(bestSharedNanos, parseWithSharedGson(PARSES_PER_ROUND));
+        }
+        System.out.println(String.format(
+                "Per parse: new Gson %.2f us, shared Gson %.2f us (%.1fx)",
+                bestNewNanos / 1000.0 / PARSES_PER_ROUND,
+                bestSharedNanos / 1000.0 / PARSES_PER_ROUND,
+                (double) bestNewNanos / bestSharedNanos));
+        assertTrue(bestSharedNanos < bestNewNanos);
+    }
+
+    /**
+     * @return Nanoseconds taken
+     */
+    private static long parseWithNewGson(int parses) {
+        long startTime = System.nanoTime();
+        for (int i = 0; i < parses; i++) {
+            User user = new Gson().fromJson(USER_JSON, User.class);
+            if (user == null) {
+                throw new AssertionError();
+            }
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * @return Nanoseconds taken
+     */
+    private static long parseWithSharedGson(int parses) {
+        Gson gson = GsonProvider.get();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < parses; i++) {
+            User user = gson.fromJson(USER_JSON, User.class);
+            if (user == null) {
+                throw new AssertionError();
+            }
+        }
+        return System.nanoTime() - startTime;
+    }
+}
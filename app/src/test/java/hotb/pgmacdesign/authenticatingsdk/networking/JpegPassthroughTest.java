@@ -0,0 +1,153 @@
+package hotb.pgmacdesign.authenticatingsdk.networking;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for the JPEG segment parsing in {@link JpegPassthrough#checkSegments(byte[], boolean)}
+ */
+public class JpegPassthroughTest {
+
+    private static final byte[] SOI = bytes(0xFF, 0xD8);
+    private static final byte[] EOI = bytes(0xFF, 0xD9);
+    private static final byte[] APP0_JFIF = segment(0xE0, 'J', 'F', 'I', 'F', 0, 1, 1, 0, 0, 1, 0, 1, 0, 0);
+    private static final byte[] APP1_EXIF = segment(0xE1, 'E', 'x', 'i', 'f', 0, 0,
+            //Embedded thumbnail, its end of image marker must not end the parsing
+            0xFF, 0xD8, 0xFF, 0xD9);
+    private static final byte[] APP13_PHOTOSHOP = segment(0xED, 'P', 'h', 'o', 't', 'o', 's', 'h', 'o', 'p');
+    private static final byte[] COM = segment(0xFE, 'h', 'i');
+    private static final byte[] DQT = segment(0xDB, 0, 1, 2, 3, 4);
+    private static final byte[] SOF0 = segment(0xC0, 8, 0, 1, 0, 1, 1, 1, 0x11, 0);
+    private static final byte[] DHT = segment(0xC4, 0, 1, 0, 0, 0);
+    private static final byte[] SOS = segment(0xDA, 1, 1, 0, 0, 0x3F, 0);
+    /**
+     * Image data with a stuffed 0xFF (0xFF 0x00) and restart markers, none of which are segments
+     */
+    private static final byte[] SCAN_DATA = bytes(0x12, 0xFF, 0x00, 0x34, 0xFF, 0xD0, 0x56,
+            0xFF, 0xD7, 0x78, 0xFF, 0xE1, 0x00);
+
+    @Test
+    public void removesMetadataSegments() {
+        byte[] jpeg = concat(SOI, APP0_JFIF, APP1_EXIF, APP13_PHOTOSHOP, COM, DQT, SOF0, DHT,
+                SOS, SCAN_DATA, EOI);
+        assertArrayEquals(concat(SOI, APP0_JFIF, DQT, SOF0, DHT, SOS, SCAN_DATA, EOI),
+                JpegPassthrough.checkSegments(jpeg, true));
+    }
+
+    @Test
+    public void keepsEverythingWhenNotStripping() {
+        byte[] jpeg = concat(SOI, APP0_JFIF, APP1_EXIF, COM, DQT, SOF0, SOS, SCAN_DATA, EOI);
+        assertSame(jpeg, JpegPassthrough.checkSegments(jpeg, false));
+    }
+
+    @Test
+    public void handlesFillBytesBeforeMarkers() {
+        byte[] jpeg = concat(SOI, bytes(0xFF, 0xFF), APP1_EXIF, bytes(0xFF), DQT,
+                bytes(0xFF, 0xFF, 0xFF), COM, SOF0, bytes(0xFF), SOS, SCAN_DATA, EOI);
+        //Fill bytes go with the segment they precede
+        assertArrayEquals(concat(SOI, bytes(0xFF), DQT, SOF0, bytes(0xFF), SOS, SCAN_DATA, EOI),
+                JpegPassthrough.checkSegments(jpeg, true));
+    }
+
+    @Test
+    public void keepsMarkersWithoutLength() {
+        byte[] tem = bytes(0xFF, 0x01);
+        byte[] rst = bytes(0xFF, 0xD3);
+        byte[] jpeg = concat(SOI, tem, APP1_EXIF, rst, DQT, SOF0, SOS, SCAN_DATA, EOI);
+        assertArrayEquals(concat(SOI, tem, rst, DQT, SOF0, SOS, SCAN_DATA, EOI),
+                JpegPassthrough.checkSegments(jpeg, true));
+    }
+
+    @Test
+    public void copiesDataAfterStartOfScanAsIs() {
+        //Looks like metadata segments, but is image data
+        byte[] scanData = concat(COM, APP1_EXIF, SCAN_DATA);
+        byte[] jpeg = concat(SOI, APP1_EXIF, DQT, SOF0, SOS, scanData, EOI);
+        assertArrayEquals(concat(SOI, DQT, SOF0, SOS, scanData, EOI),
+                JpegPassthrough.checkSegments(jpeg, true));
+    }
+
+    @Test
+    public void allowsDataAfterEndOfImage() {
+        byte[] padding = new byte[16];
+        byte[] jpeg = concat(SOI, COM, DQT, SOF0, SOS, SCAN_DATA, EOI, padding);
+        assertArrayEquals(concat(SOI, DQT, SOF0, SOS, SCAN_DATA, EOI, padding),
+                JpegPassthrough.checkSegments(jpeg, true));
+    }
+
+    @Test
+    public void rejectsTruncatedImageData() {
+        byte[] jpeg = concat(SOI, APP1_EXIF, DQT, SOF0, SOS, SCAN_DATA, EOI);
+        //Every cut short of the end of image marker
+        for (int length = 0; length < jpeg.length - 1; length++) {
+            byte[] truncated = Arrays.copyOf(jpeg, length);
+            assertNull("Length " + length, JpegPassthrough.checkSegments(truncated, true));
+            assertNull("Length " + length, JpegPassthrough.checkSegments(truncated, false));
+        }
+    }
+
+    @Test
+    public void rejectsSegmentLengthPastTheEnd() {
+        byte[] jpeg = concat(SOI, bytes(0xFF, 0xE1, 0x7F, 0xFF, 1, 2), SOS, SCAN_DATA, EOI);
+        assertNull(JpegPassthrough.checkSegments(jpeg, true));
+        assertNull(JpegPassthrough.checkSegments(jpeg, false));
+    }
+
+    @Test
+    public void rejectsSegmentLengthBelowTwo() {
+        byte[] jpeg = concat(SOI, bytes(0xFF, 0xE1, 0x00, 0x01), SOS, SCAN_DATA, EOI);
+        assertNull(JpegPassthrough.checkSegments(jpeg, true));
+    }
+
+    @Test
+    public void rejectsDataBetweenSegments() {
+        byte[] jpeg = concat(SOI, DQT, bytes(0x00), SOF0, SOS, SCAN_DATA, EOI);
+        assertNull(JpegPassthrough.checkSegments(jpeg, true));
+    }
+
+    @Test
+    public void rejectsMissingStartOfImage() {
+        byte[] jpeg = concat(APP0_JFIF, DQT, SOF0, SOS, SCAN_DATA, EOI);
+        assertNull(JpegPassthrough.checkSegments(jpeg, false));
+    }
+
+    @Test
+    public void rejectsMissingStartOfScan() {
+        byte[] jpeg = concat(SOI, APP0_JFIF, DQT, SOF0, EOI);
+        assertNull(JpegPassthrough.checkSegments(jpeg, true));
+    }
+
+    /////////////////////
+    //Building of JPEGs//
+    /////////////////////
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+
+    /**
+     * Marker, two byte length (which counts itself) and payload
+     */
+    private static byte[] segment(int marker, int... payload) {
+        int length = payload.length + 2;
+        return concat(bytes(0xFF, marker, length >> 8, length & 0xFF), bytes(payload));
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            outputStream.write(part, 0, part.length);
+        }
+        return outputStream.toByteArray();
+    }
+}